@@ -0,0 +1,83 @@
+package xyz.rk0cc.josev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.advisory.SemVerAdvisory;
+import xyz.rk0cc.josev.advisory.SemVerAdvisoryJoin;
+import xyz.rk0cc.josev.advisory.SemVerInstallation;
+import xyz.rk0cc.josev.collections.SemVerMultipleRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link SemVerAdvisoryJoin} against nested loop of {@link SemVerMultipleRange#isInRange(SemVer)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class SemVerAdvisoryJoinBenchmark {
+    /**
+     * Advisory which affects version when any range matched.
+     */
+    static final class AnyRange extends SemVerMultipleRange<SemVerRange> {
+        AnyRange(HashSet<SemVerRange> ranges) {
+            super(ranges);
+        }
+
+        @Override
+        public boolean isInRange(@Nonnull SemVer semVer) {
+            return stream().anyMatch(r -> r.isInRange(semVer));
+        }
+    }
+
+    private static final int PACKAGES = 50;
+
+    private List<SemVerAdvisory> advisories;
+    private List<SemVerInstallation> installations;
+
+    @Setup
+    public void setup() {
+        final String[] versions = SemVerCorpus.synthetic(20_000, 48L);
+        installations = new ArrayList<>(versions.length);
+        for (int i = 0; i < versions.length; i++)
+            installations.add(new SemVerInstallation("pkg-" + i % PACKAGES, SemVer.tryParse(versions[i])));
+
+        // Advisories with two ranges which affect a few minor releases.
+        final List<String> carets = SemVerCorpus.caretConstraints(200_000);
+        advisories = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final HashSet<SemVerRange> ranges = new HashSet<>();
+            ranges.add(SampleConstraint.parse(carets.get((i * 7919) % carets.size())));
+            ranges.add(SampleConstraint.parse(">=" + (i % 30) + "." + (i % 50) + ".0 <" + (i % 30) + ".49.0"));
+            advisories.add(new SemVerAdvisory("ADV-" + i, "pkg-" + i % PACKAGES, new AnyRange(ranges)));
+        }
+    }
+
+    @Benchmark
+    public long nestedLoop() {
+        long matched = 0;
+        for (SemVerAdvisory a : advisories)
+            for (SemVerInstallation i : installations)
+                if (a.packageName().equals(i.packageName()) && a.affected().isInRange(i.version())) matched++;
+        return matched;
+    }
+
+    @Benchmark
+    public long join() {
+        return SemVerAdvisoryJoin.join(advisories, installations).count();
+    }
+
+    @Benchmark
+    public long joinSequential() {
+        return SemVerAdvisoryJoin.join(advisories, installations).sequential().count();
+    }
+}
@@ -0,0 +1,64 @@
+package xyz.rk0cc.josev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.collections.SemVerSort;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of ordering and hashing {@link SemVer}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SemVerCompareBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private SemVer[] versions;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        final String[] raw = SemVerCorpus.synthetic(size, 7L);
+        versions = new SemVer[raw.length];
+        for (int i = 0; i < raw.length; i++) versions[i] = SemVer.tryParse(raw[i]);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        final int i = cursor;
+        cursor = (cursor + 1) % (versions.length - 1);
+        return versions[i].compareTo(versions[i + 1]);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        final int i = cursor;
+        cursor = (cursor + 1) % versions.length;
+        return versions[i].hashCode();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SemVer[] sort() {
+        final SemVer[] copied = versions.clone();
+        Arrays.sort(copied);
+        return copied;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SemVer[] radixSort() {
+        final SemVer[] copied = versions.clone();
+        SemVerSort.sort(copied);
+        return copied;
+    }
+}
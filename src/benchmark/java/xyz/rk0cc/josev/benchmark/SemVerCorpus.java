@@ -0,0 +1,95 @@
+package xyz.rk0cc.josev.benchmark;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Inputs of benchmarks, which come from <code>semver_sample.csv</code> in test resources and synthetic generator.
+ */
+final class SemVerCorpus {
+    /**
+     * Common pre-release tags for synthetic versions.
+     */
+    private static final String[] PRE_RELEASES = {"alpha", "alpha.1", "beta", "beta.2", "rc.1", "SNAPSHOT", "dev.20"};
+
+    /**
+     * Common build tags for synthetic versions.
+     */
+    private static final String[] BUILDS = {"1", "build.5", "sha.9f3ab1c", "20230601"};
+
+    private SemVerCorpus() {}
+
+    /**
+     * Read the sample corpus.
+     *
+     * @param valid Read valid or invalid versions.
+     *
+     * @return Versions in the sample corpus.
+     */
+    @Nonnull
+    static String[] sample(boolean valid) {
+        final ArrayList<String> versions = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(SemVerCorpus.class.getResourceAsStream("/xyz/rk0cc/josev/semver_sample.csv")),
+                StandardCharsets.UTF_8
+        ))) {
+            reader.readLine(); // Header
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int comma = line.lastIndexOf(',');
+                if (comma > 0 && Boolean.parseBoolean(line.substring(comma + 1)) == valid)
+                    versions.add(line.substring(0, comma));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return versions.toArray(new String[0]);
+    }
+
+    /**
+     * Generate valid versions which close to real world distribution: small numbers and mostly without tags.
+     *
+     * @param size Number of versions.
+     * @param seed Random seed.
+     *
+     * @return Generated versions, may contain duplicated one.
+     */
+    @Nonnull
+    static String[] synthetic(@Nonnegative int size, long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final String[] versions = new String[size];
+        for (int i = 0; i < size; i++) {
+            final StringBuilder sb = new StringBuilder()
+                    .append(random.nextInt(30)).append('.')
+                    .append(random.nextInt(50)).append('.')
+                    .append(random.nextInt(100));
+            if (random.nextInt(5) == 0) sb.append('-').append(PRE_RELEASES[random.nextInt(PRE_RELEASES.length)]);
+            if (random.nextInt(10) == 0) sb.append('+').append(BUILDS[random.nextInt(BUILDS.length)]);
+            versions[i] = sb.toString();
+        }
+        return versions;
+    }
+
+    /**
+     * Generate distinct caret constraints like <code>^1.2.3</code>.
+     *
+     * @param size Number of constraints.
+     *
+     * @return Generated constraints.
+     */
+    @Nonnull
+    static List<String> caretConstraints(@Nonnegative int size) {
+        final ArrayList<String> constraints = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) constraints.add("^" + (i / 10_000) + "." + (i / 100 % 100) + "." + (i % 100));
+        return constraints;
+    }
+}
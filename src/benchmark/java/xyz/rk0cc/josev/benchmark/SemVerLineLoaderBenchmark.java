@@ -0,0 +1,67 @@
+package xyz.rk0cc.josev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.index.SemVerLineLoader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmarks of {@link SemVerLineLoader} against reading lines by {@link BufferedReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SemVerLineLoaderBenchmark {
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("josev-versions", ".txt");
+        Files.write(file, List.of(SemVerCorpus.synthetic(1_000_000, 49L)), StandardCharsets.US_ASCII);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long readLine() throws IOException {
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) if (SemVer.tryParse(line) != null) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long loadSequential() throws IOException {
+        final LongAdder major = new LongAdder();
+        new SemVerLineLoader(SemVerLineLoader.DEFAULT_CHUNK_SIZE, false).versions(file, (o, v) -> major.add(v.major()));
+        return major.sum();
+    }
+
+    @Benchmark
+    public long load() throws IOException {
+        final LongAdder major = new LongAdder();
+        new SemVerLineLoader().versions(file, (o, v) -> major.add(v.major()));
+        return major.sum();
+    }
+
+    @Benchmark
+    public int columns() throws IOException {
+        return new SemVerLineLoader().columns(file).size();
+    }
+}
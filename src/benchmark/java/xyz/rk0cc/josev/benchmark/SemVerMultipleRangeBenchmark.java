@@ -0,0 +1,73 @@
+package xyz.rk0cc.josev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.collections.SemVerMultipleRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import javax.annotation.Nonnull;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link SemVerMultipleRange} with various number of ranges.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class SemVerMultipleRangeBenchmark {
+    /**
+     * Multiple range which accept version when any range matched.
+     */
+    static final class AnyRange extends SemVerMultipleRange<SampleConstraint> {
+        AnyRange(HashSet<SampleConstraint> ranges) {
+            super(ranges);
+        }
+
+        @Override
+        public boolean isInRange(@Nonnull SemVer semVer) {
+            return stream().anyMatch(r -> r.isInRange(semVer));
+        }
+    }
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private HashSet<SampleConstraint> constraints;
+    private AnyRange ranges;
+    private SampleConstraint probe;
+    private SemVer missing;
+
+    @Setup
+    public void setup() {
+        constraints = new HashSet<>();
+        for (String c : SemVerCorpus.caretConstraints(size)) constraints.add(SampleConstraint.parse(c));
+        ranges = new AnyRange(constraints);
+        probe = constraints.iterator().next();
+        missing = new SemVer(Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public AnyRange build() {
+        return new AnyRange(constraints);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return ranges.contains(probe);
+    }
+
+    @Benchmark
+    public boolean isInRangeMiss() {
+        return ranges.isInRange(missing);
+    }
+
+    @Benchmark
+    public List<SampleConstraint> where() {
+        return ranges.where(r -> r.start() != null && r.start().semVer().minor() == 0);
+    }
+}
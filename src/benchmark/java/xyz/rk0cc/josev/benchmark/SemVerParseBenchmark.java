@@ -0,0 +1,69 @@
+package xyz.rk0cc.josev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of parsing {@link SemVer} from {@link String}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SemVerParseBenchmark {
+    private String[] sampleValid, sampleInvalid, synthetic;
+    private byte[][] syntheticBytes;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        sampleValid = SemVerCorpus.sample(true);
+        sampleInvalid = SemVerCorpus.sample(false);
+        synthetic = SemVerCorpus.synthetic(4096, 31L);
+        syntheticBytes = new byte[synthetic.length][];
+        for (int i = 0; i < synthetic.length; i++) syntheticBytes[i] = synthetic[i].getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private String next(String[] inputs) {
+        final String s = inputs[cursor];
+        cursor = (cursor + 1) % inputs.length;
+        return s;
+    }
+
+    @Benchmark
+    public SemVer parseSample() throws NonStandardSemVerException {
+        cursor %= sampleValid.length;
+        return SemVer.parse(next(sampleValid));
+    }
+
+    @Benchmark
+    public SemVer parseSynthetic() throws NonStandardSemVerException {
+        cursor %= synthetic.length;
+        return SemVer.parse(next(synthetic));
+    }
+
+    @Benchmark
+    public SemVer lazyParseSynthetic() throws NonStandardSemVerException {
+        cursor %= synthetic.length;
+        return SemVer.lazyParse(next(synthetic));
+    }
+
+    @Benchmark
+    public SemVer parseSyntheticBytes() throws NonStandardSemVerException {
+        cursor = (cursor + 1) % syntheticBytes.length;
+        final byte[] b = syntheticBytes[cursor];
+        return SemVer.parse(b, 0, b.length);
+    }
+
+    @Benchmark
+    public SemVer tryParseInvalid() {
+        cursor %= sampleInvalid.length;
+        return SemVer.tryParse(next(sampleInvalid));
+    }
+}
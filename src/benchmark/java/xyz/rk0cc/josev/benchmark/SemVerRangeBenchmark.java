@@ -0,0 +1,125 @@
+package xyz.rk0cc.josev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerColumns;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+import xyz.rk0cc.josev.constraint.SemVerConstraint;
+import xyz.rk0cc.josev.constraint.SemVerConstraintCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link SemVerRange#isInRange(SemVer)}, {@link SemVerRange#isInRange(CharSequence)},
+ * {@link SemVerRange#evaluate(SemVerColumns)} and parsing {@link SemVerConstraint}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SemVerRangeBenchmark {
+    private static final String[] CONSTRAINTS = {
+            "^1.0.0", ">=1.2.0 <2.0.0", "<3.0.0-alpha", ">0.9.0", ">=1.0.0-rc.1 <=1.0.0"
+    };
+
+    private String[] raw;
+    private SemVer[] versions;
+    private SemVerColumns columns;
+    private SemVerRange range;
+    private int cursor;
+    private List<String> coldStart;
+    private byte[] snapshot;
+
+    @Setup
+    public void setup() {
+        raw = SemVerCorpus.synthetic(4096, 11L);
+        versions = new SemVer[raw.length];
+        for (int i = 0; i < raw.length; i++) versions[i] = SemVer.tryParse(raw[i]);
+        range = SampleConstraint.parse(">=5.0.0 <20.0.0");
+        columns = SemVerColumns.of(Arrays.asList(versions));
+
+        // Constraints parsed by a worker on every cold start.
+        coldStart = SemVerCorpus.caretConstraints(2000);
+        final SemVerConstraintCache cache = parseAllConstraints();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            cache.write(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        snapshot = bytes.toByteArray();
+    }
+
+    @Benchmark
+    public boolean isInRange() {
+        cursor = (cursor + 1) % versions.length;
+        return range.isInRange(versions[cursor]);
+    }
+
+    @Benchmark
+    public boolean isInRangeParsed() {
+        cursor = (cursor + 1) % raw.length;
+        final SemVer parsed = SemVer.tryParse(raw[cursor]);
+        return parsed != null && range.isInRange(parsed);
+    }
+
+    @Benchmark
+    public boolean isInRangeLazy() {
+        cursor = (cursor + 1) % raw.length;
+        try {
+            return range.isInRange((CharSequence) raw[cursor]);
+        } catch (NonStandardSemVerException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public int isInRangeEach() {
+        int matched = 0;
+        for (SemVer v : versions) if (range.isInRange(v)) matched++;
+        return matched;
+    }
+
+    @Benchmark
+    public int evaluateColumns() {
+        int matched = 0;
+        for (long w : range.evaluateWords(columns)) matched += Long.bitCount(w);
+        return matched;
+    }
+
+    @Benchmark
+    public SampleConstraint parseConstraintDirect() {
+        cursor = (cursor + 1) % CONSTRAINTS.length;
+        return SampleConstraint.parse(CONSTRAINTS[cursor]);
+    }
+
+    @Benchmark
+    public SampleConstraint parseConstraintReflective() {
+        cursor = (cursor + 1) % CONSTRAINTS.length;
+        return SemVerConstraint.parse(SampleConstraint.class, CONSTRAINTS[cursor]);
+    }
+
+    @Benchmark
+    public SemVerConstraintCache parseAllConstraints() {
+        final SemVerConstraintCache cache = new SemVerConstraintCache();
+        for (String c : coldStart) cache.parse(SampleConstraint.class, c);
+        return cache;
+    }
+
+    @Benchmark
+    public SemVerConstraintCache loadConstraintSnapshot() throws IOException {
+        final SemVerConstraintCache cache = new SemVerConstraintCache();
+        cache.load(ByteBuffer.wrap(snapshot));
+        return cache;
+    }
+}
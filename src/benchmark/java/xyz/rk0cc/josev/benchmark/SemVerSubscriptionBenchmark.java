@@ -0,0 +1,68 @@
+package xyz.rk0cc.josev.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+import xyz.rk0cc.josev.subscription.SemVerRelease;
+import xyz.rk0cc.josev.subscription.SemVerSubscriptionRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link SemVerSubscriptionRegistry} against evaluating every subscribed range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SemVerSubscriptionBenchmark {
+    private static final int PACKAGES = 10;
+
+    private SemVerSubscriptionRegistry<Integer> registry;
+    private List<List<SemVerRange>> ranges;
+    private List<SemVerRelease> releases;
+
+    @Setup
+    public void setup() {
+        registry = new SemVerSubscriptionRegistry<>();
+        ranges = new ArrayList<>();
+        for (int p = 0; p < PACKAGES; p++) ranges.add(new ArrayList<>());
+
+        final List<String> carets = SemVerCorpus.caretConstraints(200_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            final SemVerRange range = SampleConstraint.parse(carets.get(i % carets.size()));
+            ranges.get(i % PACKAGES).add(range);
+            registry.subscribe("pkg-" + i % PACKAGES, i, range);
+        }
+
+        final String[] versions = SemVerCorpus.synthetic(1_000, 50L);
+        releases = new ArrayList<>(versions.length);
+        for (int i = 0; i < versions.length; i++)
+            releases.add(new SemVerRelease("pkg-" + i % PACKAGES, SemVer.tryParse(versions[i])));
+    }
+
+    @Benchmark
+    public long scanAll() {
+        long matched = 0;
+        for (SemVerRelease r : releases) {
+            final List<SemVerRange> subscribed = ranges.get(Integer.parseInt(r.packageName().substring(4)));
+            for (SemVerRange range : subscribed) if (range.isInRange(r.version())) matched++;
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public long publish() {
+        return registry.publish(releases).count();
+    }
+
+    @Benchmark
+    public long publishSequential() {
+        return registry.publish(releases).sequential().count();
+    }
+}
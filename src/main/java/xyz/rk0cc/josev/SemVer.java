@@ -3,10 +3,10 @@ package xyz.rk0cc.josev;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.Serializable;
-import java.util.ArrayList;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -45,17 +45,200 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      */
     @Nonnull
     private static Pattern compiledSemverRegex() {
-        return Pattern.compile("^" + SEMVER_REGEX + "$");
+        return SemVerPatternHolder.PATTERN;
     }
 
     /**
-     * Mandatory {@link Nonnegative} of {@link Long} number of versioning.
+     * Lazy holder of compiled {@link #SEMVER_REGEX}, which is only needed for validating tags in constructor.
      */
-    private final long major, minor, patch;
+    private static final class SemVerPatternHolder {
+        private static final Pattern PATTERN = Pattern.compile("^" + SEMVER_REGEX + "$");
+    }
+
+    /**
+     * Out-of-line part of {@link SemVer} which is only allocated when it can not be packed in {@link #packed}.
+     */
+    private static abstract class Tags {
+        /**
+         * Pre-release tag without leading '<code>-</code>'.
+         *
+         * @return Pre-release tag, or <code>null</code> if absent.
+         */
+        @Nullable
+        abstract String preRelease();
+
+        /**
+         * Build tag without leading '<code>+</code>'.
+         *
+         * @return Build tag, or <code>null</code> if absent.
+         */
+        @Nullable
+        abstract String build();
+
+        /**
+         * Determine pre-release tag is present without decoding it.
+         *
+         * @return <code>true</code> if {@link #preRelease()} is not <code>null</code>.
+         */
+        abstract boolean hasPreRelease();
+    }
+
+    /**
+     * Tags which have been decoded already.
+     */
+    private static final class DecodedTags extends Tags {
+        private final String preRelease, build;
+
+        DecodedTags(@Nullable String preRelease, @Nullable String build) {
+            this.preRelease = preRelease;
+            this.build = build;
+        }
+
+        @Nullable
+        @Override
+        String preRelease() {
+            return preRelease;
+        }
+
+        @Nullable
+        @Override
+        String build() {
+            return build;
+        }
+
+        @Override
+        boolean hasPreRelease() {
+            return preRelease != null;
+        }
+    }
+
+    /**
+     * Validated tags which are kept in the source {@link String} and decoded when first accessed.
+     * <br/>
+     * Decoded tags are cached without synchronization. Since {@link String} is immutable, racing threads decode the
+     * same tag at most once each and always observe equal value.
+     */
+    private static final class LazyTags extends Tags {
+        private final String source;
+        private final int preReleaseStart, preReleaseEnd, buildStart, buildEnd;
+        private String preRelease, build;
+
+        LazyTags(@Nonnull String source, int preReleaseStart, int preReleaseEnd, int buildStart, int buildEnd) {
+            this.source = source;
+            this.preReleaseStart = preReleaseStart;
+            this.preReleaseEnd = preReleaseEnd;
+            this.buildStart = buildStart;
+            this.buildEnd = buildEnd;
+        }
+
+        @Nullable
+        @Override
+        String preRelease() {
+            if (preReleaseStart < 0) return null;
+            String decoded = preRelease;
+            if (decoded == null) preRelease = decoded = SemVerTagPool.tag(source, preReleaseStart, preReleaseEnd);
+            return decoded;
+        }
+
+        @Nullable
+        @Override
+        String build() {
+            if (buildStart < 0) return null;
+            String decoded = build;
+            if (decoded == null) build = decoded = SemVerTagPool.tag(source, buildStart, buildEnd);
+            return decoded;
+        }
+
+        @Override
+        boolean hasPreRelease() {
+            return preReleaseStart >= 0;
+        }
+    }
+
+    /**
+     * Numbers which exceed {@link #PACKED_BITS}, with optional tags.
+     */
+    private static final class Wide extends Tags {
+        private final long major, minor, patch;
+        private final Tags tags;
+
+        Wide(long major, long minor, long patch, @Nullable Tags tags) {
+            this.major = major;
+            this.minor = minor;
+            this.patch = patch;
+            this.tags = tags;
+        }
+
+        @Nullable
+        @Override
+        String preRelease() {
+            return tags == null ? null : tags.preRelease();
+        }
+
+        @Nullable
+        @Override
+        String build() {
+            return tags == null ? null : tags.build();
+        }
+
+        @Override
+        boolean hasPreRelease() {
+            return tags != null && tags.hasPreRelease();
+        }
+    }
+
+    /**
+     * Number of bits of each number in {@link #packed}.
+     */
+    private static final int PACKED_BITS = 21;
+
+    /**
+     * Mask of the lowest {@link #PACKED_BITS} bits, which extracts a number from {@link #packed}.
+     */
+    private static final long PACKED_MASK = (1L << PACKED_BITS) - 1;
+
+    /**
+     * Value of {@link #packed} when numbers are stored in {@link Wide}.
+     */
+    private static final long WIDE = -1L;
+
     /**
-     * Optional {@link String} of version tag which is {@link Nullable}.
+     * Mandatory {@link Nonnegative} numbers of versioning which are packed as
+     * <code>major &lt;&lt; 42 | minor &lt;&lt; 21 | patch</code> if all of them are less than <code>2^21</code>, or
+     * {@link #WIDE} if they are stored in {@link Wide}.
+     * <br/>
+     * Since each number occupies the same width, comparing two packed values is the same as comparing numbers in
+     * order.
      */
-    private final String preRelease, build;
+    private final long packed;
+    /**
+     * Optional tags which are deduplicated by {@link SemVerTagPool}, and {@link Wide wide numbers}. It is
+     * <code>null</code> for small versions without tags, which is the most common form and only costs a single
+     * {@link Long} per version.
+     */
+    private final Tags tags;
+
+    /**
+     * Determine numbers can be packed in {@link #packed}.
+     */
+    private static boolean isPackable(long major, long minor, long patch) {
+        return ((major | minor | patch) & ~PACKED_MASK) == 0;
+    }
+
+    /**
+     * Pack numbers which have been {@link #isPackable(long, long, long) packable} into {@link #packed}.
+     */
+    private static long pack(long major, long minor, long patch) {
+        return major << (PACKED_BITS * 2) | minor << PACKED_BITS | patch;
+    }
+
+    /**
+     * Create out-of-line part of version, or <code>null</code> if the version is compact.
+     */
+    @Nullable
+    private static Tags outOfLine(long major, long minor, long patch, @Nullable Tags tags) {
+        return isPackable(major, minor, patch) ? tags : new Wide(major, minor, patch, tags);
+    }
 
     /**
      * Create new versioning data.
@@ -78,11 +261,14 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
             @Nullable String preRelease,
             @Nullable String build
     ) throws NonStandardSemVerException {
-        this.major = major;
-        this.minor = minor;
-        this.patch = patch;
-        this.preRelease = preRelease;
-        this.build = build;
+        this(
+                major,
+                minor,
+                patch,
+                preRelease == null && build == null
+                        ? null
+                        : new DecodedTags(SemVerTagPool.intern(preRelease), SemVerTagPool.intern(build))
+        );
 
         // Ensure is validate SemVer string
         try {
@@ -103,11 +289,83 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      *                               exceeding {@link Long}'s maximum (signed) value even it valid to parse.
      */
     public SemVer(@Nonnegative long major, @Nonnegative long minor, @Nonnegative long patch) {
-        this.major = major;
-        this.minor = minor;
-        this.patch = patch;
-        this.preRelease = null;
-        this.build = null;
+        this(major, minor, patch, (Tags) null);
+    }
+
+    /**
+     * Create versioning data which has been validated already.
+     *
+     * @param major Non-negative number of major release.
+     * @param minor Non-negative number of minor release.
+     * @param patch Non-negative number of patch release.
+     * @param preRelease Validated pre-release tag (if applied).
+     * @param build Validated build tag (if applied).
+     *
+     * @return A {@link SemVer} without validation.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    static SemVer trusted(
+            @Nonnegative long major,
+            @Nonnegative long minor,
+            @Nonnegative long patch,
+            @Nullable String preRelease,
+            @Nullable String build
+    ) {
+        return new SemVer(
+                major,
+                minor,
+                patch,
+                preRelease == null && build == null ? null : new DecodedTags(preRelease, build)
+        );
+    }
+
+    /**
+     * Create versioning data which tags have been validated but not decoded yet.
+     *
+     * @param major Non-negative number of major release.
+     * @param minor Non-negative number of minor release.
+     * @param patch Non-negative number of patch release.
+     * @param source Validated version which contains tags.
+     * @param preReleaseStart Index of the first {@link Character} of pre-release tag, or <code>-1</code> if absent.
+     * @param preReleaseEnd Index after the last {@link Character} of pre-release tag.
+     * @param buildStart Index of the first {@link Character} of build tag, or <code>-1</code> if absent.
+     * @param buildEnd Index after the last {@link Character} of build tag.
+     *
+     * @return A {@link SemVer} without validation, which decodes tags on demand.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    static SemVer trusted(
+            @Nonnegative long major,
+            @Nonnegative long minor,
+            @Nonnegative long patch,
+            @Nonnull String source,
+            int preReleaseStart,
+            int preReleaseEnd,
+            int buildStart,
+            int buildEnd
+    ) {
+        return new SemVer(
+                major,
+                minor,
+                patch,
+                preReleaseStart < 0 && buildStart < 0
+                        ? null
+                        : new LazyTags(source, preReleaseStart, preReleaseEnd, buildStart, buildEnd)
+        );
+    }
+
+    /**
+     * Constructor of trusted versioning data, which chooses compact or wide form by numbers.
+     *
+     * @param tags Decoded or undecoded tags, or <code>null</code> if no tag applied.
+     */
+    private SemVer(long major, long minor, long patch, @Nullable Tags tags) {
+        this.packed = isPackable(major, minor, patch) ? pack(major, minor, patch) : WIDE;
+        this.tags = outOfLine(major, minor, patch, tags);
     }
 
     /**
@@ -181,7 +439,7 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      */
     @Nonnegative
     public long major() {
-        return major;
+        return packed != WIDE ? packed >>> (PACKED_BITS * 2) : ((Wide) tags).major;
     }
 
     /**
@@ -191,7 +449,7 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      */
     @Nonnegative
     public long minor() {
-        return minor;
+        return packed != WIDE ? (packed >>> PACKED_BITS) & PACKED_MASK : ((Wide) tags).minor;
     }
 
     /**
@@ -201,7 +459,7 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      */
     @Nonnegative
     public long patch() {
-        return patch;
+        return packed != WIDE ? packed & PACKED_MASK : ((Wide) tags).patch;
     }
 
     /**
@@ -211,7 +469,7 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      */
     @Nullable
     public String preRelease() {
-        return preRelease;
+        return tags == null ? null : tags.preRelease();
     }
 
     /**
@@ -221,7 +479,7 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      */
     @Nullable
     public String build() {
-        return build;
+        return tags == null ? null : tags.build();
     }
 
     /**
@@ -231,7 +489,7 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      *         <code>0</code>.
      */
     public boolean isPreRelease() {
-        return preRelease != null || major == 0;
+        return (tags != null && tags.hasPreRelease()) || major() == 0;
     }
 
     /**
@@ -286,11 +544,12 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      * @return <code>true</code> if it is.
      */
     public boolean isSameVersionGroup(@Nonnull SemVer semVer) {
-        return major == semVer.major && minor == semVer.minor && patch == semVer.patch;
+        if (packed != WIDE && semVer.packed != WIDE) return packed == semVer.packed;
+        return major() == semVer.major() && minor() == semVer.minor() && patch() == semVer.patch();
     }
 
     /**
-     * Assemble {@link #major}, {@link #minor}, {@link #patch}, {@link #preRelease} and {@link #build} to
+     * Assemble {@link #major()}, {@link #minor()}, {@link #patch()}, {@link #preRelease()} and {@link #build()} to
      * {@link String} without validate with {@link #SEMVER_REGEX}.
      *
      * @return An unchecked {@link String} of semver value.
@@ -298,11 +557,12 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
     @Nonnull
     private String $value() {
         StringBuilder builder = new StringBuilder()
-                .append(major)
+                .append(major())
                 .append('.')
-                .append(minor)
+                .append(minor())
                 .append('.')
-                .append(patch);
+                .append(patch());
+        final String preRelease = preRelease(), build = build();
         if (preRelease != null) builder.append('-').append(preRelease);
         if (build != null) builder.append('+').append(build);
         return builder.toString();
@@ -336,38 +596,58 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
     @SuppressWarnings("ConstantConditions")
     @Override
     public int compareTo(@Nonnull SemVer o) {
-        // Compare major
-        if (major > o.major) return 1;
-        else if (major < o.major) return -1;
-
-        // Compare minor
-        if (minor > o.minor) return 1;
-        else if (minor < o.minor) return -1;
+        if (packed != WIDE && o.packed != WIDE) {
+            // Compare all numbers at once
+            if (packed != o.packed) return packed > o.packed ? 1 : -1;
+            if (tags == null && o.tags == null) return 0;
+        } else {
+            final int numbers = compareNumbers(o);
+            if (numbers != 0) return numbers;
+        }
 
-        // Compare patch
-        if (patch > o.patch) return 1;
-        else if (patch < o.patch) return -1;
+        // Tags are decoded here if parsed lazily.
+        final String build = build(), oBuild = o.build();
+        final String preRelease = preRelease(), oPreRelease = o.preRelease();
 
         // Compare build
-        if (build != null && o.build != null) {
-            final long bdiff = build.compareTo(o.build);
+        if (build != null && oBuild != null) {
+            final long bdiff = build.compareTo(oBuild);
             if (bdiff != 0) return bdiff > 0 ? 1 : -1;
         }
-        else if (build != null && o.build == null) return 1;
-        else if (build == null && o.build != null) return -1;
+        else if (build != null && oBuild == null) return 1;
+        else if (build == null && oBuild != null) return -1;
 
         // Compare pre-release (Reversed condition of 'build' one)
-        if (preRelease != null && o.preRelease != null) {
-            final long pdiff = preRelease.compareTo(o.preRelease);
+        if (preRelease != null && oPreRelease != null) {
+            final long pdiff = preRelease.compareTo(oPreRelease);
             if (pdiff != 0) return pdiff > 0 ? -1 : 1;
         }
-        else if (preRelease != null && o.preRelease == null) return -1;
-        else if (preRelease == null && o.preRelease != null) return 1;
+        else if (preRelease != null && oPreRelease == null) return -1;
+        else if (preRelease == null && oPreRelease != null) return 1;
         
         // Meaning this semver is exact same version.
         return 0;
     }
 
+    /**
+     * Compare {@link #major()}, {@link #minor()} and {@link #patch()} which any of them is {@link Wide}.
+     *
+     * @param o Another {@link SemVer}.
+     *
+     * @return <code>-1</code>, <code>0</code> or <code>1</code> by numbers only.
+     */
+    private int compareNumbers(@Nonnull SemVer o) {
+        final long major = major(), oMajor = o.major();
+        if (major != oMajor) return major > oMajor ? 1 : -1;
+
+        final long minor = minor(), oMinor = o.minor();
+        if (minor != oMinor) return minor > oMinor ? 1 : -1;
+
+        final long patch = patch(), oPatch = o.patch();
+        if (patch != oPatch) return patch > oPatch ? 1 : -1;
+        return 0;
+    }
+
     /**
      * Compare another {@link SemVer} which has equals data of versioning.
      *
@@ -390,10 +670,16 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      * Calculating hash code form all provided versioning data.
      *
      * @return Hashed {@link #major()}, {@link #minor()}, {@link #patch()}, {@link #preRelease()} and {@link #build()}.
+     *
+     * @implNote It returns the same value of {@link Objects#hash(Object...)} with these fields without boxing.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(major, minor, patch, preRelease, build);
+        int h = 31 + Long.hashCode(major());
+        h = 31 * h + Long.hashCode(minor());
+        h = 31 * h + Long.hashCode(patch());
+        h = 31 * h + Objects.hashCode(preRelease());
+        return 31 * h + Objects.hashCode(build());
     }
 
     /**
@@ -407,14 +693,40 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
     @Override
     public String toString() {
         return "SemVer{" +
-                "major=" + major +
-                ", minor=" + minor +
-                ", patch=" + patch +
-                ", preRelease='" + preRelease + '\'' +
-                ", build='" + build + '\'' +
+                "major=" + major() +
+                ", minor=" + minor() +
+                ", patch=" + patch() +
+                ", preRelease='" + preRelease() + '\'' +
+                ", build='" + build() + '\'' +
                 '}';
     }
 
+    /**
+     * Replace this object with {@link SemVerCodec compact form} when serializing.
+     *
+     * @return Serialization proxy of this version.
+     *
+     * @since 3.3.0
+     */
+    @Serial
+    private Object writeReplace() {
+        return new SemVerSerialForm(this);
+    }
+
+    /**
+     * Prevent deserializing {@link SemVer} without serialization proxy.
+     *
+     * @param in Object stream.
+     *
+     * @throws InvalidObjectException Always thrown.
+     *
+     * @since 3.3.0
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy is required");
+    }
+
     /**
      * Generating a new {@link SemVer} object by a {@link String}.
      *
@@ -430,52 +742,229 @@ public final class SemVer implements Comparable<SemVer>, Serializable {
      */
     @Nonnull
     public static SemVer parse(@Nonnull String version) throws NonStandardSemVerException {
-        final String v = version.charAt(0) == 'v' ? version.substring(1) : version;
-        final Matcher vm = compiledSemverRegex().matcher(v);
-        if (!vm.matches()) throw new NonStandardSemVerException(version, new AssertionError());
-
-        // Extract string from group
-        ArrayList<String> matchedGroup = new ArrayList<>();
-        int g = 1; // Must be started from 1, 0 is entire version string
-        while (true) {
-            try {
-                matchedGroup.add(vm.group(g++));
-            } catch (IndexOutOfBoundsException ioobe) {
-                // Stop append if reached maximum
-                break;
-            }
-        }
+        return parse(version, null, null, 0, 0, false);
+    }
 
-        // 3 mandatory part
-        final long major, minor, patch;
-        try {
-            // It should be decimal, otherwise it has been thrown already.
-            major = Long.parseLong(matchedGroup.get(0), 10);
-            minor = Long.parseLong(matchedGroup.get(1), 10);
-            patch = Long.parseLong(matchedGroup.get(2), 10);
-        } catch (IndexOutOfBoundsException | NumberFormatException e) {
-            throw new NonStandardSemVerException(version, e);
-        }
+    /**
+     * Generating a new {@link SemVer} object by a {@link String}, which {@link #preRelease() pre-release} and
+     * {@link #build() build} tag are decoded when they are first needed.
+     * <br/>
+     * The whole version is validated as same as {@link #parse(String)}, but tags remain in <code>version</code> until
+     * getter, {@link #compareTo(SemVer) comparing} with the same version group, {@link #hashCode()} or
+     * {@link #value()} requires them. It saves allocations when most of versions are compared by numbers only. The
+     * returned object is indistinguishable from {@link #parse(String)}, except it retains <code>version</code> if any
+     * tag applied.
+     *
+     * @param version A {@link String} of Semantic Versioning. Leading '<code>v</code>' will be omitted as same as
+     *                {@link #parse(String)}.
+     *
+     * @return A Java object of {@link SemVer Semantic Versioning}.
+     *
+     * @throws NonStandardSemVerException If <code>version</code> does not follows the standard of Semantic Versioning.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    public static SemVer lazyParse(@Nonnull String version) throws NonStandardSemVerException {
+        return parse(version, null, null, 0, 0, true);
+    }
+
+    /**
+     * Generating a new {@link SemVer} object from ASCII encoded bytes, which is preferred when reading versions from
+     * files or network without decoding to {@link String} first.
+     *
+     * @param ascii Bytes contain version. Leading '<code>v</code>' will be omitted as same as {@link #parse(String)}.
+     * @param offset Offset of the first byte of version.
+     * @param length Number of bytes of version.
+     *
+     * @return A Java object of {@link SemVer Semantic Versioning}.
+     *
+     * @throws NonStandardSemVerException If the bytes does not follows the standard of Semantic Versioning.
+     * @throws IndexOutOfBoundsException If <code>offset</code> and <code>length</code> out of the range of
+     *                                   <code>ascii</code>.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    public static SemVer parse(@Nonnull byte[] ascii, @Nonnegative int offset, @Nonnegative int length)
+            throws NonStandardSemVerException {
+        Objects.checkFromIndexSize(offset, length, ascii.length);
+        return parse(null, ascii, null, offset, length, false);
+    }
+
+    /**
+     * Generating a new {@link SemVer} object from ASCII encoded bytes of {@link ByteBuffer}, which reads direct or
+     * mapped buffer in place without copying to heap.
+     * <br/>
+     * Bytes are read by absolute index, so that position of <code>ascii</code> is neither used nor changed.
+     *
+     * @param ascii Buffer contains version. Leading '<code>v</code>' will be omitted as same as
+     *              {@link #parse(String)}.
+     * @param offset Absolute index of the first byte of version.
+     * @param length Number of bytes of version.
+     *
+     * @return A Java object of {@link SemVer Semantic Versioning}.
+     *
+     * @throws NonStandardSemVerException If the bytes does not follows the standard of Semantic Versioning.
+     * @throws IndexOutOfBoundsException If <code>offset</code> and <code>length</code> out of the limit of
+     *                                   <code>ascii</code>.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    public static SemVer parse(@Nonnull ByteBuffer ascii, @Nonnegative int offset, @Nonnegative int length)
+            throws NonStandardSemVerException {
+        Objects.checkFromIndexSize(offset, length, ascii.limit());
+        return parse(null, null, ascii, offset, length, false);
+    }
 
+    /**
+     * Parse from either {@link String} or bytes, and report to {@link SemVerMetrics} and {@link SemVerParseEvent}.
+     *
+     * @param version A {@link String} of version, or <code>null</code> if parsing from bytes.
+     * @param ascii Bytes of version, which is used when <code>version</code> is <code>null</code>.
+     * @param buffer Buffer of version, which is used when both <code>version</code> and <code>ascii</code> are
+     *               <code>null</code>.
+     * @param offset Offset of bytes.
+     * @param length Length of bytes.
+     * @param lazy Decode tags of <code>version</code> on demand.
+     *
+     * @return A Java object of {@link SemVer Semantic Versioning}.
+     *
+     * @throws NonStandardSemVerException If it does not follows the standard of Semantic Versioning.
+     */
+    @Nonnull
+    private static SemVer parse(
+            @Nullable String version,
+            @Nullable byte[] ascii,
+            @Nullable ByteBuffer buffer,
+            int offset,
+            int length,
+            boolean lazy
+    ) throws NonStandardSemVerException {
+        final SemVerMetricsListener metrics = SemVerMetrics.listener();
+        final SemVerParseEvent event = new SemVerParseEvent();
+        if (metrics == null && !event.isEnabled()) return $parse(version, ascii, buffer, offset, length, lazy);
+
+        event.begin();
+        final long begin = System.nanoTime();
         try {
-            switch (matchedGroup.size()) {
-                case 3:
-                    return new SemVer(major, minor, patch);
-                case 4:
-                    final String pob = matchedGroup.get(3);
-                    if (v.contains("-")) return new SemVer(major, minor, patch, pob, null);
-                    else if (v.contains("+")) return new SemVer(major, minor, patch, null, pob);
-                    else throw new AssertionError("Unable to define pre-release or build tag");
-                case 5:
-                    return new SemVer(major, minor, patch, matchedGroup.get(3), matchedGroup.get(4));
-                default:
-                    throw new AssertionError("Unexpected number of semver pattern group found");
+            final SemVer parsed = $parse(version, ascii, buffer, offset, length, lazy);
+            event.end();
+            if (metrics != null) metrics.parsed(System.nanoTime() - begin);
+            if (event.shouldCommit()) {
+                event.record(source(version, ascii, buffer, offset, length), null);
+                event.commit();
             }
-        } catch (AssertionError e) {
-            throw new NonStandardSemVerException(version, e);
+            return parsed;
+        } catch (NonStandardSemVerException e) {
+            event.end();
+            final long elapsed = System.nanoTime() - begin;
+            final boolean committing = event.shouldCommit();
+            if (metrics != null || committing) {
+                final SemVerMetrics.ParseFailure reason = SemVerMetrics.classify(e.invalidVersion);
+                if (metrics != null) metrics.parseFailed(reason, elapsed);
+                if (committing) {
+                    event.record(e.invalidVersion, reason);
+                    event.commit();
+                }
+            }
+            throw e;
         }
     }
 
+    /**
+     * Get the parsing version as {@link String}, which bytes are decoded as ISO-8859-1 that every byte is mapped to a
+     * {@link Character}.
+     *
+     * @param version A {@link String} of version, or <code>null</code> if parsing from bytes.
+     * @param ascii Bytes of version, which is used when <code>version</code> is <code>null</code>.
+     * @param buffer Buffer of version, which is used when both <code>version</code> and <code>ascii</code> are
+     *               <code>null</code>.
+     * @param offset Offset of bytes.
+     * @param length Length of bytes.
+     *
+     * @return Version in {@link String}.
+     */
+    @Nonnull
+    private static String source(
+            @Nullable String version,
+            @Nullable byte[] ascii,
+            @Nullable ByteBuffer buffer,
+            int offset,
+            int length
+    ) {
+        if (version != null) return version;
+        if (ascii != null) return new String(ascii, offset, length, StandardCharsets.ISO_8859_1);
+        final byte[] copied = new byte[length];
+        Objects.requireNonNull(buffer).get(offset, copied);
+        return new String(copied, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Parse to {@link SemVer} by {@link SemVerScanner} without reporting to {@link SemVerMetrics}.
+     * <br/>
+     * Since valid version must be ASCII, {@link String} is encoded by ISO-8859-1 which keeps the length and any
+     * non-ASCII {@link Character} remains invalid.
+     *
+     * @param version A {@link String} of version, or <code>null</code> if parsing from bytes.
+     * @param ascii Bytes of version, which is used when <code>version</code> is <code>null</code>.
+     * @param buffer Buffer of version, which is used when both <code>version</code> and <code>ascii</code> are
+     *               <code>null</code>.
+     * @param offset Offset of bytes.
+     * @param length Length of bytes.
+     * @param lazy Decode tags of <code>version</code> on demand by {@link SemVerCursor}, which reads
+     *             <code>version</code> directly without encoding.
+     *
+     * @return A Java object of {@link SemVer Semantic Versioning}.
+     *
+     * @throws NonStandardSemVerException If it does not follows the standard of Semantic Versioning.
+     */
+    @Nonnull
+    private static SemVer $parse(
+            @Nullable String version,
+            @Nullable byte[] ascii,
+            @Nullable ByteBuffer buffer,
+            int offset,
+            int length,
+            boolean lazy
+    ) throws NonStandardSemVerException {
+        if (lazy) return new SemVerCursor(version).toSemVer();
+
+        final SemVer parsed;
+        if (version != null)
+            parsed = SemVerScanner.scan(version.getBytes(StandardCharsets.ISO_8859_1), 0, version.length());
+        else if (ascii != null) parsed = SemVerScanner.scan(ascii, offset, length);
+        else parsed = SemVerScanner.scan(Objects.requireNonNull(buffer), offset, length);
+        if (parsed == null) throw new NonStandardSemVerException(
+                source(version, ascii, buffer, offset, length),
+                new AssertionError("Does not match the pattern of Semantic Versioning")
+        );
+        return parsed;
+    }
+
+    /**
+     * Compare two versions without parsing them to {@link SemVer}, which returns the same result of
+     * <code>SemVer.parse(a).compareTo(SemVer.parse(b))</code>.
+     * <br/>
+     * Both versions are scanned lazily from the beginning and it returns once the order is decided. For example,
+     * comparing <code>2.0.0</code> and <code>10.0.0-beta</code> only reads the major numbers. As a result, malformed
+     * parts after the deciding number are not validated.
+     *
+     * @param a First version. Leading '<code>v</code>' will be omitted as same as {@link #parse(String)}.
+     * @param b Second version. Leading '<code>v</code>' will be omitted as same as {@link #parse(String)}.
+     *
+     * @return <code>-1</code>, <code>0</code> or <code>1</code> if <code>a</code> is lower, same or greater than
+     *         <code>b</code>.
+     *
+     * @throws NonStandardSemVerException If any part of versions which is read for comparison is malformed.
+     *
+     * @since 3.3.0
+     */
+    public static int compare(@Nonnull CharSequence a, @Nonnull CharSequence b) throws NonStandardSemVerException {
+        return new SemVerCursor(a).compareTo(new SemVerCursor(b));
+    }
+
     /**
      * Generating a new {@link SemVer} object by a {@link String}. However, when {@link NonStandardSemVerException}
      * throw on {@link #parse(String)}, it returns <code>null</code>.
@@ -0,0 +1,617 @@
+package xyz.rk0cc.josev;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact binary encoding of {@link SemVer}, {@link SemVerRangeNode} and {@link SemVerRange}.
+ * <br/>
+ * Unlike default {@link java.io.Serializable serialization}, no class metadata will be written. A {@link SemVer} is
+ * encoded as:
+ * <ol>
+ *     <li>A flag byte which indicating applied tags (with node's operator and equality if it is a node).</li>
+ *     <li>Variable length (LEB128) encoded {@link SemVer#major() major}, {@link SemVer#minor() minor} and
+ *     {@link SemVer#patch() patch}.</li>
+ *     <li>Variable length encoded UTF-8 byte length with the bytes of {@link SemVer#preRelease() pre-release} and
+ *     {@link SemVer#build() build} tag if applied.</li>
+ * </ol>
+ * A {@link SemVerRange} is encoded as a flag byte of existed nodes follows by the encoded nodes. Since only the range
+ * nodes are encoded, decoded range is always a plain {@link SemVerRange} which is the same as
+ * {@link SemVerRange#isInRange(SemVer)} bounded by the nodes.
+ * <br/>
+ * Therefore, a version without tags like <code>1.2.3</code> takes 4 bytes only.
+ * <br/>
+ * Decoding rejects negative numbers, invalid tags and a tag which encoded length exceeds 65535 bytes as corrupted data,
+ * so that decoded versions are always valid.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerCodec {
+    /**
+     * Flag bit of applied {@link SemVer#preRelease() pre-release} tag.
+     */
+    private static final int PRE_RELEASE = 1;
+
+    /**
+     * Flag bit of applied {@link SemVer#build() build} tag.
+     */
+    private static final int BUILD = 1 << 1;
+
+    /**
+     * Flag bit of node's operator is '<code>&lt;</code>'.
+     */
+    private static final int NODE_LOWER = 1 << 2;
+
+    /**
+     * Flag bit of node's {@link SemVerRangeNode#orEquals() equality}.
+     */
+    private static final int NODE_OR_EQUALS = 1 << 3;
+
+    /**
+     * Maximum encoded length of a tag which can be decoded, for rejecting corrupted length before allocating.
+     */
+    private static final int MAX_TAG_LENGTH = 0xFFFF;
+
+    /**
+     * Flag bit of existed {@link SemVerRange#start() start} node.
+     */
+    private static final int RANGE_START = 1;
+
+    /**
+     * Flag bit of existed {@link SemVerRange#end() end} node.
+     */
+    private static final int RANGE_END = 1 << 1;
+
+    /**
+     * This class is not allowed to create instance.
+     */
+    private SemVerCodec() {}
+
+    /**
+     * Calculate encoded size of {@link SemVer} for allocating {@link ByteBuffer}.
+     *
+     * @param semVer A version.
+     *
+     * @return Number of bytes after encoded.
+     */
+    @Nonnegative
+    public static int encodedSize(@Nonnull SemVer semVer) {
+        return 1 + varLongSize(semVer.major()) + varLongSize(semVer.minor()) + varLongSize(semVer.patch())
+                + tagSize(semVer.preRelease()) + tagSize(semVer.build());
+    }
+
+    /**
+     * Calculate encoded size of {@link SemVerRange} for allocating {@link ByteBuffer}.
+     *
+     * @param range A range.
+     *
+     * @return Number of bytes after encoded.
+     */
+    @Nonnegative
+    public static int encodedSize(@Nonnull SemVerRange range) {
+        return 1 + (range.start() == null ? 0 : encodedSize(range.start().semVer()))
+                + (range.end() == null ? 0 : encodedSize(range.end().semVer()));
+    }
+
+    /**
+     * Encode a {@link SemVer} to {@link DataOutput}.
+     *
+     * @param semVer Encoding version.
+     * @param out Destination.
+     *
+     * @throws IOException If writing failed.
+     */
+    public static void write(@Nonnull SemVer semVer, @Nonnull DataOutput out) throws IOException {
+        write(semVer, 0, out);
+    }
+
+    /**
+     * Encode a {@link SemVer} to {@link ByteBuffer}.
+     *
+     * @param semVer Encoding version.
+     * @param buffer Destination, which must have at least {@link #encodedSize(SemVer)} bytes remaining.
+     *
+     * @throws java.nio.BufferOverflowException If no sufficient space in <code>buffer</code>.
+     */
+    public static void write(@Nonnull SemVer semVer, @Nonnull ByteBuffer buffer) {
+        write(semVer, 0, buffer);
+    }
+
+    /**
+     * Encode a {@link SemVerRangeNode} to {@link DataOutput}.
+     *
+     * @param node Encoding node.
+     * @param out Destination.
+     *
+     * @throws IOException If writing failed.
+     */
+    public static void write(@Nonnull SemVerRangeNode node, @Nonnull DataOutput out) throws IOException {
+        write(node.semVer(), nodeFlag(node), out);
+    }
+
+    /**
+     * Encode a {@link SemVerRangeNode} to {@link ByteBuffer}.
+     *
+     * @param node Encoding node.
+     * @param buffer Destination.
+     *
+     * @throws java.nio.BufferOverflowException If no sufficient space in <code>buffer</code>.
+     */
+    public static void write(@Nonnull SemVerRangeNode node, @Nonnull ByteBuffer buffer) {
+        write(node.semVer(), nodeFlag(node), buffer);
+    }
+
+    /**
+     * Encode bounds of {@link SemVerRange} to {@link DataOutput}.
+     *
+     * @param range Encoding range.
+     * @param out Destination.
+     *
+     * @throws IOException If writing failed.
+     */
+    public static void write(@Nonnull SemVerRange range, @Nonnull DataOutput out) throws IOException {
+        final SemVerRangeNode start = range.start(), end = range.end();
+        out.writeByte((start == null ? 0 : RANGE_START) | (end == null ? 0 : RANGE_END));
+        if (start != null) write(start, out);
+        if (end != null) write(end, out);
+    }
+
+    /**
+     * Encode bounds of {@link SemVerRange} to {@link ByteBuffer}.
+     *
+     * @param range Encoding range.
+     * @param buffer Destination, which must have at least {@link #encodedSize(SemVerRange)} bytes remaining.
+     *
+     * @throws java.nio.BufferOverflowException If no sufficient space in <code>buffer</code>.
+     */
+    public static void write(@Nonnull SemVerRange range, @Nonnull ByteBuffer buffer) {
+        final SemVerRangeNode start = range.start(), end = range.end();
+        buffer.put((byte) ((start == null ? 0 : RANGE_START) | (end == null ? 0 : RANGE_END)));
+        if (start != null) write(start, buffer);
+        if (end != null) write(end, buffer);
+    }
+
+    /**
+     * Encode bounds of multiple ranges, including {@link xyz.rk0cc.josev.collections.SemVerMultipleRange}, to
+     * {@link DataOutput}.
+     *
+     * @param ranges Encoding ranges.
+     * @param out Destination.
+     *
+     * @throws IOException If writing failed.
+     */
+    public static void writeAll(@Nonnull Collection<? extends SemVerRange> ranges, @Nonnull DataOutput out)
+            throws IOException {
+        writeVarLong(ranges.size(), out);
+        for (SemVerRange r : ranges) write(r, out);
+    }
+
+    /**
+     * Decode a {@link SemVer} from {@link DataInput}.
+     *
+     * @param in Source.
+     *
+     * @return Decoded version.
+     *
+     * @throws IOException If reading failed or the data is not an encoded {@link SemVer}.
+     */
+    @Nonnull
+    public static SemVer readSemVer(@Nonnull DataInput in) throws IOException {
+        return readSemVer(in.readUnsignedByte(), in);
+    }
+
+    /**
+     * Decode a {@link SemVer} from {@link ByteBuffer}.
+     *
+     * @param buffer Source.
+     *
+     * @return Decoded version.
+     *
+     * @throws IllegalArgumentException If the data is not an encoded {@link SemVer}.
+     * @throws BufferUnderflowException If <code>buffer</code> does not contain entire encoded data.
+     */
+    @Nonnull
+    public static SemVer readSemVer(@Nonnull ByteBuffer buffer) {
+        return readSemVer(buffer.get() & 0xff, buffer);
+    }
+
+    /**
+     * Decode a {@link SemVerRangeNode} from {@link DataInput}.
+     *
+     * @param in Source.
+     *
+     * @return Decoded node.
+     *
+     * @throws IOException If reading failed or the data is not an encoded {@link SemVerRangeNode}.
+     */
+    @Nonnull
+    public static SemVerRangeNode readNode(@Nonnull DataInput in) throws IOException {
+        final int flag = in.readUnsignedByte();
+        return new SemVerRangeNode(
+                readSemVer(flag, in),
+                (flag & NODE_LOWER) != 0 ? '<' : '>',
+                (flag & NODE_OR_EQUALS) != 0
+        );
+    }
+
+    /**
+     * Decode a {@link SemVerRangeNode} from {@link ByteBuffer}.
+     *
+     * @param buffer Source.
+     *
+     * @return Decoded node.
+     *
+     * @throws IllegalArgumentException If the data is not an encoded {@link SemVerRangeNode}.
+     * @throws BufferUnderflowException If <code>buffer</code> does not contain entire encoded data.
+     */
+    @Nonnull
+    public static SemVerRangeNode readNode(@Nonnull ByteBuffer buffer) {
+        final int flag = buffer.get() & 0xff;
+        return new SemVerRangeNode(
+                readSemVer(flag, buffer),
+                (flag & NODE_LOWER) != 0 ? '<' : '>',
+                (flag & NODE_OR_EQUALS) != 0
+        );
+    }
+
+    /**
+     * Decode a {@link SemVerRange} from {@link DataInput}.
+     *
+     * @param in Source.
+     *
+     * @return Decoded range.
+     *
+     * @throws IOException If reading failed or the data is not an encoded {@link SemVerRange}.
+     */
+    @Nonnull
+    public static SemVerRange readRange(@Nonnull DataInput in) throws IOException {
+        final int flag = in.readUnsignedByte();
+        if ((flag & ~(RANGE_START | RANGE_END)) != 0) throw new StreamCorruptedException("Invalid range flag");
+        final SemVerRangeNode start = (flag & RANGE_START) != 0 ? readNode(in) : null;
+        final SemVerRangeNode end = (flag & RANGE_END) != 0 ? readNode(in) : null;
+        return new SemVerRange(start, end);
+    }
+
+    /**
+     * Decode a {@link SemVerRange} from {@link ByteBuffer}.
+     *
+     * @param buffer Source.
+     *
+     * @return Decoded range.
+     *
+     * @throws IllegalArgumentException If the data is not an encoded {@link SemVerRange}.
+     * @throws BufferUnderflowException If <code>buffer</code> does not contain entire encoded data.
+     */
+    @Nonnull
+    public static SemVerRange readRange(@Nonnull ByteBuffer buffer) {
+        final int flag = buffer.get() & 0xff;
+        if ((flag & ~(RANGE_START | RANGE_END)) != 0) throw new IllegalArgumentException("Invalid range flag");
+        final SemVerRangeNode start = (flag & RANGE_START) != 0 ? readNode(buffer) : null;
+        final SemVerRangeNode end = (flag & RANGE_END) != 0 ? readNode(buffer) : null;
+        return new SemVerRange(start, end);
+    }
+
+    /**
+     * Decode multiple ranges which encoded by {@link #writeAll(Collection, DataOutput)}.
+     *
+     * @param in Source.
+     *
+     * @return An unmodifiable {@link List} of decoded range.
+     *
+     * @throws IOException If reading failed or the data is not encoded ranges.
+     */
+    @Nonnull
+    public static List<SemVerRange> readAll(@Nonnull DataInput in) throws IOException {
+        final long size = readVarLong(in);
+        if (size < 0 || size > Integer.MAX_VALUE) throw new StreamCorruptedException("Invalid number of ranges");
+        final ArrayList<SemVerRange> ranges = new ArrayList<>((int) Math.min(size, 1024));
+        for (long i = 0; i < size; i++) ranges.add(readRange(in));
+        return Collections.unmodifiableList(ranges);
+    }
+
+    /**
+     * Get the flag bits of node.
+     *
+     * @param node A node.
+     *
+     * @return Flag bits of operator and equality.
+     */
+    private static int nodeFlag(@Nonnull SemVerRangeNode node) {
+        return (node.operator() == '<' ? NODE_LOWER : 0) | (node.orEquals() ? NODE_OR_EQUALS : 0);
+    }
+
+    /**
+     * Encode {@link SemVer} with extra flag bits.
+     *
+     * @param semVer Encoding version.
+     * @param extraFlag Flag bits of node.
+     * @param out Destination.
+     *
+     * @throws IOException If writing failed.
+     */
+    private static void write(@Nonnull SemVer semVer, int extraFlag, @Nonnull DataOutput out) throws IOException {
+        final String preRelease = semVer.preRelease(), build = semVer.build();
+        out.writeByte(extraFlag | (preRelease == null ? 0 : PRE_RELEASE) | (build == null ? 0 : BUILD));
+        writeVarLong(semVer.major(), out);
+        writeVarLong(semVer.minor(), out);
+        writeVarLong(semVer.patch(), out);
+        if (preRelease != null) writeTag(preRelease, out);
+        if (build != null) writeTag(build, out);
+    }
+
+    /**
+     * Encode {@link SemVer} with extra flag bits.
+     *
+     * @param semVer Encoding version.
+     * @param extraFlag Flag bits of node.
+     * @param buffer Destination.
+     */
+    private static void write(@Nonnull SemVer semVer, int extraFlag, @Nonnull ByteBuffer buffer) {
+        final String preRelease = semVer.preRelease(), build = semVer.build();
+        buffer.put((byte) (extraFlag | (preRelease == null ? 0 : PRE_RELEASE) | (build == null ? 0 : BUILD)));
+        writeVarLong(semVer.major(), buffer);
+        writeVarLong(semVer.minor(), buffer);
+        writeVarLong(semVer.patch(), buffer);
+        if (preRelease != null) writeTag(preRelease, buffer);
+        if (build != null) writeTag(build, buffer);
+    }
+
+    /**
+     * Decode {@link SemVer} after the flag byte has been read.
+     *
+     * @param flag Flag byte.
+     * @param in Source.
+     *
+     * @return Decoded version.
+     *
+     * @throws IOException If reading failed or the data is not an encoded {@link SemVer}.
+     */
+    @Nonnull
+    private static SemVer readSemVer(int flag, @Nonnull DataInput in) throws IOException {
+        if ((flag & ~(PRE_RELEASE | BUILD | NODE_LOWER | NODE_OR_EQUALS)) != 0)
+            throw new StreamCorruptedException("Invalid version flag");
+        final long major = readVarLong(in), minor = readVarLong(in), patch = readVarLong(in);
+        if ((major | minor | patch) < 0) throw new StreamCorruptedException("Invalid version number");
+        final String preRelease = (flag & PRE_RELEASE) != 0 ? readTag(in, true) : null;
+        final String build = (flag & BUILD) != 0 ? readTag(in, false) : null;
+        return SemVer.trusted(major, minor, patch, preRelease, build);
+    }
+
+    /**
+     * Decode {@link SemVer} after the flag byte has been read.
+     *
+     * @param flag Flag byte.
+     * @param buffer Source.
+     *
+     * @return Decoded version.
+     *
+     * @throws IllegalArgumentException If the data is not an encoded {@link SemVer}.
+     */
+    @Nonnull
+    private static SemVer readSemVer(int flag, @Nonnull ByteBuffer buffer) {
+        if ((flag & ~(PRE_RELEASE | BUILD | NODE_LOWER | NODE_OR_EQUALS)) != 0)
+            throw new IllegalArgumentException("Invalid version flag");
+        final long major = readVarLong(buffer), minor = readVarLong(buffer), patch = readVarLong(buffer);
+        if ((major | minor | patch) < 0) throw new IllegalArgumentException("Invalid version number");
+        final String preRelease = (flag & PRE_RELEASE) != 0 ? readTag(buffer, true) : null;
+        final String build = (flag & BUILD) != 0 ? readTag(buffer, false) : null;
+        return SemVer.trusted(major, minor, patch, preRelease, build);
+    }
+
+    /**
+     * Calculate encoded size of a variable length number.
+     *
+     * @param value Encoding number.
+     *
+     * @return Number of bytes.
+     */
+    private static int varLongSize(long value) {
+        return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    /**
+     * Calculate encoded size of a tag.
+     *
+     * @param tag Encoding tag, or <code>null</code>.
+     *
+     * @return Number of bytes.
+     */
+    private static int tagSize(@Nullable String tag) {
+        if (tag == null) return 0;
+        final int length = utf8Length(tag);
+        return varLongSize(length) + length;
+    }
+
+    /**
+     * Count UTF-8 encoded length of {@link String}.
+     *
+     * @param s A {@link String}.
+     *
+     * @return Encoded length, or <code>-1</code> if it contains non-ASCII characters.
+     */
+    private static int asciiLength(@Nonnull String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7f) return -1;
+        }
+        return s.length();
+    }
+
+    /**
+     * Count UTF-8 encoded length of {@link String}.
+     *
+     * @param s A {@link String}.
+     *
+     * @return Encoded length.
+     */
+    private static int utf8Length(@Nonnull String s) {
+        final int ascii = asciiLength(s);
+        return ascii >= 0 ? ascii : s.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Write a non-negative number in variable length.
+     *
+     * @param value Writing number.
+     * @param out Destination.
+     *
+     * @throws IOException If writing failed.
+     */
+    private static void writeVarLong(long value, @Nonnull DataOutput out) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Write a non-negative number in variable length.
+     *
+     * @param value Writing number.
+     * @param buffer Destination.
+     */
+    private static void writeVarLong(long value, @Nonnull ByteBuffer buffer) {
+        while ((value & ~0x7fL) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Read a number which is written by {@link #writeVarLong(long, DataOutput)}.
+     *
+     * @param in Source.
+     *
+     * @return Decoded number, which is negative if it is not less than <code>2^63</code>.
+     *
+     * @throws IOException If reading failed or the number exceeds 64 bits.
+     */
+    private static long readVarLong(@Nonnull DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = in.readUnsignedByte();
+            // The 10th byte only carries the highest bit.
+            if (shift == 63 && b > 1) break;
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new StreamCorruptedException("Variable length number exceeds 64 bits");
+    }
+
+    /**
+     * Read a number which is written by {@link #writeVarLong(long, ByteBuffer)}.
+     *
+     * @param buffer Source.
+     *
+     * @return Decoded number, which is negative if it is not less than <code>2^63</code>.
+     *
+     * @throws IllegalArgumentException If the number exceeds 64 bits.
+     */
+    private static long readVarLong(@Nonnull ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = buffer.get() & 0xff;
+            // The 10th byte only carries the highest bit.
+            if (shift == 63 && b > 1) break;
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Variable length number exceeds 64 bits");
+    }
+
+    /**
+     * Write a tag with encoded length.
+     *
+     * @param tag Writing tag.
+     * @param out Destination.
+     *
+     * @throws IOException If writing failed.
+     */
+    private static void writeTag(@Nonnull String tag, @Nonnull DataOutput out) throws IOException {
+        final int ascii = asciiLength(tag);
+        if (ascii >= 0) {
+            writeVarLong(ascii, out);
+            out.writeBytes(tag);
+        } else {
+            final byte[] encoded = tag.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(encoded.length, out);
+            out.write(encoded);
+        }
+    }
+
+    /**
+     * Write a tag with encoded length.
+     *
+     * @param tag Writing tag.
+     * @param buffer Destination.
+     */
+    private static void writeTag(@Nonnull String tag, @Nonnull ByteBuffer buffer) {
+        final int ascii = asciiLength(tag);
+        if (ascii >= 0) {
+            writeVarLong(ascii, buffer);
+            for (int i = 0; i < ascii; i++) buffer.put((byte) tag.charAt(i));
+        } else {
+            final byte[] encoded = tag.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(encoded.length, buffer);
+            buffer.put(encoded);
+        }
+    }
+
+    /**
+     * Read a tag with encoded length, which must be valid as {@link SemVer#SEMVER_REGEX}.
+     *
+     * @param in Source.
+     * @param preRelease <code>true</code> if it is a {@link SemVer#preRelease() pre-release} tag.
+     *
+     * @return Decoded tag.
+     *
+     * @throws IOException If reading failed, or invalid length or tag found.
+     */
+    @Nonnull
+    private static String readTag(@Nonnull DataInput in, boolean preRelease) throws IOException {
+        final long length = readVarLong(in);
+        if (length < 0 || length > MAX_TAG_LENGTH) throw new StreamCorruptedException("Invalid tag length");
+        final byte[] encoded = new byte[(int) length];
+        in.readFully(encoded);
+        if (!SemVerScanner.isTag(encoded, 0, encoded.length, preRelease))
+            throw new StreamCorruptedException("Invalid tag");
+        // Valid tag is ASCII.
+        return SemVerTagPool.tag(ByteBuffer.wrap(encoded), 0, encoded.length);
+    }
+
+    /**
+     * Read a tag with encoded length, which must be valid as {@link SemVer#SEMVER_REGEX}.
+     *
+     * @param buffer Source.
+     * @param preRelease <code>true</code> if it is a {@link SemVer#preRelease() pre-release} tag.
+     *
+     * @return Decoded tag.
+     *
+     * @throws IllegalArgumentException If invalid length or tag found.
+     */
+    @Nonnull
+    private static String readTag(@Nonnull ByteBuffer buffer, boolean preRelease) {
+        final long length = readVarLong(buffer);
+        if (length < 0 || length > Math.min(MAX_TAG_LENGTH, buffer.remaining()))
+            throw new IllegalArgumentException("Invalid tag length");
+        final int start = buffer.position(), end = start + (int) length;
+        if (!SemVerScanner.isTag(buffer, start, end, preRelease)) throw new IllegalArgumentException("Invalid tag");
+        // Valid tag is ASCII, which is decoded in place.
+        final String tag = SemVerTagPool.tag(buffer, start, end);
+        buffer.position(end);
+        return tag;
+    }
+}
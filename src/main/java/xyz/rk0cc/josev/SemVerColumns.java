@@ -0,0 +1,331 @@
+package xyz.rk0cc.josev;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar storage of versions which allows evaluating {@link SemVerRange} over many versions at once by
+ * {@link SemVerRange#evaluate(SemVerColumns)}.
+ * <br/>
+ * Each version is stored as {@link SemVer#major() major}, {@link SemVer#minor() minor} and {@link SemVer#patch() patch}
+ * number in separated <code>long[]</code>, with a mask of whether it has {@link SemVer#preRelease() pre-release} tag.
+ * Content of tags and {@link SemVer#build() build} tag are not stored, so that the result is the same as
+ * {@link SemVerRange#isInRange(SemVer)} of the version without build tag. Because the content of pre-release tag is
+ * unknown, ranges which bound by a version with pre-release tag can not be evaluated.
+ * <br/>
+ * If every number is less than <code>2^21</code>, numbers of each version are packed into a single <code>long</code>
+ * key when creating, so that evaluation compares one key per version with bounds in a branch-free loop, which produces
+ * 64 results per <code>long</code> of bitmap. Otherwise, numbers are compared column by column. When it is
+ * {@link #parallel() parallel} and contains at least {@link #PARALLEL_THRESHOLD} versions, bitmap is split into
+ * chunks and evaluated in {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+ * <br/>
+ * Arrays are not copied and must not be modified after creating columns.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerColumns {
+    /**
+     * Minimum number of versions to be evaluated in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Number of bitmap words evaluated by each parallel task.
+     */
+    private static final int CHUNK_WORDS = 256;
+
+    /**
+     * Number of bits of each number in {@link #keys}, which is the same layout of packed {@link SemVer}.
+     */
+    private static final int PACKED_BITS = 21;
+
+    private final long[] major, minor, patch;
+
+    /**
+     * Packed numbers of versions, or <code>null</code> if any number exceeds {@link #PACKED_BITS}.
+     */
+    private final long[] keys;
+
+    /**
+     * Bitmap of versions which have pre-release tag.
+     */
+    private final long[] preRelease;
+
+    private final int size;
+
+    private final boolean parallel;
+
+    private SemVerColumns(
+            long[] major,
+            long[] minor,
+            long[] patch,
+            long[] keys,
+            long[] preRelease,
+            int size,
+            boolean parallel
+    ) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.keys = keys;
+        this.preRelease = preRelease;
+        this.size = size;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Create columns from arrays. The <code>i</code>-th version is <code>major[i].minor[i].patch[i]</code>.
+     *
+     * @param major Non-negative major numbers.
+     * @param minor Non-negative minor numbers.
+     * @param patch Non-negative patch numbers.
+     * @param preRelease Set bit <code>i</code> if the <code>i</code>-th version has pre-release tag.
+     *
+     * @throws IllegalArgumentException If arrays have different length, or any bit of <code>preRelease</code> is out
+     *                                  of versions.
+     */
+    public SemVerColumns(
+            @Nonnull long[] major,
+            @Nonnull long[] minor,
+            @Nonnull long[] patch,
+            @Nonnull BitSet preRelease
+    ) {
+        this(
+                major,
+                minor,
+                patch,
+                minor.length == major.length && patch.length == major.length ? keys(major, minor, patch) : null,
+                words(preRelease, major.length),
+                major.length,
+                false
+        );
+        if (minor.length != size || patch.length != size)
+            throw new IllegalArgumentException("Length of columns are different");
+        if (preRelease.length() > size)
+            throw new IllegalArgumentException("Pre-release mask exceeds number of versions");
+    }
+
+    /**
+     * Copy versions to columns.
+     *
+     * @param semVers Versions.
+     *
+     * @return Sequential columns of <code>semVers</code> in iteration order.
+     */
+    @Nonnull
+    public static SemVerColumns of(@Nonnull Collection<? extends SemVer> semVers) {
+        final int size = semVers.size();
+        final long[] major = new long[size], minor = new long[size], patch = new long[size];
+        final long[] preRelease = new long[wordCount(size)];
+        int i = 0;
+        for (SemVer v : semVers) {
+            major[i] = v.major();
+            minor[i] = v.minor();
+            patch[i] = v.patch();
+            if (v.preRelease() != null) preRelease[i >>> 6] |= 1L << i;
+            i++;
+        }
+        return new SemVerColumns(major, minor, patch, keys(major, minor, patch), preRelease, size, false);
+    }
+
+    /**
+     * Pack numbers of each version.
+     *
+     * @return Packed keys, or <code>null</code> if any number can not be packed.
+     */
+    private static long[] keys(@Nonnull long[] major, @Nonnull long[] minor, @Nonnull long[] patch) {
+        final long[] keys = new long[major.length];
+        for (int i = 0; i < keys.length; i++) {
+            final long key = pack(major[i], minor[i], patch[i]);
+            if (key < 0) return null;
+            keys[i] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * Pack numbers which has the same order of comparing numbers in order.
+     *
+     * @return Packed numbers, or <code>-1</code> if any number can not be packed.
+     */
+    private static long pack(long major, long minor, long patch) {
+        if (((major | minor | patch) >>> PACKED_BITS) != 0) return -1;
+        return major << (PACKED_BITS * 2) | minor << PACKED_BITS | patch;
+    }
+
+    private static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    @Nonnull
+    private static long[] words(@Nonnull BitSet bits, int size) {
+        final long[] words = new long[wordCount(size)];
+        final long[] set = bits.toLongArray();
+        System.arraycopy(set, 0, words, 0, Math.min(set.length, words.length));
+        return words;
+    }
+
+    /**
+     * Number of versions.
+     *
+     * @return Number of versions.
+     */
+    @Nonnegative
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determine evaluation may be split across cores.
+     *
+     * @return <code>true</code> if parallel.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Get the same columns which evaluated in parallel if it is large enough.
+     *
+     * @return Parallel columns sharing the same arrays.
+     */
+    @Nonnull
+    public SemVerColumns parallel() {
+        return parallel ? this : new SemVerColumns(major, minor, patch, keys, preRelease, size, true);
+    }
+
+    /**
+     * Get the same columns which evaluated in current thread.
+     *
+     * @return Sequential columns sharing the same arrays.
+     */
+    @Nonnull
+    public SemVerColumns sequential() {
+        return parallel ? new SemVerColumns(major, minor, patch, keys, preRelease, size, false) : this;
+    }
+
+    /**
+     * Evaluate bounds over all versions.
+     *
+     * @param start Start node, <code>null</code> if unbounded.
+     * @param end End node, <code>null</code> if unbounded.
+     *
+     * @return Bitmap of versions in range, which has one <code>long</code> per 64 versions.
+     *
+     * @throws IllegalArgumentException If any node has pre-release tag.
+     */
+    @Nonnull
+    long[] evaluate(SemVerRangeNode start, SemVerRangeNode end) {
+        if ((start != null && start.semVer().preRelease() != null)
+                || (end != null && end.semVer().preRelease() != null))
+            throw new IllegalArgumentException("Range bounded with pre-release tag can not be evaluated over columns");
+
+        final long[] result = new long[wordCount(size)];
+        final Bounds bounds = new Bounds(start, end);
+        if (parallel && size >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, (result.length + CHUNK_WORDS - 1) / CHUNK_WORDS).parallel().forEach(chunk -> {
+                final int from = chunk * CHUNK_WORDS;
+                evaluate(bounds, result, from, Math.min(from + CHUNK_WORDS, result.length));
+            });
+        } else evaluate(bounds, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Evaluate words of bitmap from <code>fromWord</code> (inclusive) to <code>toWord</code> (exclusive).
+     * <br/>
+     * Versions of each word are visited backward, so that results are shifted into bitmap without variable shift.
+     * Results of greater than start and the same group of start are collected separately, and pre-release mask is
+     * applied to the latter once per word since only the exact version without tag is equal to start.
+     */
+    private void evaluate(@Nonnull Bounds b, @Nonnull long[] result, int fromWord, int toWord) {
+        final long[] keys = this.keys;
+        final long inclusive = b.startInclusive ? -1L : 0L;
+        final long unboundedEnd = b.unboundedEnd ? Long.MIN_VALUE : 0L;
+        // Unbounded start is -1 which is lower than any key.
+        final long startKey = b.unboundedStart ? -1L : pack(b.startMajor, b.startMinor, b.startPatch);
+        final long endKey = b.unboundedEnd ? 0L : pack(b.endMajor, b.endMinor, b.endPatch);
+        if (keys == null || (!b.unboundedStart && startKey < 0) || (!b.unboundedEnd && endKey < 0)) {
+            evaluateColumns(b, result, fromWord, toWord, inclusive, unboundedEnd);
+            return;
+        }
+
+        for (int w = fromWord; w < toWord; w++) {
+            final int base = w << 6;
+            long greater = 0, same = 0;
+            for (int i = Math.min(base + 64, size) - 1; i >= base; i--) {
+                final long key = keys[i];
+                // End without pre-release excludes the whole version group.
+                final long before = ((key - endKey) | unboundedEnd) >>> 63;
+                greater = greater << 1 | (((startKey - key) >>> 63) & before);
+                same = same << 1 | ((key == startKey ? 1L : 0L) & before);
+            }
+            result[w] = greater | (same & inclusive & ~preRelease[w]);
+        }
+    }
+
+    /**
+     * Evaluate by comparing each column of numbers when they can not be packed.
+     * <br/>
+     * Version group is compared by <code>4 * compare(major) + 2 * compare(minor) + compare(patch)</code>, which has the
+     * same sign of comparing numbers in order.
+     */
+    private void evaluateColumns(
+            @Nonnull Bounds b,
+            @Nonnull long[] result,
+            int fromWord,
+            int toWord,
+            long inclusive,
+            long unboundedEnd
+    ) {
+        final long unboundedStart = b.unboundedStart ? Long.MIN_VALUE : 0L;
+        for (int w = fromWord; w < toWord; w++) {
+            final int base = w << 6;
+            long greater = 0, same = 0;
+            for (int i = Math.min(base + 64, size) - 1; i >= base; i--) {
+                final long afterStart = 4 * compare(major[i], b.startMajor)
+                        + 2 * compare(minor[i], b.startMinor)
+                        + compare(patch[i], b.startPatch);
+                final long before = ((4 * compare(major[i], b.endMajor)
+                        + 2 * compare(minor[i], b.endMinor)
+                        + compare(patch[i], b.endPatch)) | unboundedEnd) >>> 63;
+                greater = greater << 1 | (((-afterStart | unboundedStart) >>> 63) & before);
+                same = same << 1 | ((afterStart == 0 ? 1L : 0L) & before);
+            }
+            result[w] = greater | (same & inclusive & ~preRelease[w]);
+        }
+    }
+
+    /**
+     * Compare non-negative numbers by arithmetic, since subtracting them never overflows.
+     *
+     * @return <code>-1</code>, <code>0</code> or <code>1</code>.
+     */
+    private static long compare(long a, long b) {
+        return ((b - a) >>> 63) - ((a - b) >>> 63);
+    }
+
+    /**
+     * Numbers of range nodes which are read in evaluation loop.
+     */
+    private static final class Bounds {
+        final boolean unboundedStart, unboundedEnd, startInclusive;
+        final long startMajor, startMinor, startPatch, endMajor, endMinor, endPatch;
+
+        Bounds(SemVerRangeNode start, SemVerRangeNode end) {
+            unboundedStart = start == null;
+            unboundedEnd = end == null;
+            // Version without build tag is lower than start with build tag in the same group.
+            startInclusive = start != null && start.orEquals() && start.semVer().build() == null;
+            startMajor = start == null ? 0 : start.semVer().major();
+            startMinor = start == null ? 0 : start.semVer().minor();
+            startPatch = start == null ? 0 : start.semVer().patch();
+            endMajor = end == null ? 0 : end.semVer().major();
+            endMinor = end == null ? 0 : end.semVer().minor();
+            endPatch = end == null ? 0 : end.semVer().patch();
+        }
+    }
+}
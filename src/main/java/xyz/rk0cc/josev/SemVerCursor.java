@@ -0,0 +1,305 @@
+package xyz.rk0cc.josev;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A lazy reader of Semantic Versioning from {@link CharSequence}, which scans each part only when it is required for
+ * comparison.
+ * <br/>
+ * Numbers are read in order of major, minor and patch, and tags are located only after all numbers are read. Once the
+ * result of comparison is decided, the remained characters are never visited, and no {@link SemVer} or {@link String}
+ * of tag is created. It also backs {@link SemVer#lazyParse(String)}, which keeps locations of tags only.
+ *
+ * @since 3.3.0
+ */
+final class SemVerCursor {
+    /**
+     * Maximum digits which can not overflow {@link Long}.
+     */
+    private static final int SAFE_DIGITS = 18;
+
+    private final CharSequence input;
+
+    private final int length;
+
+    /**
+     * Position of the next unread {@link Character}.
+     */
+    private int position;
+
+    /**
+     * Numbers which have been read, in order of major, minor and patch.
+     */
+    private long major, minor, patch;
+
+    /**
+     * Number of numbers read.
+     */
+    private int numbers;
+
+    /**
+     * Ranges of tags, which starts are <code>-1</code> if the tag is absent.
+     */
+    private int preReleaseStart = -1, preReleaseEnd, buildStart = -1, buildEnd;
+
+    private boolean tagged;
+
+    /**
+     * Start reading a version.
+     *
+     * @param input Version, which leading '<code>v</code>' will be omitted.
+     */
+    SemVerCursor(@Nonnull CharSequence input) {
+        this.input = input;
+        this.length = input.length();
+        this.position = length > 0 && input.charAt(0) == 'v' ? 1 : 0;
+    }
+
+    /**
+     * Get number of version.
+     *
+     * @param index <code>0</code> for major, <code>1</code> for minor and <code>2</code> for patch.
+     *
+     * @return The number.
+     *
+     * @throws NonStandardSemVerException If any number until <code>index</code> is malformed.
+     */
+    long number(@Nonnegative int index) throws NonStandardSemVerException {
+        while (numbers <= index) {
+            if (numbers > 0) {
+                if (position >= length || input.charAt(position) != '.') throw malformed();
+                position++;
+            }
+            final long value = readNumber();
+            switch (numbers++) {
+                case 0 -> major = value;
+                case 1 -> minor = value;
+                default -> patch = value;
+            }
+        }
+        return switch (index) {
+            case 0 -> major;
+            case 1 -> minor;
+            default -> patch;
+        };
+    }
+
+    /**
+     * Read a number without leading zero.
+     *
+     * @return The number.
+     *
+     * @throws NonStandardSemVerException If it is empty, leading with zero or overflow.
+     */
+    private long readNumber() throws NonStandardSemVerException {
+        final int start = position;
+        long value = 0;
+        while (position < length) {
+            final char c = input.charAt(position);
+            if (c < '0' || c > '9') break;
+            final int digit = c - '0';
+            if (position - start >= SAFE_DIGITS && value > (Long.MAX_VALUE - digit) / 10) throw malformed();
+            value = value * 10 + digit;
+            position++;
+        }
+        final int digits = position - start;
+        if (digits == 0 || (digits > 1 && input.charAt(start) == '0')) throw malformed();
+        return value;
+    }
+
+    /**
+     * Read the whole version.
+     *
+     * @throws NonStandardSemVerException If any part is malformed.
+     */
+    void validate() throws NonStandardSemVerException {
+        tags();
+    }
+
+    /**
+     * Read the whole version and create {@link SemVer} which tags are decoded from the input on demand.
+     *
+     * @return Parsed {@link SemVer}.
+     *
+     * @throws NonStandardSemVerException If any part is malformed.
+     */
+    @Nonnull
+    SemVer toSemVer() throws NonStandardSemVerException {
+        tags();
+        if (preReleaseStart < 0 && buildStart < 0) return SemVer.trusted(major, minor, patch, null, null);
+        return SemVer.trusted(
+                major,
+                minor,
+                patch,
+                input.toString(),
+                preReleaseStart,
+                preReleaseEnd,
+                buildStart,
+                buildEnd
+        );
+    }
+
+    /**
+     * Locate and validate tags, which requires all numbers have been read.
+     *
+     * @throws NonStandardSemVerException If tags are malformed or unexpected characters remained.
+     */
+    private void tags() throws NonStandardSemVerException {
+        if (tagged) return;
+        number(2);
+
+        if (position < length && input.charAt(position) == '-') {
+            preReleaseStart = position + 1;
+            preReleaseEnd = position = tag(preReleaseStart, true);
+        }
+        if (position < length && input.charAt(position) == '+') {
+            buildStart = position + 1;
+            buildEnd = position = tag(buildStart, false);
+        }
+        if (position != length) throw malformed();
+        tagged = true;
+    }
+
+    /**
+     * Validate dot-separated identifiers of a tag.
+     *
+     * @param p Position of the first identifier.
+     * @param preRelease <code>true</code> if numeric identifiers must not have leading zero.
+     *
+     * @return Position after the tag.
+     *
+     * @throws NonStandardSemVerException If the tag is malformed.
+     */
+    private int tag(int p, boolean preRelease) throws NonStandardSemVerException {
+        while (true) {
+            final int start = p;
+            boolean numeric = true;
+            while (p < length) {
+                final char c = input.charAt(p);
+                if (c >= '0' && c <= '9') p++;
+                else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-') {
+                    numeric = false;
+                    p++;
+                } else break;
+            }
+            if (p == start) throw malformed();
+            if (preRelease && numeric && p - start > 1 && input.charAt(start) == '0') throw malformed();
+            if (p < length && input.charAt(p) == '.') p++;
+            else return p;
+        }
+    }
+
+    @Nonnull
+    private NonStandardSemVerException malformed() {
+        return new NonStandardSemVerException(
+                input.toString(),
+                new AssertionError("Does not match the pattern of Semantic Versioning")
+        );
+    }
+
+    /**
+     * Compare numbers only, which is the same as comparing {@link SemVer#isSameVersionGroup(SemVer) version group}.
+     *
+     * @param o Comparing version.
+     *
+     * @return Negative, zero or positive if this version group is lower, same or greater than <code>o</code>.
+     *
+     * @throws NonStandardSemVerException If any read number is malformed.
+     */
+    int compareNumbers(@Nonnull SemVer o) throws NonStandardSemVerException {
+        int c = Long.compare(number(0), o.major());
+        if (c != 0) return c;
+        c = Long.compare(number(1), o.minor());
+        if (c != 0) return c;
+        return Long.compare(number(2), o.patch());
+    }
+
+    /**
+     * Compare with a {@link SemVer}, which is consistent with {@link SemVer#compareTo(SemVer)}.
+     *
+     * @param o Comparing version.
+     *
+     * @return <code>-1</code>, <code>0</code> or <code>1</code>.
+     *
+     * @throws NonStandardSemVerException If any read part is malformed.
+     */
+    int compareTo(@Nonnull SemVer o) throws NonStandardSemVerException {
+        final int c = compareNumbers(o);
+        if (c != 0) return c > 0 ? 1 : -1;
+        tags();
+        return compareTags(
+                compareRange(buildStart, buildEnd, o.build()),
+                compareRange(preReleaseStart, preReleaseEnd, o.preRelease())
+        );
+    }
+
+    /**
+     * Compare two versions, which is consistent with {@link SemVer#compareTo(SemVer)}.
+     *
+     * @param o Comparing version.
+     *
+     * @return <code>-1</code>, <code>0</code> or <code>1</code>.
+     *
+     * @throws NonStandardSemVerException If any read part is malformed.
+     */
+    int compareTo(@Nonnull SemVerCursor o) throws NonStandardSemVerException {
+        for (int i = 0; i < 3; i++) {
+            final int c = Long.compare(number(i), o.number(i));
+            if (c != 0) return c > 0 ? 1 : -1;
+        }
+        tags();
+        o.tags();
+        return compareTags(
+                compareRange(buildStart, buildEnd, o, o.buildStart, o.buildEnd),
+                compareRange(preReleaseStart, preReleaseEnd, o, o.preReleaseStart, o.preReleaseEnd)
+        );
+    }
+
+    /**
+     * Combine comparison of tags as {@link SemVer#compareTo(SemVer)} does.
+     *
+     * @param build Result of build comparison, which absent is the lowest.
+     * @param preRelease Result of pre-release comparison, which absent is the lowest.
+     *
+     * @return <code>-1</code>, <code>0</code> or <code>1</code>.
+     */
+    private static int compareTags(int build, int preRelease) {
+        if (build != 0) return build > 0 ? 1 : -1;
+        // Pre-release is reversed, and absent is the greatest.
+        return Integer.compare(0, preRelease);
+    }
+
+    /**
+     * Compare a range of this input with a tag, in the order of {@link String#compareTo(String)}.
+     *
+     * @return Comparison result, which absent tag is lower than any tag.
+     */
+    private int compareRange(int start, int end, @Nullable String tag) {
+        if (start < 0) return tag == null ? 0 : -1;
+        if (tag == null) return 1;
+        final int n = Math.min(end - start, tag.length());
+        for (int i = 0; i < n; i++) {
+            final int c = input.charAt(start + i) - tag.charAt(i);
+            if (c != 0) return c;
+        }
+        return (end - start) - tag.length();
+    }
+
+    /**
+     * Compare a range of this input with a range of another input, in the order of {@link String#compareTo(String)}.
+     *
+     * @return Comparison result, which absent tag is lower than any tag.
+     */
+    private int compareRange(int start, int end, @Nonnull SemVerCursor o, int oStart, int oEnd) {
+        if (start < 0) return oStart < 0 ? 0 : -1;
+        if (oStart < 0) return 1;
+        final int n = Math.min(end - start, oEnd - oStart);
+        for (int i = 0; i < n; i++) {
+            final int c = input.charAt(start + i) - o.input.charAt(oStart + i);
+            if (c != 0) return c;
+        }
+        return (end - start) - (oEnd - oStart);
+    }
+}
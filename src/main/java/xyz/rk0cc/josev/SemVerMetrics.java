@@ -0,0 +1,332 @@
+package xyz.rk0cc.josev;
+
+import xyz.rk0cc.josev.constraint.ConstraintPattern;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of {@link SemVerMetricsListener} for observing version handling of this library.
+ * <br/>
+ * No listener is registered by default, which every hook only costs a single field read and does not measure time.
+ * Host application can either implement {@link SemVerMetricsListener} to forward events to its own metrics system
+ * directly, or register {@link Counters} and export the numbers periodically.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerMetrics {
+    /**
+     * Current listener, <code>null</code> if disabled.
+     */
+    private static volatile SemVerMetricsListener listener;
+
+    private SemVerMetrics() {}
+
+    /**
+     * Register a listener which replacing the previous one.
+     *
+     * @param listener A listener for receiving metrics.
+     */
+    public static void register(@Nonnull SemVerMetricsListener listener) {
+        SemVerMetrics.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Remove registered listener, and stop collecting metrics.
+     */
+    public static void unregister() {
+        listener = null;
+    }
+
+    /**
+     * Get registered listener.
+     * <br/>
+     * It is also used by hooks of this library, which should be read once into local variable before calling.
+     *
+     * @return Current listener, or <code>null</code> if metrics is disabled.
+     */
+    @Nullable
+    public static SemVerMetricsListener listener() {
+        return listener;
+    }
+
+    /**
+     * Reasons of {@link SemVer#parse(String)} rejected the input.
+     */
+    public enum ParseFailure {
+        /**
+         * Input is empty.
+         */
+        EMPTY,
+        /**
+         * Major, minor and patch are not three numbers separated by dot.
+         */
+        MALFORMED_CORE,
+        /**
+         * Numeric part starts with <code>0</code>.
+         */
+        LEADING_ZERO,
+        /**
+         * Major, minor or patch exceeds {@link Long#MAX_VALUE}.
+         */
+        NUMBER_OVERFLOW,
+        /**
+         * Pre-release tag contains invalid identifier.
+         */
+        INVALID_PRE_RELEASE,
+        /**
+         * Build tag contains invalid identifier.
+         */
+        INVALID_BUILD
+    }
+
+    /**
+     * Caches which reports hit and miss.
+     */
+    public enum Cache {
+        /**
+         * {@link xyz.rk0cc.josev.collections.SemVerResolutionCache}
+         */
+        RESOLUTION,
+        /**
+         * {@link xyz.rk0cc.josev.constraint.SemVerConstraintCache}
+         */
+        CONSTRAINT
+    }
+
+    /**
+     * Find the reason of a version {@link String} that rejected by parser.
+     * <br/>
+     * It only be called when parsing is failed and listener is registered. Pre-release and build tag are validated
+     * separately by the same rules of parser, so that a valid tag is never blamed.
+     *
+     * @param version Rejected version, which may have leading '<code>v</code>'.
+     *
+     * @return Reason of rejection.
+     */
+    @Nonnull
+    static ParseFailure classify(@Nonnull String version) {
+        if (!version.isEmpty() && version.charAt(0) == 'v') version = version.substring(1);
+        if (version.isEmpty()) return ParseFailure.EMPTY;
+
+        final int pre = version.indexOf('-'), build = version.indexOf('+');
+        final boolean hasPre = pre >= 0 && (build < 0 || pre < build);
+        final int coreEnd = hasPre ? pre : build >= 0 ? build : version.length();
+        final String[] core = version.substring(0, coreEnd).split("\\.", -1);
+        if (core.length != 3) return ParseFailure.MALFORMED_CORE;
+        for (String n : core) {
+            if (n.isEmpty() || !n.chars().allMatch(c -> c >= '0' && c <= '9')) return ParseFailure.MALFORMED_CORE;
+        }
+        for (String n : core) {
+            if (n.length() > 1 && n.charAt(0) == '0') return ParseFailure.LEADING_ZERO;
+        }
+        for (String n : core) {
+            try {
+                Long.parseLong(n);
+            } catch (NumberFormatException e) {
+                return ParseFailure.NUMBER_OVERFLOW;
+            }
+        }
+
+        // Non-ASCII characters are never valid in tags, which remain invalid in ISO-8859-1.
+        final byte[] bytes = version.getBytes(StandardCharsets.ISO_8859_1);
+        final int preEnd = build >= 0 ? build : bytes.length;
+        if (hasPre && !SemVerScanner.isTag(bytes, pre + 1, preEnd, true)) return ParseFailure.INVALID_PRE_RELEASE;
+        if (build >= 0 && !SemVerScanner.isTag(bytes, build + 1, bytes.length, false))
+            return ParseFailure.INVALID_BUILD;
+        return ParseFailure.MALFORMED_CORE;
+    }
+
+    /**
+     * A {@link SemVerMetricsListener} which accumulates metrics into {@link LongAdder}, which can be updated by many
+     * threads without contention.
+     */
+    public static final class Counters implements SemVerMetricsListener {
+        /**
+         * Number of parse calls and total time spent in nanoseconds.
+         */
+        private final LongAdder parses = new LongAdder(), parseNanos = new LongAdder();
+
+        /**
+         * Number of range evaluations and evaluations which version is in range.
+         */
+        private final LongAdder evaluations = new LongAdder(), inRanges = new LongAdder();
+
+        /**
+         * Number of failed parsing of each reason.
+         */
+        private final EnumMap<ParseFailure, LongAdder> failures = new EnumMap<>(ParseFailure.class);
+
+        /**
+         * Number of hit and miss of each cache.
+         */
+        private final EnumMap<Cache, LongAdder> hits = new EnumMap<>(Cache.class), misses = new EnumMap<>(Cache.class);
+
+        /**
+         * Number of constructed constraints of each pattern.
+         */
+        private final ConcurrentHashMap<ConstraintPattern<?>, LongAdder> constraints = new ConcurrentHashMap<>();
+
+        /**
+         * Create counters with all values are zero.
+         */
+        public Counters() {
+            for (ParseFailure f : ParseFailure.values()) failures.put(f, new LongAdder());
+            for (Cache c : Cache.values()) {
+                hits.put(c, new LongAdder());
+                misses.put(c, new LongAdder());
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void parsed(long nanos) {
+            parses.increment();
+            parseNanos.add(nanos);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void parseFailed(@Nonnull ParseFailure reason, long nanos) {
+            parses.increment();
+            parseNanos.add(nanos);
+            failures.get(reason).increment();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void constraintParsed(@Nonnull ConstraintPattern<?> pattern) {
+            constraints.computeIfAbsent(pattern, p -> new LongAdder()).increment();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void rangeEvaluated(boolean inRange) {
+            evaluations.increment();
+            if (inRange) inRanges.increment();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cacheAccessed(@Nonnull Cache cache, boolean hit) {
+            (hit ? hits : misses).get(cache).increment();
+        }
+
+        /**
+         * Number of {@link SemVer#parse(String)} called, including failed.
+         *
+         * @return Total parse calls.
+         */
+        @Nonnegative
+        public long parses() {
+            return parses.sum();
+        }
+
+        /**
+         * Total time spent in {@link SemVer#parse(String)}.
+         *
+         * @return Elapsed time in nanoseconds.
+         */
+        @Nonnegative
+        public long parseNanos() {
+            return parseNanos.sum();
+        }
+
+        /**
+         * Number of failed parsing with given reason.
+         *
+         * @param reason Reason of failure.
+         *
+         * @return Total failures of the reason.
+         */
+        @Nonnegative
+        public long parseFailures(@Nonnull ParseFailure reason) {
+            return failures.get(reason).sum();
+        }
+
+        /**
+         * Number of constructed constraints of each pattern.
+         *
+         * @return An unmodifiable {@link Map} of counts by {@link ConstraintPattern}.
+         */
+        @Nonnull
+        public Map<ConstraintPattern<?>, Long> constraintParses() {
+            final HashMap<ConstraintPattern<?>, Long> counts = new HashMap<>();
+            constraints.forEach((p, c) -> counts.put(p, c.sum()));
+            return Collections.unmodifiableMap(counts);
+        }
+
+        /**
+         * Number of {@link SemVerRange#isInRange(SemVer)} called.
+         *
+         * @return Total evaluations.
+         */
+        @Nonnegative
+        public long rangeEvaluations() {
+            return evaluations.sum();
+        }
+
+        /**
+         * Number of {@link SemVerRange#isInRange(SemVer)} returned <code>true</code>.
+         *
+         * @return Total evaluations which version is in range.
+         */
+        @Nonnegative
+        public long rangeMatches() {
+            return inRanges.sum();
+        }
+
+        /**
+         * Number of cache hit.
+         *
+         * @param cache Type of cache.
+         *
+         * @return Total lookups which reused cached result.
+         */
+        @Nonnegative
+        public long cacheHits(@Nonnull Cache cache) {
+            return hits.get(cache).sum();
+        }
+
+        /**
+         * Number of cache miss.
+         *
+         * @param cache Type of cache.
+         *
+         * @return Total lookups which resolved again.
+         */
+        @Nonnegative
+        public long cacheMisses(@Nonnull Cache cache) {
+            return misses.get(cache).sum();
+        }
+
+        /**
+         * Reset all counters to zero.
+         */
+        public void reset() {
+            parses.reset();
+            parseNanos.reset();
+            evaluations.reset();
+            inRanges.reset();
+            failures.values().forEach(LongAdder::reset);
+            hits.values().forEach(LongAdder::reset);
+            misses.values().forEach(LongAdder::reset);
+            constraints.clear();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package xyz.rk0cc.josev;
+
+import xyz.rk0cc.josev.constraint.ConstraintPattern;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Receive counts and timings of version handling for feeding into metrics system of host application.
+ * <br/>
+ * All methods are no-op by default, and it may be called from multiple threads concurrently. Since they are called
+ * inside the hot path, implementations should return as soon as possible without blocking.
+ *
+ * @since 3.3.0
+ *
+ * @see SemVerMetrics#register(SemVerMetricsListener)
+ */
+public interface SemVerMetricsListener {
+    /**
+     * {@link SemVer#parse(String)} returned a version successfully.
+     *
+     * @param nanos Elapsed time of parsing in nanoseconds.
+     */
+    default void parsed(@Nonnegative long nanos) {}
+
+    /**
+     * {@link SemVer#parse(String)} rejected the input.
+     *
+     * @param reason Reason of rejection.
+     * @param nanos Elapsed time of parsing in nanoseconds.
+     */
+    default void parseFailed(@Nonnull SemVerMetrics.ParseFailure reason, @Nonnegative long nanos) {}
+
+    /**
+     * A {@link xyz.rk0cc.josev.constraint.SemVerConstraint} is constructed by its parser.
+     *
+     * @param pattern Applied pattern of the constraint.
+     */
+    default void constraintParsed(@Nonnull ConstraintPattern<?> pattern) {}
+
+    /**
+     * {@link SemVerRange#isInRange(SemVer)} evaluated a version.
+     *
+     * @param inRange Result of evaluation.
+     */
+    default void rangeEvaluated(boolean inRange) {}
+
+    /**
+     * A cache in this library is looked up.
+     *
+     * @param cache Type of cache.
+     * @param hit <code>true</code> if cached result is reused.
+     */
+    default void cacheAccessed(@Nonnull SemVerMetrics.Cache cache, boolean hit) {}
+}
@@ -0,0 +1,50 @@
+package xyz.rk0cc.josev;
+
+import jdk.jfr.*;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Flight recorder event of {@link SemVer#parse(String)} which exceeded the threshold.
+ *
+ * @since 3.3.0
+ */
+@Name("xyz.rk0cc.josev.SemVerParse")
+@Label("SemVer Parse")
+@Description("Parsing a version string which is slower than threshold")
+@Category({"JOSEV", "Parsing"})
+@Threshold("1 ms")
+@StackTrace(false)
+final class SemVerParseEvent extends Event {
+    /**
+     * Maximum length of {@link #input} to be recorded.
+     */
+    static final int MAX_INPUT_LENGTH = 256;
+
+    @Label("Input")
+    @Description("Parsed version string, which is truncated if too long")
+    String input;
+
+    @Label("Length")
+    int length;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Failure Reason")
+    String failure;
+
+    /**
+     * Fill fields of the event.
+     *
+     * @param version Parsed version.
+     * @param failure Reason of failure, or <code>null</code> if succeed.
+     */
+    void record(@Nonnull String version, @Nullable SemVerMetrics.ParseFailure failure) {
+        this.input = version.length() > MAX_INPUT_LENGTH ? version.substring(0, MAX_INPUT_LENGTH) : version;
+        this.length = version.length();
+        this.success = failure == null;
+        this.failure = failure == null ? null : failure.name();
+    }
+}
@@ -1,7 +1,9 @@
 package xyz.rk0cc.josev;
 
 import javax.annotation.Nonnull;
+import java.io.Serial;
 import java.io.Serializable;
+import java.util.BitSet;
 
 /**
  * Define range of the {@link SemVer}.
@@ -21,6 +23,21 @@ public class SemVerRange implements Serializable, SemVerDetermineInRange {
      */
     private final SemVerRangeNode start, end;
 
+    /**
+     * Whether {@link #isInRange(CharSequence)} can compare lazily and {@link #evaluate(SemVerColumns)} is supported,
+     * which is <code>false</code> when {@link #isInRange(SemVer)} is overridden.
+     */
+    private static final ClassValue<Boolean> LAZY_EVALUATION = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("isInRange", SemVer.class).getDeclaringClass() == SemVerRange.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /**
      * Create new range definition of {@link SemVer}.
      *
@@ -76,13 +93,135 @@ public class SemVerRange implements Serializable, SemVerDetermineInRange {
         if (beforeEnd && end() != null && end().semVer().isSameVersionGroup(semVer))
             beforeEnd = end().semVer().preRelease() != null;
 
-        return afterStart && beforeEnd;
+        final boolean inRange = afterStart && beforeEnd;
+        final SemVerMetricsListener metrics = SemVerMetrics.listener();
+        if (metrics != null) metrics.rangeEvaluated(inRange);
+        return inRange;
     }
 
     /**
      * {@inheritDoc}
+     * <br/>
+     * Unlike {@link #isInRange(CharSequence)}, the whole version is always validated, but it is compared without
+     * parsing to {@link SemVer} unless the subclass overrides {@link #isInRange(SemVer)}.
      */
     public final boolean isInRange(@Nonnull String semVer) throws NonStandardSemVerException {
-        return SemVerDetermineInRange.super.isInRange(semVer);
+        return isInRange(semVer, true);
+    }
+
+    /**
+     * Determine a version in {@link CharSequence} is in range without parsing to {@link SemVer}.
+     * <br/>
+     * The version is scanned lazily and compared with {@link #start()} and {@link #end()} directly, which returns once
+     * the version is out of range. For example, <code>3.0.0-anything</code> is out of range <code>^1.2.0</code> when
+     * reading major number only. As a result, malformed parts after the deciding number are not validated when it
+     * returns <code>false</code>, but the whole version is always validated before returning <code>true</code>.
+     * <br/>
+     * If the subclass overrides {@link #isInRange(SemVer)}, the version is {@link SemVer#parse(String) parsed} and
+     * passes to the overridden method instead.
+     *
+     * @param semVer Version in {@link CharSequence}.
+     *
+     * @return <code>true</code> if in range.
+     *
+     * @throws NonStandardSemVerException If any part of the version which is read for comparison is malformed, or the
+     *                                    version is malformed but in range.
+     *
+     * @since 3.3.0
+     */
+    public boolean isInRange(@Nonnull CharSequence semVer) throws NonStandardSemVerException {
+        return isInRange(semVer, false);
+    }
+
+    /**
+     * Compare version in {@link CharSequence} with nodes lazily.
+     *
+     * @param semVer Version in {@link CharSequence}.
+     * @param strict Validate the whole version even it is out of range.
+     *
+     * @return <code>true</code> if in range.
+     *
+     * @throws NonStandardSemVerException If the version is malformed, or only the part which is read for comparison if
+     *                                    it is not strict and out of range.
+     */
+    private boolean isInRange(@Nonnull CharSequence semVer, boolean strict) throws NonStandardSemVerException {
+        if (!LAZY_EVALUATION.get(getClass())) return isInRange(SemVer.parse(semVer.toString()));
+
+        final SemVerCursor cursor = new SemVerCursor(semVer);
+        boolean inRange = start() == null || (start().orEquals()
+                ? cursor.compareTo(start().semVer()) >= 0
+                : cursor.compareTo(start().semVer()) > 0);
+
+        if (inRange && end() != null) {
+            final int group = cursor.compareNumbers(end().semVer());
+            if (group == 0 && end().semVer().preRelease() == null) inRange = false;
+            else if (group == 0) inRange = end().orEquals()
+                    ? cursor.compareTo(end().semVer()) <= 0
+                    : cursor.compareTo(end().semVer()) < 0;
+            else inRange = group < 0;
+        }
+        // Never accept malformed version.
+        if (inRange || strict) cursor.validate();
+
+        final SemVerMetricsListener metrics = SemVerMetrics.listener();
+        if (metrics != null) metrics.rangeEvaluated(inRange);
+        return inRange;
+    }
+
+    /**
+     * Evaluate this range over all versions of columns, which is much faster than calling
+     * {@link #isInRange(SemVer)} for each version.
+     * <br/>
+     * Result of each version is the same as {@link #isInRange(SemVer)} of the version without
+     * {@link SemVer#build() build} tag. Evaluations are not reported to {@link SemVerMetrics}.
+     *
+     * @param columns Versions in columns.
+     *
+     * @return A {@link BitSet} which bit <code>i</code> is set if the <code>i</code>-th version is in range.
+     *
+     * @throws IllegalArgumentException If {@link #start()} or {@link #end()} has pre-release tag, which can not be
+     *                                  compared with columns.
+     * @throws UnsupportedOperationException If the subclass overrides {@link #isInRange(SemVer)}.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    public final BitSet evaluate(@Nonnull SemVerColumns columns) {
+        return BitSet.valueOf(evaluateWords(columns));
+    }
+
+    /**
+     * Evaluate this range over all versions of columns as bitmap words.
+     *
+     * @param columns Versions in columns.
+     *
+     * @return Bitmap which has one <code>long</code> per 64 versions, and bit <code>i % 64</code> of word
+     *         <code>i / 64</code> is set if the <code>i</code>-th version is in range.
+     *
+     * @throws IllegalArgumentException If {@link #start()} or {@link #end()} has pre-release tag.
+     * @throws UnsupportedOperationException If the subclass overrides {@link #isInRange(SemVer)}.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    public final long[] evaluateWords(@Nonnull SemVerColumns columns) {
+        if (!LAZY_EVALUATION.get(getClass()))
+            throw new UnsupportedOperationException("Overridden range can not be evaluated over columns");
+        return columns.evaluate(start(), end());
+    }
+
+    /**
+     * Replace this range with {@link SemVerCodec compact form} when serializing.
+     * <br/>
+     * It only applies to {@link SemVerRange} itself. Subclasses are serialized in default form, but the nodes are still
+     * written in compact form.
+     *
+     * @return Serialization proxy of this range, or this if it is a subclass.
+     *
+     * @since 3.3.0
+     */
+    @Serial
+    private Object writeReplace() {
+        return getClass() == SemVerRange.class ? new SemVerSerialForm(this) : this;
     }
 }
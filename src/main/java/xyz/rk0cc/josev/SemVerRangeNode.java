@@ -1,6 +1,7 @@
 package xyz.rk0cc.josev;
 
 import javax.annotation.Nonnull;
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
 
@@ -41,10 +42,14 @@ public record SemVerRangeNode(@Nonnull SemVer semVer, char operator, boolean orE
 
     /**
      * {@inheritDoc}
+     *
+     * @implNote It returns the same value of {@link Objects#hash(Object...)} with these fields without boxing.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(semVer, operator, orEquals);
+        int h = 31 + semVer.hashCode();
+        h = 31 * h + Character.hashCode(operator);
+        return 31 * h + Boolean.hashCode(orEquals);
     }
 
     /**
@@ -61,4 +66,16 @@ public record SemVerRangeNode(@Nonnull SemVer semVer, char operator, boolean orE
                 ", orEquals=" + orEquals +
                 '}';
     }
+
+    /**
+     * Replace this node with {@link SemVerCodec compact form} when serializing.
+     *
+     * @return Serialization proxy of this node.
+     *
+     * @since 3.3.0
+     */
+    @Serial
+    private Object writeReplace() {
+        return new SemVerSerialForm(this);
+    }
 }
@@ -0,0 +1,273 @@
+package xyz.rk0cc.josev;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A hand-written scanner of ASCII encoded Semantic Versioning which accepts exactly the same inputs as
+ * {@link SemVer#SEMVER_REGEX} with an optional leading '<code>v</code>'.
+ * <br/>
+ * Major, minor and patch are parsed with SIMD within a register (SWAR): 8 bytes are loaded into a <code>long</code>,
+ * the length of digit run is found by bit masks and up to 8 digits are converted by 3 multiply-shift steps. It falls
+ * back to scalar loop when less than 8 bytes remained.
+ * <br/>
+ * Bytes are read from {@link ByteBuffer} by absolute index, so that mapped files are scanned in place, and
+ * <code>byte[]</code> is scanned through {@link ByteBuffer#wrap(byte[]) a wrapping buffer} by the same rules.
+ *
+ * @since 3.3.0
+ */
+final class SemVerScanner {
+    /**
+     * Read 8 bytes from {@link ByteBuffer} in little-endian by absolute index, which the first byte is the lowest.
+     */
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L, HIGH_BITS = 0x8080808080808080L;
+
+    /**
+     * Maximum digits which can not overflow {@link Long}.
+     */
+    private static final int SAFE_DIGITS = 18;
+
+    /**
+     * Position of scanner after reading a number, or <code>-1</code> if rejected.
+     */
+    private int cursor;
+
+    private SemVerScanner(int cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Scan a version from ASCII bytes.
+     *
+     * @param b Bytes of version.
+     * @param offset Starting offset of version.
+     * @param length Length of version.
+     *
+     * @return Parsed {@link SemVer}, or <code>null</code> if it is not a valid version.
+     */
+    @Nullable
+    static SemVer scan(@Nonnull byte[] b, @Nonnegative int offset, @Nonnegative int length) {
+        return scan(ByteBuffer.wrap(b), offset, length);
+    }
+
+    /**
+     * Scan a version from ASCII bytes of {@link ByteBuffer} by absolute index, which does not move its position.
+     *
+     * @param b Buffer of version.
+     * @param offset Absolute index of version.
+     * @param length Length of version.
+     *
+     * @return Parsed {@link SemVer}, or <code>null</code> if it is not a valid version.
+     */
+    @Nullable
+    static SemVer scan(@Nonnull ByteBuffer b, @Nonnegative int offset, @Nonnegative int length) {
+        final int end = offset + length;
+        int p = offset;
+        if (p < end && b.get(p) == 'v') p++;
+
+        final SemVerScanner scanner = new SemVerScanner(p);
+        final long major = scanner.number(b, end);
+        if (!scanner.expect(b, end, '.')) return null;
+        final long minor = scanner.number(b, end);
+        if (!scanner.expect(b, end, '.')) return null;
+        final long patch = scanner.number(b, end);
+        if (scanner.cursor < 0) return null;
+
+        p = scanner.cursor;
+        String preRelease = null, build = null;
+        if (p < end && b.get(p) == '-') {
+            final int tagEnd = tag(b, p + 1, end, true);
+            if (tagEnd < 0) return null;
+            preRelease = SemVerTagPool.tag(b, p + 1, tagEnd);
+            p = tagEnd;
+        }
+        if (p < end && b.get(p) == '+') {
+            final int tagEnd = tag(b, p + 1, end, false);
+            if (tagEnd < 0) return null;
+            build = SemVerTagPool.tag(b, p + 1, tagEnd);
+            p = tagEnd;
+        }
+        if (p != end) return null;
+
+        return SemVer.trusted(major, minor, patch, preRelease, build);
+    }
+
+    /**
+     * Determine the whole bytes are a valid tag.
+     *
+     * @param b Bytes of tag.
+     * @param start Position of the first identifier.
+     * @param end End of tag.
+     * @param preRelease <code>true</code> if numeric identifiers must not have leading zero.
+     *
+     * @return <code>true</code> if it is a valid tag.
+     */
+    static boolean isTag(@Nonnull byte[] b, int start, int end, boolean preRelease) {
+        return isTag(ByteBuffer.wrap(b), start, end, preRelease);
+    }
+
+    /**
+     * Determine bytes of {@link ByteBuffer} are a valid tag by absolute index, which does not move its position.
+     *
+     * @param b Buffer of tag.
+     * @param start Absolute index of the first identifier.
+     * @param end Absolute index of the end of tag.
+     * @param preRelease <code>true</code> if numeric identifiers must not have leading zero.
+     *
+     * @return <code>true</code> if it is a valid tag.
+     */
+    static boolean isTag(@Nonnull ByteBuffer b, int start, int end, boolean preRelease) {
+        return tag(b, start, end, preRelease) == end;
+    }
+
+    /**
+     * Consume a separator.
+     *
+     * @return <code>true</code> if consumed.
+     */
+    private boolean expect(@Nonnull ByteBuffer b, int end, char separator) {
+        if (cursor < 0 || cursor >= end || b.get(cursor) != separator) {
+            cursor = -1;
+            return false;
+        }
+        cursor++;
+        return true;
+    }
+
+    /**
+     * Read a non-negative number without leading zero, and move {@link #cursor} after the last digit.
+     *
+     * @return Parsed number, or <code>-1</code> with {@link #cursor} <code>-1</code> if rejected.
+     */
+    private long number(@Nonnull ByteBuffer b, int end) {
+        final int start = cursor;
+        if (start < 0) return -1;
+
+        long value = 0;
+        int p = start;
+        while (true) {
+            final int run;
+            if (end - p >= Long.BYTES) {
+                final long word = (long) LONG_LE.get(b, p);
+                run = Long.numberOfTrailingZeros(nonDigits(word)) >>> 3;
+                if (run > 0) {
+                    final long digits = eightDigits(word, run);
+                    final int total = p - start + run;
+                    if (total <= SAFE_DIGITS) value = value * POW10[run] + digits;
+                    else {
+                        try {
+                            value = Math.addExact(Math.multiplyExact(value, POW10[run]), digits);
+                        } catch (ArithmeticException e) {
+                            cursor = -1;
+                            return -1;
+                        }
+                    }
+                }
+            } else {
+                // Scalar fallback of short remaining.
+                int q = p;
+                byte c;
+                while (q < end && (c = b.get(q)) >= '0' && c <= '9') {
+                    final int digit = c - '0';
+                    if (q - start < SAFE_DIGITS) value = value * 10 + digit;
+                    else if (value > (Long.MAX_VALUE - digit) / 10) {
+                        cursor = -1;
+                        return -1;
+                    } else value = value * 10 + digit;
+                    q++;
+                }
+                run = q - p;
+            }
+            p += run;
+            if (run < Long.BYTES) break;
+        }
+
+        final int digits = p - start;
+        // Empty number or leading zero
+        if (digits == 0 || (digits > 1 && b.get(start) == '0')) {
+            cursor = -1;
+            return -1;
+        }
+        cursor = p;
+        return value;
+    }
+
+    /**
+     * Powers of 10 up to 8.
+     */
+    private static final long[] POW10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
+    /**
+     * Find bytes which are not ASCII digit.
+     *
+     * @param word 8 bytes in little-endian.
+     *
+     * @return A mask which the highest bit of each non-digit byte is set.
+     */
+    private static long nonDigits(long word) {
+        final long low = word & ~HIGH_BITS;
+        // Adding without carry across bytes since every byte is under 0x80.
+        final long atLeastZero = (low + 0x50 * ONES) & HIGH_BITS;
+        final long aboveNine = (low + 0x46 * ONES) & HIGH_BITS;
+        return (word & HIGH_BITS) | (atLeastZero ^ HIGH_BITS) | aboveNine;
+    }
+
+    /**
+     * Convert leading digits of a word.
+     *
+     * @param word 8 bytes in little-endian.
+     * @param run Number of digits from the lowest byte, which must be 1 to 8.
+     *
+     * @return Value of digits.
+     */
+    private static long eightDigits(long word, int run) {
+        final int shift = (Long.BYTES - run) << 3;
+        // Drop non-digit bytes, and lower bytes become leading zeros.
+        long x = (word << shift) - ((0x30 * ONES) << shift);
+        x = (x * 10 + (x >>> 8)) & 0x00FF00FF00FF00FFL;
+        x = (x * 100 + (x >>> 16)) & 0x0000FFFF0000FFFFL;
+        return (x * 10000 + (x >>> 32)) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Validate dot-separated identifiers of a tag.
+     *
+     * @param b Buffer of version.
+     * @param p Position of the first identifier.
+     * @param end End of version.
+     * @param preRelease <code>true</code> if numeric identifiers must not have leading zero.
+     *
+     * @return Position after the tag, or <code>-1</code> if invalid.
+     */
+    private static int tag(@Nonnull ByteBuffer b, int p, int end, boolean preRelease) {
+        while (true) {
+            final int start = p;
+            boolean numeric = true;
+            while (p < end) {
+                final byte c = b.get(p);
+                if (c >= '0' && c <= '9') {
+                    p++;
+                    continue;
+                }
+                if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-') {
+                    numeric = false;
+                    p++;
+                    continue;
+                }
+                break;
+            }
+            if (p == start) return -1;
+            if (preRelease && numeric && p - start > 1 && b.get(start) == '0') return -1;
+            if (p < end && b.get(p) == '.') p++;
+            else return p;
+        }
+    }
+}
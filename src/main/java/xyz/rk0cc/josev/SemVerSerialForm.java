@@ -0,0 +1,90 @@
+package xyz.rk0cc.josev;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+
+/**
+ * Serialization proxy of {@link SemVer}, {@link SemVerRangeNode} and {@link SemVerRange} which writes
+ * {@link SemVerCodec compact form} instead of default serialized form.
+ *
+ * @since 3.3.0
+ */
+final class SemVerSerialForm implements Externalizable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Type code of {@link SemVer}.
+     */
+    private static final byte SEMVER = 0;
+
+    /**
+     * Type code of {@link SemVerRangeNode}.
+     */
+    private static final byte NODE = 1;
+
+    /**
+     * Type code of {@link SemVerRange}.
+     */
+    private static final byte RANGE = 2;
+
+    /**
+     * Proxied object.
+     */
+    private Object value;
+
+    /**
+     * Constructor for deserialization only.
+     */
+    public SemVerSerialForm() {}
+
+    /**
+     * Create proxy of an object.
+     *
+     * @param value A {@link SemVer}, {@link SemVerRangeNode} or {@link SemVerRange} without subclassed.
+     */
+    SemVerSerialForm(@Nonnull Object value) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        if (value instanceof SemVer sv) {
+            out.writeByte(SEMVER);
+            SemVerCodec.write(sv, out);
+        } else if (value instanceof SemVerRangeNode n) {
+            out.writeByte(NODE);
+            SemVerCodec.write(n, out);
+        } else if (value instanceof SemVerRange r) {
+            out.writeByte(RANGE);
+            SemVerCodec.write(r, out);
+        } else throw new NotSerializableException(String.valueOf(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+            case SEMVER -> value = SemVerCodec.readSemVer(in);
+            case NODE -> value = SemVerCodec.readNode(in);
+            case RANGE -> value = SemVerCodec.readRange(in);
+            default -> throw new StreamCorruptedException("Unknown type code " + type);
+        }
+    }
+
+    /**
+     * Resolve proxied object after deserialized.
+     *
+     * @return Deserialized object.
+     */
+    @Serial
+    private Object readResolve() {
+        return value;
+    }
+}
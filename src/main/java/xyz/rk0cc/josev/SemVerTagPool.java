@@ -0,0 +1,135 @@
+package xyz.rk0cc.josev;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A bounded pool of {@link SemVer#preRelease() pre-release} and {@link SemVer#build() build} tags which deduplicates
+ * repeated tags like <code>alpha</code>, <code>rc.1</code> or <code>SNAPSHOT</code> across all {@link SemVer}.
+ * <br/>
+ * It is a direct-mapped table that each tag is placed in a slot by its {@link String#hashCode() hash code}, and a
+ * colliding tag replaces the previous one. Therefore, it never grows and only retains a fixed number of short
+ * {@link String}s strongly, which does not prevent unused tags from being collected once replaced. Lookup and
+ * replacement are lock-free: slots are read and written without synchronization since {@link String} is immutable,
+ * and racing threads may only miss a chance of deduplication.
+ * <br/>
+ * Number of slots is configured by system property <code>josev.tagPool.slots</code> (rounded up to power of 2,
+ * default is <code>4096</code>), and <code>0</code> disables pooling.
+ *
+ * @since 3.3.0
+ */
+final class SemVerTagPool {
+    /**
+     * Tags longer than this are not pooled, which are usually unique.
+     */
+    static final int MAX_POOLED_LENGTH = 64;
+
+    private static final String[] SLOTS = createSlots(Integer.getInteger("josev.tagPool.slots", 4096));
+
+    private SemVerTagPool() {}
+
+    @Nonnull
+    private static String[] createSlots(int slots) {
+        if (slots <= 0) return new String[0];
+        return new String[Integer.highestOneBit(Math.min(slots - 1, 1 << 29) << 1 | 1)];
+    }
+
+    /**
+     * Slot index of a hash code.
+     */
+    private static int index(int hash) {
+        return (hash ^ (hash >>> 16)) & (SLOTS.length - 1);
+    }
+
+    /**
+     * Get a pooled tag from ASCII bytes in {@link ByteBuffer}, or create and pool it.
+     *
+     * @param b Buffer of version.
+     * @param start Absolute index of the first byte of tag.
+     * @param end Absolute index after the last byte of tag.
+     *
+     * @return A {@link String} of tag.
+     */
+    @Nonnull
+    static String tag(@Nonnull ByteBuffer b, int start, int end) {
+        final int length = end - start;
+        if (SLOTS.length == 0 || length > MAX_POOLED_LENGTH) return latin1(b, start, length);
+
+        // The same as String.hashCode() of Latin-1 String.
+        int hash = 0;
+        for (int i = start; i < end; i++) hash = 31 * hash + (b.get(i) & 0xff);
+
+        final int slot = index(hash);
+        final String pooled = SLOTS[slot];
+        if (pooled != null && pooled.length() == length) {
+            int i = 0;
+            while (i < length && pooled.charAt(i) == (b.get(start + i) & 0xff)) i++;
+            if (i == length) return pooled;
+        }
+
+        final String created = latin1(b, start, length);
+        SLOTS[slot] = created;
+        return created;
+    }
+
+    /**
+     * Decode bytes of {@link ByteBuffer} as ISO-8859-1 without moving its position, which reads backing array of heap
+     * buffer directly.
+     */
+    @Nonnull
+    private static String latin1(@Nonnull ByteBuffer b, int start, int length) {
+        if (b.hasArray()) return new String(b.array(), b.arrayOffset() + start, length, StandardCharsets.ISO_8859_1);
+        final byte[] bytes = new byte[length];
+        b.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Get a pooled tag from a part of {@link String}, or create and pool it.
+     *
+     * @param source A {@link String} contains tag.
+     * @param start Index of the first {@link Character} of tag.
+     * @param end Index after the last {@link Character} of tag.
+     *
+     * @return A {@link String} of tag.
+     */
+    @Nonnull
+    static String tag(@Nonnull String source, int start, int end) {
+        final int length = end - start;
+        if (SLOTS.length == 0 || length > MAX_POOLED_LENGTH) return source.substring(start, end);
+
+        int hash = 0;
+        for (int i = start; i < end; i++) hash = 31 * hash + source.charAt(i);
+
+        final int slot = index(hash);
+        final String pooled = SLOTS[slot];
+        if (pooled != null && pooled.length() == length && source.regionMatches(start, pooled, 0, length))
+            return pooled;
+
+        final String created = source.substring(start, end);
+        SLOTS[slot] = created;
+        return created;
+    }
+
+    /**
+     * Get a pooled tag which equals to <code>tag</code>, or pool <code>tag</code> itself.
+     *
+     * @param tag A tag.
+     *
+     * @return A {@link String} which equals to <code>tag</code>, or <code>null</code> if <code>tag</code> is
+     *         <code>null</code>.
+     */
+    @Nullable
+    static String intern(@Nullable String tag) {
+        if (tag == null || SLOTS.length == 0 || tag.length() > MAX_POOLED_LENGTH) return tag;
+
+        final int slot = index(tag.hashCode());
+        final String pooled = SLOTS[slot];
+        if (tag.equals(pooled)) return pooled;
+
+        SLOTS[slot] = tag;
+        return tag;
+    }
+}
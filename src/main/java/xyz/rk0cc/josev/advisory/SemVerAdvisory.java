@@ -0,0 +1,22 @@
+package xyz.rk0cc.josev.advisory;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.collections.SemVerMultipleRange;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An advisory which affects versions of a package.
+ *
+ * @param id Identifier of the advisory.
+ * @param packageName Name of affected package.
+ * @param affected Affected versions. A version is affected if {@link SemVerMultipleRange#isInRange(SemVer)} returns
+ *                 <code>true</code>, which must be in at least one of its ranges.
+ *
+ * @since 3.3.0
+ */
+public record SemVerAdvisory(
+        @Nonnull String id,
+        @Nonnull String packageName,
+        @Nonnull SemVerMultipleRange<?> affected
+) {}
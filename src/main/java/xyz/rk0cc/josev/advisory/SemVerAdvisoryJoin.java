@@ -0,0 +1,179 @@
+package xyz.rk0cc.josev.advisory;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.SemVerRangeNode;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Join {@link SemVerAdvisory advisories} with {@link SemVerInstallation installations} for finding every affected
+ * installation, without comparing every advisory with every installation.
+ * <br/>
+ * Both sides are grouped by package name and each package is joined independently in a parallel {@link Stream}. In a
+ * package, installations are sorted by version once. Since ranges are bounded by {@link SemVerRangeNode nodes},
+ * versions in any {@link SemVerRange} are a contiguous run of sorted installations, even though an end node without
+ * {@link SemVer#preRelease() pre-release} tag excludes its whole version group. All ranges are sorted by start node
+ * and swept with sorted installations to find the first version of each run, and the end of run is found by binary
+ * search.
+ * Runs of the same advisory are merged, so that each affected installation is reported once per advisory after
+ * confirming by {@link xyz.rk0cc.josev.collections.SemVerMultipleRange#isInRange(SemVer)}.
+ * <br/>
+ * It requires every version accepted by an advisory is in at least one of its ranges, and each range never accepts
+ * a version outside its nodes. It holds for all ranges in this package which do not override
+ * {@link SemVerRange#isInRange(SemVer)}, and the ranges which only reject more versions.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerAdvisoryJoin {
+    /**
+     * Order of start nodes from the lowest bound, which unbounded comes first and inclusive node comes before exclusive
+     * node of the same version.
+     */
+    private static final Comparator<Run> START_ORDER = (a, b) -> {
+        if (a.start == null || b.start == null) return a.start == null ? (b.start == null ? 0 : -1) : 1;
+        final int c = a.start.semVer().compareTo(b.start.semVer());
+        return c != 0 ? c : Boolean.compare(b.start.orEquals(), a.start.orEquals());
+    };
+
+    private SemVerAdvisoryJoin() {}
+
+    /**
+     * A run of sorted installations which in range.
+     */
+    private static final class Run {
+        final int advisory;
+        final SemVerRangeNode start, end;
+
+        /**
+         * Index of the first installation in range, and the index after the last one.
+         */
+        int from, to;
+
+        Run(int advisory, @Nonnull SemVerRange range) {
+            this.advisory = advisory;
+            this.start = range.start();
+            this.end = range.end();
+        }
+    }
+
+    /**
+     * Find all installations which are affected by advisories.
+     * <br/>
+     * The returned {@link Stream} is parallel and joins packages lazily when consuming. Call
+     * {@link Stream#sequential()} for joining in current thread. Order of matches is unspecified.
+     *
+     * @param advisories Advisories of any packages.
+     * @param installations Installed versions of any packages.
+     *
+     * @return A {@link Stream} of every pair of advisory and affected installation.
+     */
+    @Nonnull
+    public static Stream<SemVerAdvisoryMatch> join(
+            @Nonnull Collection<SemVerAdvisory> advisories,
+            @Nonnull Collection<SemVerInstallation> installations
+    ) {
+        final HashMap<String, List<SemVerAdvisory>> advised = new HashMap<>();
+        for (SemVerAdvisory a : advisories)
+            advised.computeIfAbsent(a.packageName(), p -> new ArrayList<>()).add(a);
+
+        // Installations of packages without advisory are never matched.
+        final HashMap<String, List<SemVerInstallation>> installed = new HashMap<>();
+        for (SemVerInstallation i : installations)
+            if (advised.containsKey(i.packageName()))
+                installed.computeIfAbsent(i.packageName(), p -> new ArrayList<>()).add(i);
+
+        return installed.entrySet()
+                .parallelStream()
+                .flatMap(e -> join(advised.get(e.getKey()), e.getValue()));
+    }
+
+    /**
+     * Join advisories and installations of the same package.
+     *
+     * @param advisories Advisories of the package.
+     * @param installations Installations of the package.
+     *
+     * @return A {@link Stream} of matches.
+     */
+    @Nonnull
+    private static Stream<SemVerAdvisoryMatch> join(
+            @Nonnull List<SemVerAdvisory> advisories,
+            @Nonnull List<SemVerInstallation> installations
+    ) {
+        final SemVerInstallation[] sorted = installations.toArray(new SemVerInstallation[0]);
+        Arrays.sort(sorted, Comparator.comparing(SemVerInstallation::version));
+        final SemVer[] versions = new SemVer[sorted.length];
+        for (int i = 0; i < sorted.length; i++) versions[i] = sorted[i].version();
+
+        final ArrayList<Run> runs = new ArrayList<>();
+        for (int a = 0; a < advisories.size(); a++)
+            for (SemVerRange r : advisories.get(a).affected()) runs.add(new Run(a, r));
+
+        // Sweep installations with ascending start nodes.
+        runs.sort(START_ORDER);
+        int cursor = 0;
+        for (Run run : runs) {
+            while (cursor < versions.length && !isAfterStart(versions[cursor], run.start)) cursor++;
+            run.from = cursor;
+            run.to = endOfRun(versions, cursor, run.end);
+        }
+
+        // Merge overlapped runs of the same advisory.
+        runs.sort(Comparator.<Run>comparingInt(r -> r.advisory).thenComparingInt(r -> r.from));
+        final ArrayList<Run> merged = new ArrayList<>();
+        Run last = null;
+        for (Run run : runs) {
+            if (run.from >= run.to) continue;
+            if (last == null || last.advisory != run.advisory || run.from > last.to) merged.add(last = run);
+            else last.to = Math.max(last.to, run.to);
+        }
+
+        return merged.stream().flatMap(run -> {
+            final SemVerAdvisory advisory = advisories.get(run.advisory);
+            return IntStream.range(run.from, run.to)
+                    .filter(i -> advisory.affected().isInRange(versions[i]))
+                    .mapToObj(i -> new SemVerAdvisoryMatch(advisory, sorted[i]));
+        });
+    }
+
+    /**
+     * Determine version satisfies start node as same as {@link SemVerRange#isInRange(SemVer)}.
+     */
+    private static boolean isAfterStart(@Nonnull SemVer version, @Nullable SemVerRangeNode start) {
+        if (start == null) return true;
+        final int c = version.compareTo(start.semVer());
+        return start.orEquals() ? c >= 0 : c > 0;
+    }
+
+    /**
+     * Determine version satisfies end node as same as {@link SemVerRange#isInRange(SemVer)}, which an end without
+     * pre-release tag excludes its whole version group.
+     */
+    private static boolean isBeforeEnd(@Nonnull SemVer version, @Nullable SemVerRangeNode end) {
+        if (end == null) return true;
+        final SemVer bound = end.semVer();
+        final int c = version.compareTo(bound);
+        if (bound.preRelease() == null) return c < 0 && !version.isSameVersionGroup(bound);
+        return end.orEquals() ? c <= 0 : c < 0;
+    }
+
+    /**
+     * Binary search the first version from <code>from</code> which does not satisfy end node.
+     *
+     * @return Index after the last version in range.
+     */
+    private static int endOfRun(@Nonnull SemVer[] versions, int from, @Nullable SemVerRangeNode end) {
+        int low = from, high = versions.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (isBeforeEnd(versions[mid], end)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+}
@@ -0,0 +1,13 @@
+package xyz.rk0cc.josev.advisory;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An installation which is affected by an advisory.
+ *
+ * @param advisory Matched advisory.
+ * @param installation Affected installation.
+ *
+ * @since 3.3.0
+ */
+public record SemVerAdvisoryMatch(@Nonnull SemVerAdvisory advisory, @Nonnull SemVerInstallation installation) {}
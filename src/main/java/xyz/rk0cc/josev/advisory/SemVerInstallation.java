@@ -0,0 +1,15 @@
+package xyz.rk0cc.josev.advisory;
+
+import xyz.rk0cc.josev.SemVer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An installed version of a package.
+ *
+ * @param packageName Name of the package.
+ * @param version Installed version.
+ *
+ * @since 3.3.0
+ */
+public record SemVerInstallation(@Nonnull String packageName, @Nonnull SemVer version) {}
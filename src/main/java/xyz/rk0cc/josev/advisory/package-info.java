@@ -0,0 +1,7 @@
+/**
+ * Matching {@link xyz.rk0cc.josev.collections.SemVerMultipleRange affected ranges} of advisories with installed
+ * versions of packages in bulk.
+ *
+ * @since 3.3.0
+ */
+package xyz.rk0cc.josev.advisory;
@@ -0,0 +1,512 @@
+package xyz.rk0cc.josev.collections;
+
+import xyz.rk0cc.josev.*;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * A sorted index of all known {@link SemVer} of a single package.
+ * <br/>
+ * Versions are stored in ascending {@link SemVer#compareTo(SemVer) order} inside an immutable {@link Snapshot}. Appending
+ * new versions publishes a new {@link Snapshot}, while readers which obtained a {@link #snapshot()} earlier keep working
+ * on it without any locking.
+ * <br/>
+ * Lookups by {@link SemVerRange} are resolved by binary searching {@link SemVerRange#start() start} and
+ * {@link SemVerRange#end() end} node, which takes <i>O(log n)</i> instead of calling
+ * {@link SemVerDetermineInRange#isInRange(SemVer)} on every version.
+ * <br/>
+ * Every published {@link Snapshot} carries a {@link #generation() generation} number which increased once the catalog
+ * has been changed.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerCatalog implements Iterable<SemVer> {
+    /**
+     * Current published snapshot.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Create an empty catalog.
+     */
+    public SemVerCatalog() {
+        this.snapshot = Snapshot.EMPTY;
+    }
+
+    /**
+     * Create a catalog with existed versions.
+     *
+     * @param versions Known versions of the package, order and duplication does not matter.
+     */
+    public SemVerCatalog(@Nonnull Collection<SemVer> versions) {
+        this.snapshot = Snapshot.EMPTY.merge(versions.toArray(new SemVer[0]));
+    }
+
+    /**
+     * Get current immutable view of this catalog.
+     * <br/>
+     * The returned {@link Snapshot} will not be affected by any {@link #add(SemVer) appended} version afterward.
+     *
+     * @return Latest published {@link Snapshot}.
+     */
+    @Nonnull
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Append a version to this catalog.
+     *
+     * @param semVer A new version of the package.
+     *
+     * @return <code>true</code> if this version does not exist in the catalog before.
+     */
+    public synchronized boolean add(@Nonnull SemVer semVer) {
+        final Snapshot current = snapshot;
+        final Snapshot updated = current.insert(semVer);
+        if (updated == current) return false;
+        snapshot = updated;
+        return true;
+    }
+
+    /**
+     * Append multiple versions to this catalog at once.
+     * <br/>
+     * It is preferred for bulk import since all versions will be merged in a single pass.
+     *
+     * @param semVers New versions of the package.
+     *
+     * @return <code>true</code> if at least one version does not exist in the catalog before.
+     */
+    public synchronized boolean addAll(@Nonnull Collection<SemVer> semVers) {
+        if (semVers.isEmpty()) return false;
+        final Snapshot current = snapshot;
+        final Snapshot updated = current.merge(semVers.toArray(new SemVer[0]));
+        if (updated.size() == current.size()) return false;
+        snapshot = updated;
+        return true;
+    }
+
+    /**
+     * Get generation of current {@link #snapshot()}.
+     *
+     * @return Number of changes applied to this catalog.
+     *
+     * @see Snapshot#generation()
+     */
+    @Nonnegative
+    public long generation() {
+        return snapshot.generation();
+    }
+
+    /**
+     * Number of versions in current {@link #snapshot()}.
+     *
+     * @return Total known versions.
+     */
+    @Nonnegative
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Determine current {@link #snapshot()} has no version.
+     *
+     * @return <code>true</code> if no version known.
+     */
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    /**
+     * Find the greatest version from current {@link #snapshot()}.
+     *
+     * @return The latest version, or <code>null</code> if empty.
+     *
+     * @see Snapshot#latest()
+     */
+    @Nullable
+    public SemVer latest() {
+        return snapshot.latest();
+    }
+
+    /**
+     * Find the greatest stable version from current {@link #snapshot()}.
+     *
+     * @return The latest stable version, or <code>null</code> if none.
+     *
+     * @see Snapshot#latestStable()
+     */
+    @Nullable
+    public SemVer latestStable() {
+        return snapshot.latestStable();
+    }
+
+    /**
+     * Find the greatest version which is in the range from current {@link #snapshot()}.
+     *
+     * @param range A range of version.
+     *
+     * @return The latest version in range, or <code>null</code> if none.
+     *
+     * @see Snapshot#latestMatching(SemVerDetermineInRange)
+     */
+    @Nullable
+    public SemVer latestMatching(@Nonnull SemVerDetermineInRange range) {
+        return snapshot.latestMatching(range);
+    }
+
+    /**
+     * Find all versions which are in the range from current {@link #snapshot()}.
+     *
+     * @param range A range of version.
+     *
+     * @return An ascending ordered {@link List} of versions in range.
+     *
+     * @see Snapshot#allMatching(SemVerDetermineInRange)
+     */
+    @Nonnull
+    public List<SemVer> allMatching(@Nonnull SemVerDetermineInRange range) {
+        return snapshot.allMatching(range);
+    }
+
+    /**
+     * Find the next version after <code>semVer</code> from current {@link #snapshot()}.
+     *
+     * @param semVer A version uses to find the next one, it does not required to be existed in the catalog.
+     *
+     * @return The smallest version which is greater than <code>semVer</code>, or <code>null</code> if none.
+     *
+     * @see Snapshot#nextAfter(SemVer)
+     */
+    @Nullable
+    public SemVer nextAfter(@Nonnull SemVer semVer) {
+        return snapshot.nextAfter(semVer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br/>
+     * It iterates versions in ascending order from current {@link #snapshot()}.
+     */
+    @Nonnull
+    @Override
+    public Iterator<SemVer> iterator() {
+        return snapshot.iterator();
+    }
+
+    /**
+     * Find the first index of sorted versions that passed the {@link SemVerRange#start() start} node.
+     *
+     * @param sorted Ascending ordered versions.
+     * @param from Starting index (inclusive).
+     * @param to Ending index (exclusive).
+     * @param start Start node of the range, <code>null</code> if unbounded.
+     *
+     * @return The lowest index which satisfied <code>start</code>, or <code>to</code> if none.
+     */
+    static int lowerBound(@Nonnull SemVer[] sorted, int from, int to, @Nullable SemVerRangeNode start) {
+        if (start == null) return from;
+        final SemVer sv = start.semVer();
+        final boolean orEquals = start.orEquals();
+        int lo = from, hi = to;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            final int c = sorted[mid].compareTo(sv);
+            if (c > 0 || (c == 0 && orEquals)) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    /**
+     * Find the first index of sorted versions that no longer satisfied the {@link SemVerRange#end() end} node.
+     * <br/>
+     * It follows the rule of {@link SemVerRange#isInRange(SemVer)} which excluding the same
+     * {@link SemVer#isSameVersionGroup(SemVer) version group} when end node has no pre-release tag.
+     *
+     * @param sorted Ascending ordered versions.
+     * @param from Starting index (inclusive).
+     * @param to Ending index (exclusive).
+     * @param end End node of the range, <code>null</code> if unbounded.
+     *
+     * @return The lowest index which does not satisfied <code>end</code>, or <code>to</code> if all satisfied.
+     */
+    static int upperBound(@Nonnull SemVer[] sorted, int from, int to, @Nullable SemVerRangeNode end) {
+        if (end == null) return to;
+        final SemVer sv = end.semVer();
+        final boolean groupExclusive = sv.preRelease() == null;
+        final boolean orEquals = end.orEquals();
+        int lo = from, hi = to;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            final boolean outside;
+            if (groupExclusive) {
+                outside = compareVersionGroup(sorted[mid], sv) >= 0;
+            } else {
+                final int c = sorted[mid].compareTo(sv);
+                outside = c > 0 || (c == 0 && !orEquals);
+            }
+            if (outside) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    /**
+     * Compare {@link SemVer#major() major}, {@link SemVer#minor() minor} and {@link SemVer#patch() patch} only.
+     *
+     * @param a A version.
+     * @param b Another version.
+     *
+     * @return Negative if <code>a</code> has lower version group, positive if greater, otherwise <code>0</code>.
+     */
+    static int compareVersionGroup(@Nonnull SemVer a, @Nonnull SemVer b) {
+        int c = Long.compare(a.major(), b.major());
+        if (c != 0) return c;
+        c = Long.compare(a.minor(), b.minor());
+        if (c != 0) return c;
+        return Long.compare(a.patch(), b.patch());
+    }
+
+    /**
+     * An immutable state of {@link SemVerCatalog} in a moment.
+     * <br/>
+     * All queries are thread-safe and never be blocked by {@link SemVerCatalog#add(SemVer) appending} versions.
+     *
+     * @since 3.3.0
+     */
+    public static final class Snapshot implements Iterable<SemVer> {
+        /**
+         * Snapshot without any version.
+         */
+        private static final Snapshot EMPTY = new Snapshot(new SemVer[0], -1, 0);
+
+        /**
+         * Ascending ordered versions without duplication.
+         */
+        private final SemVer[] versions;
+
+        /**
+         * Index of latest stable version in {@link #versions}, <code>-1</code> if absent.
+         */
+        private final int latestStable;
+
+        /**
+         * Generation of this snapshot.
+         */
+        private final long generation;
+
+        /**
+         * Create snapshot from sorted versions.
+         *
+         * @param versions Ascending ordered versions.
+         * @param latestStable Index of latest stable version.
+         * @param generation Generation of this snapshot.
+         */
+        private Snapshot(@Nonnull SemVer[] versions, int latestStable, long generation) {
+            this.versions = versions;
+            this.latestStable = latestStable;
+            this.generation = generation;
+        }
+
+        /**
+         * Create a new snapshot with an additional version.
+         *
+         * @param semVer Inserting version.
+         *
+         * @return A new {@link Snapshot}, or this if <code>semVer</code> already existed.
+         */
+        @Nonnull
+        private Snapshot insert(@Nonnull SemVer semVer) {
+            final int found = Arrays.binarySearch(versions, semVer);
+            if (found >= 0) return this;
+
+            final int at = -(found + 1);
+            final SemVer[] updated = new SemVer[versions.length + 1];
+            System.arraycopy(versions, 0, updated, 0, at);
+            updated[at] = semVer;
+            System.arraycopy(versions, at, updated, at + 1, versions.length - at);
+
+            int stable = latestStable >= at ? latestStable + 1 : latestStable;
+            if (!semVer.isPreRelease() && at > stable) stable = at;
+
+            return new Snapshot(updated, stable, generation + 1);
+        }
+
+        /**
+         * Create a new snapshot with multiple additional versions.
+         *
+         * @param semVers Inserting versions in any order.
+         *
+         * @return A new {@link Snapshot} with merged versions.
+         */
+        @Nonnull
+        private Snapshot merge(@Nonnull SemVer[] semVers) {
+            SemVerSort.sort(semVers);
+            final SemVer[] merged = new SemVer[versions.length + semVers.length];
+            int i = 0, j = 0, n = 0;
+            while (i < versions.length || j < semVers.length) {
+                final SemVer next;
+                if (j >= semVers.length) next = versions[i++];
+                else if (i >= versions.length) next = semVers[j++];
+                else {
+                    final int c = versions[i].compareTo(semVers[j]);
+                    if (c <= 0) {
+                        next = versions[i++];
+                        if (c == 0) j++;
+                    } else next = semVers[j++];
+                }
+                if (n > 0 && merged[n - 1].compareTo(next) == 0) continue;
+                merged[n++] = next;
+            }
+
+            final SemVer[] sorted = n == merged.length ? merged : Arrays.copyOf(merged, n);
+            int stable = -1;
+            for (int k = n - 1; k >= 0; k--) {
+                if (!sorted[k].isPreRelease()) {
+                    stable = k;
+                    break;
+                }
+            }
+
+            return new Snapshot(sorted, stable, n == versions.length ? generation : generation + 1);
+        }
+
+        /**
+         * Get generation of this snapshot.
+         * <br/>
+         * It starts from <code>0</code> for empty catalog, and increased every time new versions appended.
+         *
+         * @return Number of changes applied to the catalog when this snapshot published.
+         */
+        @Nonnegative
+        public long generation() {
+            return generation;
+        }
+
+        /**
+         * Number of versions in this snapshot.
+         *
+         * @return Total known versions.
+         */
+        @Nonnegative
+        public int size() {
+            return versions.length;
+        }
+
+        /**
+         * Determine this snapshot has no version.
+         *
+         * @return <code>true</code> if no version known.
+         */
+        public boolean isEmpty() {
+            return versions.length == 0;
+        }
+
+        /**
+         * Get all versions of this snapshot.
+         *
+         * @return An unmodifiable {@link List} of versions in ascending order.
+         */
+        @Nonnull
+        public List<SemVer> versions() {
+            return Collections.unmodifiableList(Arrays.asList(versions));
+        }
+
+        /**
+         * Find the greatest version.
+         *
+         * @return The latest version, or <code>null</code> if empty.
+         */
+        @Nullable
+        public SemVer latest() {
+            return versions.length == 0 ? null : versions[versions.length - 1];
+        }
+
+        /**
+         * Find the greatest version which is not {@link SemVer#isPreRelease() pre-release}.
+         *
+         * @return The latest stable version, or <code>null</code> if none.
+         */
+        @Nullable
+        public SemVer latestStable() {
+            return latestStable < 0 ? null : versions[latestStable];
+        }
+
+        /**
+         * Find the greatest version which is in the <code>range</code>.
+         *
+         * @param range A range of version.
+         *
+         * @return The latest version in range, or <code>null</code> if none.
+         *
+         * @apiNote Only {@link SemVerRange} can be resolved by binary search. Other implementation of
+         *          {@link SemVerDetermineInRange} is scanned from the latest version until matched.
+         */
+        @Nullable
+        public SemVer latestMatching(@Nonnull SemVerDetermineInRange range) {
+            int lo = 0, hi = versions.length;
+            if (range instanceof SemVerRange r) {
+                lo = lowerBound(versions, 0, versions.length, r.start());
+                hi = upperBound(versions, lo, versions.length, r.end());
+            }
+            for (int i = hi - 1; i >= lo; i--) {
+                if (range.isInRange(versions[i])) return versions[i];
+            }
+            return null;
+        }
+
+        /**
+         * Find all versions which are in the <code>range</code>.
+         *
+         * @param range A range of version.
+         *
+         * @return An ascending ordered {@link List} of versions in range.
+         *
+         * @apiNote Only {@link SemVerRange} can be resolved by binary search. Other implementation of
+         *          {@link SemVerDetermineInRange} is scanned entirely.
+         */
+        @Nonnull
+        public List<SemVer> allMatching(@Nonnull SemVerDetermineInRange range) {
+            int lo = 0, hi = versions.length;
+            if (range instanceof SemVerRange r) {
+                lo = lowerBound(versions, 0, versions.length, r.start());
+                hi = upperBound(versions, lo, versions.length, r.end());
+            }
+            final ArrayList<SemVer> matched = new ArrayList<>(Math.max(hi - lo, 0));
+            for (int i = lo; i < hi; i++) {
+                if (range.isInRange(versions[i])) matched.add(versions[i]);
+            }
+            return Collections.unmodifiableList(matched);
+        }
+
+        /**
+         * Find the next version after <code>semVer</code>.
+         *
+         * @param semVer A version uses to find the next one, it does not required to be existed in this snapshot.
+         *
+         * @return The smallest version which is greater than <code>semVer</code>, or <code>null</code> if none.
+         */
+        @Nullable
+        public SemVer nextAfter(@Nonnull SemVer semVer) {
+            final int found = Arrays.binarySearch(versions, semVer);
+            final int next = found >= 0 ? found + 1 : -(found + 1);
+            return next < versions.length ? versions[next] : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <br/>
+         * It iterates versions in ascending order.
+         */
+        @Nonnull
+        @Override
+        public Iterator<SemVer> iterator() {
+            return versions().iterator();
+        }
+    }
+}
@@ -0,0 +1,473 @@
+package xyz.rk0cc.josev.collections;
+
+import xyz.rk0cc.josev.SemVer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Map} which is keyed by {@link SemVer} with open addressing.
+ * <br/>
+ * Keys, values and hashes are stored in flat arrays with linear probing, therefore no node object is created for each
+ * entry. Hash is mixed from {@link SemVer#major() major}, {@link SemVer#minor() minor}, {@link SemVer#patch() patch}
+ * and hash of tags directly, which allows finding entry by raw version components via
+ * {@link #get(long, long, long, String, String)} without creating {@link SemVer}.
+ * <br/>
+ * It does not accept <code>null</code> key, and it is not thread-safe.
+ *
+ * @param <V> Type of values.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerHashMap<V> extends AbstractMap<SemVer, V> {
+    /**
+     * Default capacity of slots.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Maximum ratio of occupied slots before growing.
+     */
+    private static final float LOAD_FACTOR = 0.6f;
+
+    /**
+     * Stored keys, <code>null</code> if the slot is empty.
+     */
+    private SemVer[] keys;
+
+    /**
+     * Stored values in the same slot of {@link #keys}.
+     */
+    private Object[] values;
+
+    /**
+     * Cached {@link #hash(long, long, long, String, String) hash} of keys.
+     */
+    private int[] hashes;
+
+    /**
+     * Number of entries.
+     */
+    private int size;
+
+    /**
+     * Number of entries which triggers growing.
+     */
+    private int threshold;
+
+    /**
+     * Create an empty map.
+     */
+    public SemVerHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create an empty map which holds <code>expectedSize</code> entries without growing.
+     *
+     * @param expectedSize Expected number of entries.
+     *
+     * @throws IllegalArgumentException If <code>expectedSize</code> is negative or too large.
+     */
+    public SemVerHashMap(@Nonnegative int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Expected size must be non-negative");
+        final long required = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR);
+        if (required > 1 << 30) throw new IllegalArgumentException("Expected size is too large");
+        allocate(Math.max(DEFAULT_CAPACITY, Integer.highestOneBit((int) Math.max(required - 1, 1)) << 1));
+    }
+
+    /**
+     * Create a map which contains all entries of <code>m</code>.
+     *
+     * @param m Copying {@link Map}.
+     */
+    public SemVerHashMap(@Nonnull Map<? extends SemVer, ? extends V> m) {
+        this(m.size());
+        putAll(m);
+    }
+
+    /**
+     * Mix hash of version components.
+     *
+     * @param major Major version.
+     * @param minor Minor version.
+     * @param patch Patch version.
+     * @param preRelease Pre-release tag.
+     * @param build Build tag.
+     *
+     * @return Mixed hash.
+     */
+    private static int hash(long major, long minor, long patch, @Nullable String preRelease, @Nullable String build) {
+        long h = major * 0x9E3779B97F4A7C15L;
+        h = (h ^ minor) * 0xC2B2AE3D27D4EB4FL;
+        h = (h ^ patch) * 0x165667B19E3779F9L;
+        h ^= (long) Objects.hashCode(preRelease) << 32 | (Objects.hashCode(build) & 0xFFFFFFFFL);
+        // Finalizer of MurmurHash3
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (h ^ (h >>> 33));
+    }
+
+    /**
+     * Mix hash of a version.
+     *
+     * @param semVer A version.
+     *
+     * @return Mixed hash.
+     */
+    private static int hash(@Nonnull SemVer semVer) {
+        return hash(semVer.major(), semVer.minor(), semVer.patch(), semVer.preRelease(), semVer.build());
+    }
+
+    /**
+     * Allocate empty slots.
+     *
+     * @param capacity Number of slots, which must be power of 2.
+     */
+    private void allocate(int capacity) {
+        keys = new SemVer[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Find slot of raw version components.
+     *
+     * @return Index of slot, or <code>-1</code> if not found.
+     */
+    private int find(long major, long minor, long patch, @Nullable String preRelease, @Nullable String build) {
+        final int mask = keys.length - 1;
+        final int h = hash(major, minor, patch, preRelease, build);
+        for (int i = h & mask; ; i = (i + 1) & mask) {
+            final SemVer k = keys[i];
+            if (k == null) return -1;
+            if (hashes[i] == h
+                    && k.major() == major
+                    && k.minor() == minor
+                    && k.patch() == patch
+                    && Objects.equals(k.preRelease(), preRelease)
+                    && Objects.equals(k.build(), build)) return i;
+        }
+    }
+
+    /**
+     * Find slot of a key.
+     *
+     * @param key Any {@link Object}.
+     *
+     * @return Index of slot, or <code>-1</code> if not found.
+     */
+    private int find(@Nullable Object key) {
+        if (!(key instanceof SemVer sv)) return -1;
+        return find(sv.major(), sv.minor(), sv.patch(), sv.preRelease(), sv.build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnegative
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Check an entry is existed by raw components of version.
+     *
+     * @param major Major version.
+     * @param minor Minor version.
+     * @param patch Patch version.
+     * @param preRelease Pre-release tag, or <code>null</code> if none.
+     * @param build Build tag, or <code>null</code> if none.
+     *
+     * @return <code>true</code> if the version is a key of this map.
+     */
+    public boolean containsKey(
+            @Nonnegative long major,
+            @Nonnegative long minor,
+            @Nonnegative long patch,
+            @Nullable String preRelease,
+            @Nullable String build
+    ) {
+        return find(major, minor, patch, preRelease, build) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public V get(@Nullable Object key) {
+        final int i = find(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    /**
+     * Get value by raw components of version.
+     *
+     * @param major Major version.
+     * @param minor Minor version.
+     * @param patch Patch version.
+     * @param preRelease Pre-release tag, or <code>null</code> if none.
+     * @param build Build tag, or <code>null</code> if none.
+     *
+     * @return Value of the version, or <code>null</code> if not found.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(
+            @Nonnegative long major,
+            @Nonnegative long minor,
+            @Nonnegative long patch,
+            @Nullable String preRelease,
+            @Nullable String build
+    ) {
+        final int i = find(major, minor, patch, preRelease, build);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException If <code>key</code> is <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public V put(@Nonnull SemVer key, @Nullable V value) {
+        final int mask = keys.length - 1;
+        final int h = hash(key);
+        int i = h & mask;
+        for (SemVer k; (k = keys[i]) != null; i = (i + 1) & mask) {
+            if (hashes[i] == h && k.equals(key)) {
+                final V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        hashes[i] = h;
+        if (++size > threshold) grow();
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public V remove(@Nullable Object key) {
+        final int i = find(key);
+        if (i < 0) return null;
+        final V previous = (V) values[i];
+        delete(i);
+        return previous;
+    }
+
+    /**
+     * Remove entry of slot and shift following entries backward, which keeps probing sequences without tombstone.
+     *
+     * @param slot Removing slot.
+     */
+    private void delete(int slot) {
+        final int mask = keys.length - 1;
+        int gap = slot;
+        for (int i = (gap + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+            final int home = hashes[i] & mask;
+            // Move the entry if its home slot is not within (gap, i] cyclically.
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                hashes[gap] = hashes[i];
+                gap = i;
+            }
+        }
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+    }
+
+    /**
+     * Double capacity and rehash all entries.
+     */
+    private void grow() {
+        final SemVer[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int[] oldHashes = hashes;
+        if (oldKeys.length == 1 << 30) throw new IllegalStateException("Maximum capacity reached");
+        allocate(oldKeys.length << 1);
+
+        final int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == null) continue;
+            int i = oldHashes[j] & mask;
+            while (keys[i] != null) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+            hashes[i] = oldHashes[j];
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(@Nonnull BiConsumer<? super SemVer, ? super V> action) {
+        final SemVer[] ks = keys;
+        final Object[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != null) action.accept(ks[i], (V) vs[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br/>
+     * Entries of returned {@link Set} are snapshot of each entry which does not support
+     * {@link Map.Entry#setValue(Object)}.
+     */
+    @Nonnull
+    @Override
+    public Set<Map.Entry<SemVer, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                SemVerHashMap.this.clear();
+            }
+
+            @Nonnull
+            @Override
+            public Iterator<Map.Entry<SemVer, V>> iterator() {
+                return new EntryIterator();
+            }
+        };
+    }
+
+    /**
+     * Iterator of entries in slot order.
+     * <br/>
+     * It starts right after an empty slot, therefore no probing sequence crosses the end of iteration and
+     * {@link #delete(int) backward shifting} only moves unvisited entries.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<SemVer, V>> {
+        /**
+         * An empty slot which iteration starts after.
+         */
+        private final int origin;
+
+        /**
+         * Offset from {@link #origin} of next entry.
+         */
+        private int next;
+
+        /**
+         * Offset from {@link #origin} of the last returned entry, <code>-1</code> if not exist.
+         */
+        private int last = -1;
+
+        /**
+         * Find the first empty slot as {@link #origin}, which always exists since the map grows before all slots are
+         * occupied, and move to the first entry after it.
+         */
+        EntryIterator() {
+            int o = 0;
+            while (keys[o] != null) o++;
+            this.origin = o;
+            this.next = advance(1);
+        }
+
+        /**
+         * Index of slot at an offset from {@link #origin}, which wraps around the end of {@link #keys}.
+         *
+         * @param offset Offset from {@link #origin}, from <code>0</code> to the number of slots.
+         *
+         * @return Index of slot in {@link #keys}.
+         */
+        private int slot(int offset) {
+            return (origin + offset) & (keys.length - 1);
+        }
+
+        /**
+         * Skip empty slots from an offset.
+         * <br/>
+         * Offsets are counted from {@link #origin} rather than slot indices, so that iteration runs through the end of
+         * {@link #keys} and wraps to the beginning without any special case, and ends when the offset reaches the
+         * number of slots, which is {@link #origin} itself. Since {@link #origin} is empty, every probing sequence
+         * within the iteration never wraps past its end. Therefore {@link #delete(int) backward shifting} of a removed
+         * entry only moves entries of higher offsets toward lower offsets no lower than the removed one, which are
+         * still visited as long as {@link #next} is reset to the offset of the removed slot when it is refilled.
+         *
+         * @param offset Offset from {@link #origin} to start checking, inclusive.
+         *
+         * @return Offset of the first occupied slot from <code>offset</code>, or the number of slots if none.
+         */
+        private int advance(int offset) {
+            while (offset < keys.length && keys[slot(offset)] == null) offset++;
+            return offset;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map.Entry<SemVer, V> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            last = next;
+            next = advance(next + 1);
+            final int i = slot(last);
+            return new AbstractMap.SimpleImmutableEntry<>(keys[i], (V) values[i]);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) throw new IllegalStateException();
+            delete(slot(last));
+            // Backward shift may move an unvisited entry into the removed slot.
+            if (keys[slot(last)] != null) next = last;
+            last = -1;
+        }
+    }
+}
@@ -30,7 +30,9 @@ public abstract class SemVerMultipleRange<R extends SemVerRange>
      * @param ranges Existed set of {@link SemVerRange} or inherited classes.
      */
     public SemVerMultipleRange(@Nonnull Set<R> ranges) {
-       this.ranges = new HashSet<>(ranges);
+        final SemVerRangeOperationEvent event = SemVerRangeOperationEvent.start();
+        this.ranges = new HashSet<>(ranges);
+        event.complete("copy", 0, ranges.size(), true, 0);
     }
 
     /**
@@ -131,7 +133,11 @@ public abstract class SemVerMultipleRange<R extends SemVerRange>
      */
     @Override
     public final boolean containsAll(@Nonnull Collection<?> c) {
-        return ranges.containsAll(c);
+        final SemVerRangeOperationEvent event = SemVerRangeOperationEvent.start();
+        final int size = ranges.size();
+        final boolean result = ranges.containsAll(c);
+        event.complete("containsAll", size, c.size(), result, 0);
+        return result;
     }
 
     /**
@@ -139,7 +145,11 @@ public abstract class SemVerMultipleRange<R extends SemVerRange>
      */
     @Override
     public final boolean addAll(@Nonnull Collection<? extends R> c) {
-        return ranges.addAll(c);
+        final SemVerRangeOperationEvent event = SemVerRangeOperationEvent.start();
+        final int size = ranges.size();
+        final boolean result = ranges.addAll(c);
+        event.complete("addAll", size, c.size(), result, 0);
+        return result;
     }
 
     /**
@@ -147,7 +157,11 @@ public abstract class SemVerMultipleRange<R extends SemVerRange>
      */
     @Override
     public final boolean retainAll(@Nonnull Collection<?> c) {
-        return ranges.retainAll(c);
+        final SemVerRangeOperationEvent event = SemVerRangeOperationEvent.start();
+        final int size = ranges.size();
+        final boolean result = ranges.retainAll(c);
+        event.complete("retainAll", size, c.size(), result, 0);
+        return result;
     }
 
     /**
@@ -155,7 +169,11 @@ public abstract class SemVerMultipleRange<R extends SemVerRange>
      */
     @Override
     public final boolean removeAll(@Nonnull Collection<?> c) {
-        return ranges.removeAll(c);
+        final SemVerRangeOperationEvent event = SemVerRangeOperationEvent.start();
+        final int size = ranges.size();
+        final boolean result = ranges.removeAll(c);
+        event.complete("removeAll", size, c.size(), result, 0);
+        return result;
     }
 
     /**
@@ -163,7 +181,11 @@ public abstract class SemVerMultipleRange<R extends SemVerRange>
      */
     @Override
     public final boolean removeIf(@Nonnull Predicate<? super R> filter) {
-        return ranges.removeIf(filter);
+        final SemVerRangeOperationEvent event = SemVerRangeOperationEvent.start();
+        final int size = ranges.size();
+        final boolean result = ranges.removeIf(filter);
+        event.complete("removeIf", size, 0, result, size - ranges.size());
+        return result;
     }
 
     /**
@@ -215,6 +237,92 @@ public abstract class SemVerMultipleRange<R extends SemVerRange>
     @Nonnull
     @Override
     public final List<R> where(@Nonnull Predicate<R> condition) {
-        return ranges.stream().filter(condition).toList();
+        final SemVerRangeOperationEvent event = SemVerRangeOperationEvent.start();
+        final List<R> matched = ranges.stream().filter(condition).toList();
+        event.complete("where", ranges.size(), 0, !matched.isEmpty(), matched.size());
+        return matched;
+    }
+
+    /**
+     * Evaluate all ranges over columns and find versions which are in any of range.
+     *
+     * @param columns Versions in columns.
+     *
+     * @return A {@link BitSet} which bit <code>i</code> is set if the <code>i</code>-th version is in any range.
+     *
+     * @throws IllegalArgumentException If any range can not be {@link SemVerRange#evaluate(SemVerColumns) evaluated}
+     *                                  over columns.
+     * @throws UnsupportedOperationException If any range overrides {@link SemVerRange#isInRange(SemVer)}.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    public final BitSet matchAny(@Nonnull SemVerColumns columns) {
+        return match("matchAny", columns, false);
+    }
+
+    /**
+     * Evaluate all ranges over columns and find versions which are in every range. It stops once no version remains.
+     *
+     * @param columns Versions in columns.
+     *
+     * @return A {@link BitSet} which bit <code>i</code> is set if the <code>i</code>-th version is in every range, or
+     *         all versions if it {@link #isEmpty()}.
+     *
+     * @throws IllegalArgumentException If any range can not be {@link SemVerRange#evaluate(SemVerColumns) evaluated}
+     *                                  over columns.
+     * @throws UnsupportedOperationException If any range overrides {@link SemVerRange#isInRange(SemVer)}.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    public final BitSet matchAll(@Nonnull SemVerColumns columns) {
+        return match("matchAll", columns, true);
+    }
+
+    /**
+     * Combine bitmaps of all ranges.
+     *
+     * @param operation Name of operation in {@link SemVerRangeOperationEvent}.
+     * @param columns Versions in columns.
+     * @param all Intersect bitmaps if <code>true</code>, or union otherwise.
+     *
+     * @return Combined bitmap.
+     */
+    @Nonnull
+    private BitSet match(@Nonnull String operation, @Nonnull SemVerColumns columns, boolean all) {
+        final SemVerRangeOperationEvent event = SemVerRangeOperationEvent.start();
+        long[] combined = null;
+        int matched = 0;
+        for (R r : ranges) {
+            final long[] words = r.evaluateWords(columns);
+            boolean any = false;
+            if (combined == null) {
+                combined = words;
+                for (long w : words) any |= w != 0;
+            } else {
+                for (int i = 0; i < words.length; i++) {
+                    if (all) combined[i] &= words[i];
+                    else combined[i] |= words[i];
+                    any |= words[i] != 0;
+                }
+            }
+            if (any) matched++;
+            if (all && isZero(combined)) break;
+        }
+
+        final BitSet result;
+        if (combined != null) result = BitSet.valueOf(combined);
+        else {
+            result = new BitSet(columns.size());
+            if (all) result.set(0, columns.size());
+        }
+        event.complete(operation, ranges.size(), columns.size(), !result.isEmpty(), matched);
+        return result;
+    }
+
+    private static boolean isZero(@Nonnull long[] words) {
+        for (long w : words) if (w != 0) return false;
+        return true;
     }
 }
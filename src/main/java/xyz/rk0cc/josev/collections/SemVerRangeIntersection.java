@@ -0,0 +1,177 @@
+package xyz.rk0cc.josev.collections;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.SemVerRangeNode;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.stream.Collector;
+
+/**
+ * Intersect {@link SemVerRange} incrementally, which keeps the tightest {@link SemVerRange#start() start} and
+ * {@link SemVerRange#end() end} node only.
+ * <br/>
+ * Memory usage is constant regardless how many ranges are added. Once the intersection becomes unsatisfiable, further
+ * ranges are ignored and {@link #add(SemVerRange)} returns <code>false</code>, which allows caller to stop early:
+ * <pre>
+ *     SemVerRangeIntersection intersection = new SemVerRangeIntersection();
+ *     for (SemVerRange r : requirements) if (!intersection.add(r)) break;
+ * </pre>
+ * The end node follows the rule of {@link SemVerRange#isInRange(SemVer)} that an end without
+ * {@link SemVer#preRelease() pre-release} tag excludes the whole {@link SemVer#isSameVersionGroup(SemVer) version group},
+ * so that <code>&lt;2.0.0</code> is tighter than <code>&lt;2.0.0-rc.1</code>.
+ * <br/>
+ * Only nodes are intersected. It should not be used with {@link xyz.rk0cc.josev.constraint.SemVerConstraint} which
+ * overriding {@link SemVerRange#isInRange(SemVer)}. This class is not thread-safe, use {@link #collector()} for
+ * parallel stream.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerRangeIntersection {
+    /**
+     * The tightest nodes, <code>null</code> if unbounded.
+     */
+    private SemVerRangeNode start, end;
+
+    private boolean unsatisfiable;
+
+    /**
+     * Create an intersection which accepts every version until any range added.
+     */
+    public SemVerRangeIntersection() {}
+
+    /**
+     * Intersect with a range.
+     *
+     * @param range Adding range.
+     *
+     * @return <code>false</code> if the intersection is unsatisfiable.
+     */
+    public boolean add(@Nonnull SemVerRange range) {
+        return add(range.start(), range.end());
+    }
+
+    /**
+     * Intersect with bounds.
+     *
+     * @param start Adding start node, <code>null</code> if unbounded.
+     * @param end Adding end node, <code>null</code> if unbounded.
+     *
+     * @return <code>false</code> if the intersection is unsatisfiable.
+     */
+    private boolean add(@Nullable SemVerRangeNode start, @Nullable SemVerRangeNode end) {
+        if (unsatisfiable) return false;
+        if (start != null && (this.start == null || tighterStart(start, this.start))) this.start = start;
+        if (end != null && (this.end == null || tighterEnd(end, this.end))) this.end = end;
+        unsatisfiable = this.start != null && this.end != null && isEmpty(this.start, this.end);
+        return !unsatisfiable;
+    }
+
+    /**
+     * Intersect with another intersection.
+     *
+     * @param other Another intersection.
+     *
+     * @return This intersection.
+     */
+    @Nonnull
+    public SemVerRangeIntersection merge(@Nonnull SemVerRangeIntersection other) {
+        if (other.unsatisfiable) unsatisfiable = true;
+        else add(other.start, other.end);
+        return this;
+    }
+
+    /**
+     * Determine no version can satisfy all added ranges.
+     *
+     * @return <code>true</code> if unsatisfiable.
+     */
+    public boolean isUnsatisfiable() {
+        return unsatisfiable;
+    }
+
+    /**
+     * Get the intersection of all added ranges.
+     *
+     * @return A {@link SemVerRange} of the tightest nodes, or <code>null</code> if {@link #isUnsatisfiable()}.
+     */
+    @Nullable
+    public SemVerRange toRange() {
+        return unsatisfiable ? null : new SemVerRange(start, end);
+    }
+
+    /**
+     * Create a {@link Collector} which intersects all ranges of stream.
+     *
+     * @return A {@link Collector} which returns intersected range, or <code>null</code> if unsatisfiable.
+     */
+    @Nonnull
+    public static Collector<SemVerRange, ?, SemVerRange> collector() {
+        return Collector.of(
+                SemVerRangeIntersection::new,
+                SemVerRangeIntersection::add,
+                SemVerRangeIntersection::merge,
+                SemVerRangeIntersection::toRange,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Intersect ranges and stop once unsatisfiable.
+     *
+     * @param ranges Intersecting ranges.
+     *
+     * @return Intersected range, or <code>null</code> if unsatisfiable.
+     */
+    @Nullable
+    public static SemVerRange intersect(@Nonnull Iterable<? extends SemVerRange> ranges) {
+        final SemVerRangeIntersection intersection = new SemVerRangeIntersection();
+        for (SemVerRange r : ranges) if (!intersection.add(r)) return null;
+        return intersection.toRange();
+    }
+
+    /**
+     * Compare {@link SemVer#isSameVersionGroup(SemVer) version group} of versions.
+     */
+    private static int compareGroup(@Nonnull SemVer a, @Nonnull SemVer b) {
+        int c = Long.compare(a.major(), b.major());
+        if (c != 0) return c;
+        c = Long.compare(a.minor(), b.minor());
+        if (c != 0) return c;
+        return Long.compare(a.patch(), b.patch());
+    }
+
+    /**
+     * Determine start node <code>a</code> accepts less versions than <code>b</code>.
+     */
+    private static boolean tighterStart(@Nonnull SemVerRangeNode a, @Nonnull SemVerRangeNode b) {
+        final int c = a.semVer().compareTo(b.semVer());
+        return c != 0 ? c > 0 : !a.orEquals() && b.orEquals();
+    }
+
+    /**
+     * Determine end node <code>a</code> accepts less versions than <code>b</code>.
+     */
+    private static boolean tighterEnd(@Nonnull SemVerRangeNode a, @Nonnull SemVerRangeNode b) {
+        final int g = compareGroup(a.semVer(), b.semVer());
+        if (g != 0) return g < 0;
+
+        // Without pre-release, the whole version group is excluded.
+        final boolean aGroup = a.semVer().preRelease() == null, bGroup = b.semVer().preRelease() == null;
+        if (aGroup || bGroup) return aGroup && !bGroup;
+
+        final int c = a.semVer().compareTo(b.semVer());
+        return c != 0 ? c < 0 : !a.orEquals() && b.orEquals();
+    }
+
+    /**
+     * Determine no version is in range of nodes.
+     */
+    private static boolean isEmpty(@Nonnull SemVerRangeNode start, @Nonnull SemVerRangeNode end) {
+        if (end.semVer().preRelease() == null) return compareGroup(start.semVer(), end.semVer()) >= 0;
+
+        final int c = start.semVer().compareTo(end.semVer());
+        return c > 0 || (c == 0 && !(start.orEquals() && end.orEquals()));
+    }
+}
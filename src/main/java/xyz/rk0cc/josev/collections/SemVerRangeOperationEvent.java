@@ -0,0 +1,77 @@
+package xyz.rk0cc.josev.collections;
+
+import jdk.jfr.*;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Flight recorder event of bulk operations in {@link SemVerMultipleRange} which exceeded the threshold.
+ *
+ * @since 3.3.0
+ */
+@Name("xyz.rk0cc.josev.SemVerRangeOperation")
+@Label("SemVer Range Bulk Operation")
+@Description("Bulk operation of multiple range which is slower than threshold")
+@Category({"JOSEV", "Collections"})
+@Threshold("10 ms")
+@StackTrace(false)
+final class SemVerRangeOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Range Size")
+    @Description("Number of ranges before the operation")
+    int rangeSize;
+
+    @Label("Input Size")
+    @Description("Number of elements of the given collection")
+    int inputSize;
+
+    @Label("Result")
+    @Description("Returned value of the operation, or any matched for query")
+    boolean result;
+
+    @Label("Matched")
+    @Description("Number of ranges matched in query operation")
+    int matched;
+
+    /**
+     * Create and {@link #begin() begin} a new event.
+     *
+     * @return Begun event.
+     */
+    @Nonnull
+    static SemVerRangeOperationEvent start() {
+        final SemVerRangeOperationEvent event = new SemVerRangeOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End this event and commit if it exceeded the threshold.
+     *
+     * @param operation Name of operation.
+     * @param rangeSize Number of ranges before operation.
+     * @param inputSize Number of elements of the given collection.
+     * @param result Returned value of operation.
+     * @param matched Number of matched ranges.
+     */
+    void complete(
+            @Nonnull String operation,
+            @Nonnegative int rangeSize,
+            @Nonnegative int inputSize,
+            boolean result,
+            @Nonnegative int matched
+    ) {
+        end();
+        if (!shouldCommit()) return;
+
+        this.operation = operation;
+        this.rangeSize = rangeSize;
+        this.inputSize = inputSize;
+        this.result = result;
+        this.matched = matched;
+        commit();
+    }
+}
@@ -0,0 +1,230 @@
+package xyz.rk0cc.josev.collections;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerMetrics;
+import xyz.rk0cc.josev.SemVerMetricsListener;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.SemVerRangeNode;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Memoize resolution results of {@link SemVerCatalog} by the bounds of {@link SemVerRange}.
+ * <br/>
+ * Each result is stored with the {@link SemVerCatalog#generation() generation} of catalog when it resolved, and it only
+ * reused when the catalog is still in the same generation. When a version is {@link #publish(String, SemVer) published}
+ * through this cache, only results which the range covered the new version are invalidated, others are carried to the
+ * new generation without resolving again.
+ * <br/>
+ * Since results are keyed by {@link SemVerRange#start() start} and {@link SemVerRange#end() end} node only, different
+ * constraints with the same bounds share the same result. Therefore, it should not be used with
+ * {@link xyz.rk0cc.josev.constraint.SemVerConstraint} which overriding {@link SemVerRange#isInRange(SemVer)}.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerResolutionCache {
+    /**
+     * Source of catalogs by package name.
+     */
+    private final Function<String, SemVerCatalog> catalogs;
+
+    /**
+     * Cached results of each package.
+     */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Key, Entry>> results;
+
+    /**
+     * Create a resolution cache.
+     *
+     * @param catalogs A {@link Function} to get {@link SemVerCatalog} by package name, which returns <code>null</code>
+     *                 if the package is unknown.
+     */
+    public SemVerResolutionCache(@Nonnull Function<String, SemVerCatalog> catalogs) {
+        this.catalogs = catalogs;
+        this.results = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Find the greatest version of a package which is in the <code>range</code>.
+     *
+     * @param packageName Name of the package.
+     * @param range A range of version.
+     *
+     * @return The best version in range, or <code>null</code> if none or package is unknown.
+     */
+    @Nullable
+    public SemVer best(@Nonnull String packageName, @Nonnull SemVerRange range) {
+        final Entry e = resolve(packageName, range, false);
+        return e == null ? null : e.best;
+    }
+
+    /**
+     * Find all versions of a package which are in the <code>range</code>.
+     *
+     * @param packageName Name of the package.
+     * @param range A range of version.
+     *
+     * @return An unmodifiable and ascending ordered {@link List} of versions in range.
+     */
+    @Nonnull
+    public List<SemVer> matching(@Nonnull String packageName, @Nonnull SemVerRange range) {
+        final Entry e = resolve(packageName, range, true);
+        return e == null ? Collections.emptyList() : e.matching;
+    }
+
+    /**
+     * Append a new version to the catalog of package, and invalidate cached results which contain this version.
+     *
+     * @param packageName Name of the package.
+     * @param semVer Published version.
+     *
+     * @return <code>true</code> if this version does not exist in the catalog before.
+     *
+     * @throws IllegalArgumentException If the package is unknown.
+     */
+    public boolean publish(@Nonnull String packageName, @Nonnull SemVer semVer) {
+        final SemVerCatalog catalog = catalogs.apply(packageName);
+        if (catalog == null) throw new IllegalArgumentException("Unknown package '" + packageName + "'");
+
+        final long before = catalog.generation();
+        if (!catalog.add(semVer)) return false;
+        final long after = catalog.generation();
+
+        final ConcurrentHashMap<Key, Entry> entries = results.get(packageName);
+        if (entries == null) return true;
+
+        entries.values().removeIf(e -> {
+            if (e.range.isInRange(semVer)) return true;
+            // Catalog may be modified by others concurrently, leave it for resolving again.
+            if (after == before + 1 && e.generation == before) e.generation = after;
+            return false;
+        });
+        return true;
+    }
+
+    /**
+     * Remove all cached results of a package.
+     *
+     * @param packageName Name of the package.
+     */
+    public void invalidate(@Nonnull String packageName) {
+        results.remove(packageName);
+    }
+
+    /**
+     * Remove all cached results.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    /**
+     * Number of cached results.
+     *
+     * @return Total cached results from all packages.
+     */
+    @Nonnegative
+    public int size() {
+        return results.values().stream().mapToInt(ConcurrentHashMap::size).sum();
+    }
+
+    /**
+     * Get a valid cached result or resolve it from catalog.
+     *
+     * @param packageName Name of the package.
+     * @param range A range of version.
+     * @param withMatching Resolve {@link Entry#matching all matched versions} as well.
+     *
+     * @return Resolved entry, or <code>null</code> if the package is unknown.
+     */
+    @Nullable
+    private Entry resolve(@Nonnull String packageName, @Nonnull SemVerRange range, boolean withMatching) {
+        final SemVerCatalog catalog = catalogs.apply(packageName);
+        if (catalog == null) return null;
+
+        final SemVerCatalog.Snapshot snapshot = catalog.snapshot();
+        final Key key = new Key(range.start(), range.end());
+        final ConcurrentHashMap<Key, Entry> entries = results.computeIfAbsent(
+                packageName,
+                k -> new ConcurrentHashMap<>()
+        );
+
+        final SemVerMetricsListener metrics = SemVerMetrics.listener();
+        final Entry cached = entries.get(key);
+        if (cached != null && cached.generation == snapshot.generation()) {
+            if (metrics != null) metrics.cacheAccessed(SemVerMetrics.Cache.RESOLUTION, true);
+            if (withMatching && cached.matching == null) cached.matching = snapshot.allMatching(cached.range);
+            return cached;
+        }
+        if (metrics != null) metrics.cacheAccessed(SemVerMetrics.Cache.RESOLUTION, false);
+
+        final SemVerRange bounds = new SemVerRange(key.start, key.end);
+        final Entry resolved;
+        if (withMatching) {
+            final List<SemVer> matching = snapshot.allMatching(bounds);
+            resolved = new Entry(
+                    bounds,
+                    matching.isEmpty() ? null : matching.get(matching.size() - 1),
+                    matching,
+                    snapshot.generation()
+            );
+        } else resolved = new Entry(bounds, snapshot.latestMatching(bounds), null, snapshot.generation());
+
+        entries.merge(key, resolved, (o, n) -> o.generation >= n.generation ? o : n);
+        return resolved;
+    }
+
+    /**
+     * Structural bounds of a range.
+     *
+     * @param start Start node of range.
+     * @param end End node of range.
+     */
+    private record Key(@Nullable SemVerRangeNode start, @Nullable SemVerRangeNode end) {}
+
+    /**
+     * Resolved result of a range.
+     */
+    private static final class Entry {
+        /**
+         * Plain range of the bounds.
+         */
+        final SemVerRange range;
+
+        /**
+         * The greatest version in range, <code>null</code> if none.
+         */
+        final SemVer best;
+
+        /**
+         * All versions in range, <code>null</code> if it has not been resolved yet.
+         */
+        volatile List<SemVer> matching;
+
+        /**
+         * Generation of catalog which this result still valid.
+         */
+        volatile long generation;
+
+        /**
+         * Create resolved result.
+         *
+         * @param range Plain range of the bounds.
+         * @param best The greatest version in range.
+         * @param matching All versions in range if resolved.
+         * @param generation Generation of catalog when resolved.
+         */
+        Entry(@Nonnull SemVerRange range, @Nullable SemVer best, @Nullable List<SemVer> matching, long generation) {
+            this.range = range;
+            this.best = best;
+            this.matching = matching;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package xyz.rk0cc.josev.collections;
+
+import xyz.rk0cc.josev.SemVer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Sort large amount of {@link SemVer} by numeric keys instead of {@link SemVer#compareTo(SemVer) comparing} each pair.
+ * <br/>
+ * {@link SemVer#major() Major}, {@link SemVer#minor() minor} and {@link SemVer#patch() patch} are sorted by LSD radix
+ * sort with 16 bits per pass, which passes are skipped when all versions have the same digit. Since most of versions
+ * are using small numbers, only a few passes are performed in practice. Then, {@link SemVer#compareTo(SemVer)} is
+ * applied inside each group of versions which have the same numbers only, for ordering
+ * {@link SemVer#build() build} and {@link SemVer#preRelease() pre-release} tag.
+ * <br/>
+ * The result is the same order of {@link Arrays#sort(Object[])}, and it is stable as well.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerSort {
+    /**
+     * Bits of each radix pass.
+     */
+    private static final int RADIX_BITS = 16;
+
+    /**
+     * Number of buckets in each radix pass.
+     */
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    /**
+     * Number of passes for sorting a single {@code long}.
+     */
+    private static final int PASSES_PER_KEY = Long.SIZE / RADIX_BITS;
+
+    /**
+     * Arrays shorter than this are sorted by {@link Arrays#sort(Object[])} since counting buckets costs more.
+     */
+    static final int RADIX_THRESHOLD = 4096;
+
+    private SemVerSort() {}
+
+    /**
+     * Sort versions in ascending order.
+     *
+     * @param versions Sorting versions, which will be modified.
+     */
+    public static void sort(@Nonnull SemVer[] versions) {
+        sort(versions, false);
+    }
+
+    /**
+     * Sort versions in ascending order and optionally remove duplicated versions at the same time.
+     *
+     * @param versions Sorting versions, which will be modified.
+     * @param distinct Remove versions which {@link SemVer#equals(Object) equals} to previous one.
+     *
+     * @return Number of sorted versions at the beginning of <code>versions</code>. If <code>distinct</code> is
+     *         enabled and duplicated version found, the remained elements will be <code>null</code>.
+     */
+    @Nonnegative
+    public static int sort(@Nonnull SemVer[] versions, boolean distinct) {
+        final int n = versions.length;
+        if (n < RADIX_THRESHOLD) Arrays.sort(versions);
+        else radixSort(versions);
+
+        if (!distinct || n < 2) return n;
+
+        int size = 1;
+        for (int i = 1; i < n; i++) {
+            if (versions[i].compareTo(versions[size - 1]) != 0) versions[size++] = versions[i];
+        }
+        Arrays.fill(versions, size, n, null);
+        return size;
+    }
+
+    /**
+     * Sort versions in ascending order.
+     *
+     * @param versions Sorting versions, which will be modified.
+     *
+     * @throws UnsupportedOperationException If <code>versions</code> is unmodifiable.
+     */
+    public static void sort(@Nonnull List<SemVer> versions) {
+        sort(versions, false);
+    }
+
+    /**
+     * Sort versions in ascending order and optionally remove duplicated versions at the same time.
+     *
+     * @param versions Sorting versions, which will be modified.
+     * @param distinct Remove versions which {@link SemVer#equals(Object) equals} to previous one.
+     *
+     * @throws UnsupportedOperationException If <code>versions</code> is unmodifiable, or does not support removing
+     *                                       when <code>distinct</code> is enabled.
+     */
+    public static void sort(@Nonnull List<SemVer> versions, boolean distinct) {
+        final SemVer[] sorted = versions.toArray(new SemVer[0]);
+        final int size = sort(sorted, distinct);
+
+        final ListIterator<SemVer> it = versions.listIterator();
+        for (int i = 0; i < size; i++) {
+            it.next();
+            it.set(sorted[i]);
+        }
+        if (size < sorted.length) versions.subList(size, sorted.length).clear();
+    }
+
+    /**
+     * Sort by radix of numbers, then by {@link SemVer#compareTo(SemVer)} in the group of the same numbers.
+     *
+     * @param versions Sorting versions.
+     */
+    private static void radixSort(@Nonnull SemVer[] versions) {
+        final int n = versions.length;
+
+        // Flipping sign bit makes unsigned order of keys equals to signed order of numbers.
+        long[][] keys = new long[3][n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            final SemVer v = versions[i];
+            keys[0][i] = v.patch() ^ Long.MIN_VALUE;
+            keys[1][i] = v.minor() ^ Long.MIN_VALUE;
+            keys[2][i] = v.major() ^ Long.MIN_VALUE;
+            order[i] = i;
+        }
+
+        long[][] swapKeys = new long[3][n];
+        int[] swapOrder = new int[n];
+        final int[] buckets = new int[RADIX];
+
+        // From the least significant number.
+        for (int k = 0; k < 3; k++) {
+            long varying = 0;
+            final long first = keys[k][0];
+            for (int i = 1; i < n; i++) varying |= keys[k][i] ^ first;
+
+            for (int pass = 0; pass < PASSES_PER_KEY; pass++) {
+                final int shift = pass * RADIX_BITS;
+                if (((varying >>> shift) & (RADIX - 1)) == 0) continue;
+
+                Arrays.fill(buckets, 0);
+                final long[] digits = keys[k];
+                for (int i = 0; i < n; i++) buckets[(int) (digits[i] >>> shift) & (RADIX - 1)]++;
+                for (int b = 0, sum = 0; b < RADIX; b++) {
+                    final int c = buckets[b];
+                    buckets[b] = sum;
+                    sum += c;
+                }
+                for (int i = 0; i < n; i++) {
+                    final int to = buckets[(int) (digits[i] >>> shift) & (RADIX - 1)]++;
+                    swapKeys[0][to] = keys[0][i];
+                    swapKeys[1][to] = keys[1][i];
+                    swapKeys[2][to] = keys[2][i];
+                    swapOrder[to] = order[i];
+                }
+
+                final long[][] tk = keys;
+                keys = swapKeys;
+                swapKeys = tk;
+                final int[] to = order;
+                order = swapOrder;
+                swapOrder = to;
+            }
+        }
+
+        final SemVer[] sorted = new SemVer[n];
+        for (int i = 0; i < n; i++) sorted[i] = versions[order[i]];
+
+        // Tags are compared only inside the group of the same numbers.
+        int from = 0;
+        for (int i = 1; i <= n; i++) {
+            if (i < n && keys[0][i] == keys[0][from] && keys[1][i] == keys[1][from] && keys[2][i] == keys[2][from])
+                continue;
+            if (i - from > 1) Arrays.sort(sorted, from, i);
+            from = i;
+        }
+
+        System.arraycopy(sorted, 0, versions, 0, n);
+    }
+}
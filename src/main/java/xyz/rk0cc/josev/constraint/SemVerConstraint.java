@@ -1,6 +1,8 @@
 package xyz.rk0cc.josev.constraint;
 
 import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerMetrics;
+import xyz.rk0cc.josev.SemVerMetricsListener;
 import xyz.rk0cc.josev.SemVerRange;
 import xyz.rk0cc.josev.SemVerRangeNode;
 
@@ -22,6 +24,22 @@ import java.util.stream.Stream;
  * @since 1.0.0
  */
 public abstract class SemVerConstraint<E extends ConstraintPattern<? extends Enum<?>>> extends SemVerRange {
+    /**
+     * Resolved parser {@link Method} of each constraint {@link Class}, which avoids reading annotation and looking up
+     * method in every {@link #parse(Class, String)}.
+     */
+    private static final ClassValue<Method> PARSER_METHODS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                return getParserMethod(type);
+            } catch (NoSuchMethodException e) {
+                // Not cached, which will be thrown again in next lookup.
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
     /**
      * Version constraint that inserted by user.
      */
@@ -51,6 +69,9 @@ public abstract class SemVerConstraint<E extends ConstraintPattern<? extends Enu
         super(start, end);
         this.rawConstraint = rawConstraint;
         this.constraintPattern = constraintPattern;
+
+        final SemVerMetricsListener metrics = SemVerMetrics.listener();
+        if (metrics != null) metrics.constraintParsed(constraintPattern);
     }
 
     /**
@@ -139,6 +160,25 @@ public abstract class SemVerConstraint<E extends ConstraintPattern<? extends Enu
         return parser;
     }
 
+    /**
+     * Get parser {@link Method} from {@link #PARSER_METHODS}.
+     *
+     * @param constraintParser A {@link Class} of parser with annotated {@link SemVerConstraintParser}.
+     *
+     * @return Parser method.
+     *
+     * @throws NoSuchMethodException If this parser does not contains parser.
+     */
+    @Nonnull
+    private static Method cachedParserMethod(@Nonnull Class<?> constraintParser) throws NoSuchMethodException {
+        try {
+            return PARSER_METHODS.get(constraintParser);
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof NoSuchMethodException nsme) throw nsme;
+            throw e;
+        }
+    }
+
     /**
      * Check current parser is valid to use {@link #parse(Class, String)}.
      *
@@ -222,13 +262,21 @@ public abstract class SemVerConstraint<E extends ConstraintPattern<? extends Enu
             @Nullable String versionConstraint
     ) {
         assert !constraintClass.equals(SemVerConstraint.class); // Do not reference itself
+        final SemVerConstraintParseEvent event = new SemVerConstraintParseEvent();
+        final boolean recording = event.isEnabled();
+        event.begin();
+        final long begin = recording ? System.nanoTime() : 0L;
         try {
             assert checkValidParser(constraintClass, true);
 
-            Method parser = getParserMethod(constraintClass);
+            Method parser = cachedParserMethod(constraintClass);
+            if (recording) event.lookupDuration = System.nanoTime() - begin;
 
-            return (C) parser.invoke(null, versionConstraint);
+            final C constraint = (C) parser.invoke(null, versionConstraint);
+            event.complete(constraintClass, versionConstraint, null);
+            return constraint;
         } catch (Exception | AssertionError e) {
+            event.complete(constraintClass, versionConstraint, e);
             throw new UnsupportedOperationException(
                     "'" + constraintClass.getName() + "' is not allows to use this parser.",
                     e
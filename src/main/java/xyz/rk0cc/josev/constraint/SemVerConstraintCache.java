@@ -0,0 +1,489 @@
+package xyz.rk0cc.josev.constraint;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerCodec;
+import xyz.rk0cc.josev.SemVerMetrics;
+import xyz.rk0cc.josev.SemVerMetricsListener;
+import xyz.rk0cc.josev.SemVerRangeNode;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache parsed {@link SemVerConstraint} by constraint {@link Class} and raw {@link String}, with a pool of interned
+ * {@link SemVer}.
+ * <br/>
+ * The cache can be {@link #write(DataOutput) written} to a snapshot and {@link #load(ByteBuffer) loaded} in another
+ * process. Versions are written by {@link SemVerCodec}, and constraints are restored without running parser by
+ * {@link SemVerConstraintParser#restorerMethodName() restorer} of the constraint class. If the constraint class does
+ * not declare a restorer, the raw constraint is {@link SemVerConstraint#parse(Class, String) parsed} again when
+ * loading.
+ * <br/>
+ * Snapshot is trusted as it is written by this class, it should not be loaded from untrusted source.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerConstraintCache {
+    /**
+     * Leading bytes of snapshot, which is "<code>JSVC</code>" in ASCII.
+     */
+    private static final int MAGIC = 0x4A535643;
+
+    /**
+     * Version of snapshot format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Flags of existed nodes and their equality.
+     */
+    private static final int START = 1, END = 1 << 1, START_OR_EQUALS = 1 << 2, END_OR_EQUALS = 1 << 3;
+
+    /**
+     * Minimum encoded size of a version, which is a flag and three single byte numbers.
+     */
+    private static final int MIN_VERSION_SIZE = 4;
+
+    /**
+     * Minimum encoded size of a section, which has an empty class name, entry count and pattern count.
+     */
+    private static final int MIN_SECTION_SIZE = 8;
+
+    /**
+     * Minimum encoded size of a constraint, which has pattern index, empty raw constraint and flag.
+     */
+    private static final int MIN_ENTRY_SIZE = 5;
+
+    /**
+     * Cached constraints by the {@link Class} which requested from {@link #parse(Class, String)}.
+     */
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, SemVerConstraint<?>>> constraints;
+
+    /**
+     * Interned versions, which key and value are the same instance.
+     */
+    private final ConcurrentHashMap<SemVer, SemVer> versions;
+
+    /**
+     * Create an empty cache.
+     */
+    public SemVerConstraintCache() {
+        this.constraints = new ConcurrentHashMap<>();
+        this.versions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get cached constraint, or {@link SemVerConstraint#parse(Class, String) parse} and cache it.
+     *
+     * @param constraintClass A well implemented {@link Class} which inherited from {@link SemVerConstraint}.
+     * @param versionConstraint A {@link String} of version constraint, which is not cached if <code>null</code>.
+     * @param <C> Defined which subclass of {@link SemVerConstraint} will be returned.
+     *
+     * @return An object of {@link C} with corresponded data of {@link SemVerConstraint}.
+     *
+     * @throws UnsupportedOperationException If the implementation does not meet all requirement of
+     *                                       {@link SemVerConstraint#parse(Class, String)}.
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends SemVerConstraint<? extends ConstraintPattern<? extends Enum<?>>>> C parse(
+            @Nonnull Class<C> constraintClass,
+            @Nullable String versionConstraint
+    ) {
+        if (versionConstraint == null) return SemVerConstraint.parse(constraintClass, null);
+
+        final ConcurrentHashMap<String, SemVerConstraint<?>> cached =
+                constraints.computeIfAbsent(constraintClass, c -> new ConcurrentHashMap<>());
+        final SemVerConstraint<?> hit = cached.get(versionConstraint);
+
+        final SemVerMetricsListener metrics = SemVerMetrics.listener();
+        if (metrics != null) metrics.cacheAccessed(SemVerMetrics.Cache.CONSTRAINT, hit != null);
+        if (hit != null) return (C) hit;
+
+        // Parse outside of the map to avoid blocking other keys.
+        final C parsed = SemVerConstraint.parse(constraintClass, versionConstraint);
+        final SemVerConstraint<?> raced = cached.putIfAbsent(versionConstraint, parsed);
+        return raced == null ? parsed : (C) raced;
+    }
+
+    /**
+     * Get a canonical instance of <code>semVer</code> from the pool.
+     *
+     * @param semVer Interning version.
+     *
+     * @return An instance which {@link SemVer#equals(Object) equals} to <code>semVer</code>. It is <code>semVer</code>
+     *         itself if it is added to the pool at the first time.
+     */
+    @Nonnull
+    public SemVer intern(@Nonnull SemVer semVer) {
+        final SemVer existed = versions.putIfAbsent(semVer, semVer);
+        return existed == null ? semVer : existed;
+    }
+
+    /**
+     * Number of cached constraints.
+     *
+     * @return Total cached constraints of all classes.
+     */
+    @Nonnegative
+    public int size() {
+        return constraints.values().stream().mapToInt(ConcurrentHashMap::size).sum();
+    }
+
+    /**
+     * Number of interned versions.
+     *
+     * @return Size of version pool.
+     */
+    @Nonnegative
+    public int internedSize() {
+        return versions.size();
+    }
+
+    /**
+     * Remove all cached constraints and interned versions.
+     */
+    public void clear() {
+        constraints.clear();
+        versions.clear();
+    }
+
+    /**
+     * Write all interned versions and cached constraints to a snapshot.
+     * <br/>
+     * Versions of interned pool and range nodes are written once as a table by {@link SemVerCodec}, and nodes refer
+     * them by index. It can be called while other threads are using this cache, which the snapshot may not include
+     * the entries added during writing.
+     *
+     * @param out Output of snapshot.
+     *
+     * @throws IOException If unable to write.
+     */
+    public void write(@Nonnull DataOutput out) throws IOException {
+        final List<Map.Entry<Class<?>, ConcurrentHashMap<String, SemVerConstraint<?>>>> sections = new ArrayList<>();
+        final List<List<SemVerConstraint<?>>> entries = new ArrayList<>();
+        final HashMap<SemVer, Integer> table = new HashMap<>();
+        for (SemVer v : versions.keySet()) table.putIfAbsent(v, table.size());
+        for (Map.Entry<Class<?>, ConcurrentHashMap<String, SemVerConstraint<?>>> section : constraints.entrySet()) {
+            final List<SemVerConstraint<?>> cached = new ArrayList<>(section.getValue().values());
+            for (SemVerConstraint<?> c : cached) {
+                if (c.start() != null) table.putIfAbsent(c.start().semVer(), table.size());
+                if (c.end() != null) table.putIfAbsent(c.end().semVer(), table.size());
+            }
+            sections.add(section);
+            entries.add(cached);
+        }
+
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+
+        final SemVer[] ordered = new SemVer[table.size()];
+        table.forEach((v, i) -> ordered[i] = v);
+        out.writeInt(ordered.length);
+        for (SemVer v : ordered) SemVerCodec.write(v, out);
+
+        out.writeInt(sections.size());
+        for (int s = 0; s < sections.size(); s++) {
+            final List<SemVerConstraint<?>> cached = entries.get(s);
+
+            // Distinct pairs of runtime class and pattern, which are referred by index.
+            final LinkedHashMap<Shape, Integer> shapes = new LinkedHashMap<>();
+            for (SemVerConstraint<?> c : cached) shapes.putIfAbsent(Shape.of(c), shapes.size());
+            if (shapes.size() > 0xFFFF) throw new IOException("Too many constraint patterns");
+
+            out.writeUTF(sections.get(s).getKey().getName());
+            out.writeInt(cached.size());
+            out.writeShort(shapes.size());
+            for (Shape shape : shapes.keySet()) {
+                out.writeUTF(shape.type.getName());
+                out.writeUTF(shape.pattern.getDeclaringClass().getName());
+                out.writeUTF(shape.pattern.name());
+            }
+            for (SemVerConstraint<?> c : cached) {
+                out.writeShort(shapes.get(Shape.of(c)));
+                out.writeUTF(Objects.requireNonNull(c.rawConstraint()));
+                out.writeByte((c.start() == null ? 0 : c.start().orEquals() ? START | START_OR_EQUALS : START)
+                        | (c.end() == null ? 0 : c.end().orEquals() ? END | END_OR_EQUALS : END));
+                if (c.start() != null) out.writeInt(table.get(c.start().semVer()));
+                if (c.end() != null) out.writeInt(table.get(c.end().semVer()));
+            }
+        }
+    }
+
+    /**
+     * Write a snapshot to file.
+     *
+     * @param path Path of snapshot file, which will be overwritten.
+     *
+     * @throws IOException If unable to write.
+     */
+    public void write(@Nonnull Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Load a snapshot into this cache. Existed entries are kept if the snapshot contains the same key.
+     *
+     * @param snapshot Bytes of snapshot from current position.
+     * @param loader {@link ClassLoader} for finding constraint classes.
+     *
+     * @return Number of loaded constraints.
+     *
+     * @throws IOException If the snapshot is malformed or refers unknown class.
+     */
+    @Nonnegative
+    public int load(@Nonnull ByteBuffer snapshot, @Nonnull ClassLoader loader) throws IOException {
+        final ByteBuffer in = snapshot.duplicate().order(ByteOrder.BIG_ENDIAN);
+        try {
+            return load0(in, loader);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Incomplete snapshot");
+        } catch (IllegalArgumentException e) {
+            throw new StreamCorruptedException(e.getMessage());
+        }
+    }
+
+    /**
+     * Load a snapshot by the {@link ClassLoader} of this class.
+     *
+     * @param snapshot Bytes of snapshot from current position.
+     *
+     * @return Number of loaded constraints.
+     *
+     * @throws IOException If the snapshot is malformed or refers unknown class.
+     */
+    @Nonnegative
+    public int load(@Nonnull ByteBuffer snapshot) throws IOException {
+        return load(snapshot, SemVerConstraintCache.class.getClassLoader());
+    }
+
+    /**
+     * Load a snapshot from file by the {@link ClassLoader} of this class.
+     *
+     * @param path Path of snapshot file.
+     *
+     * @return Number of loaded constraints.
+     *
+     * @throws IOException If unable to read, or the snapshot is malformed or refers unknown class.
+     */
+    @Nonnegative
+    public int load(@Nonnull Path path) throws IOException {
+        return load(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
+
+    /**
+     * Implementation of {@link #load(ByteBuffer, ClassLoader)}.
+     */
+    private int load0(@Nonnull ByteBuffer in, @Nonnull ClassLoader loader) throws IOException {
+        if (in.getInt() != MAGIC) throw new StreamCorruptedException("Not a constraint cache snapshot");
+        final int format = in.get() & 0xff;
+        if (format != FORMAT_VERSION) throw new StreamCorruptedException("Unsupported snapshot format " + format);
+
+        final SemVer[] table = new SemVer[count(in, MIN_VERSION_SIZE)];
+        for (int i = 0; i < table.length; i++) table[i] = intern(SemVerCodec.readSemVer(in));
+
+        int loaded = 0;
+        for (int s = count(in, MIN_SECTION_SIZE); s > 0; s--) {
+            final Class<?> requested = constraintClass(readUTF(in), loader);
+            final int size = count(in, MIN_ENTRY_SIZE);
+            final ConcurrentHashMap<String, SemVerConstraint<?>> cached =
+                    constraints.computeIfAbsent(requested, c -> new ConcurrentHashMap<>());
+
+            final Restorer[] restorers = new Restorer[in.getShort() & 0xffff];
+            for (int r = 0; r < restorers.length; r++) {
+                final Class<?> type = constraintClass(readUTF(in), loader);
+                if (!requested.isAssignableFrom(type))
+                    throw new StreamCorruptedException(type.getName() + " is not " + requested.getName());
+                restorers[r] = new Restorer(requested, type, pattern(readUTF(in), readUTF(in), loader));
+            }
+
+            for (int e = 0; e < size; e++) {
+                final int shape = in.getShort() & 0xffff;
+                if (shape >= restorers.length) throw new StreamCorruptedException("Unknown constraint pattern");
+                final String raw = readUTF(in);
+                final int flag = in.get();
+                final SemVerRangeNode start = (flag & START) == 0
+                        ? null
+                        : new SemVerRangeNode(version(table, in.getInt()), '>', (flag & START_OR_EQUALS) != 0);
+                final SemVerRangeNode end = (flag & END) == 0
+                        ? null
+                        : new SemVerRangeNode(version(table, in.getInt()), '<', (flag & END_OR_EQUALS) != 0);
+                if (cached.containsKey(raw)) continue;
+
+                cached.putIfAbsent(raw, restorers[shape].restore(raw, start, end));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Read a count of records, which can not exceed the records fit in remaining bytes.
+     *
+     * @param in Snapshot.
+     * @param minRecordSize Minimum encoded size of each record.
+     *
+     * @return Number of records.
+     *
+     * @throws StreamCorruptedException If the count is negative or too large.
+     */
+    @Nonnegative
+    private static int count(@Nonnull ByteBuffer in, @Nonnegative int minRecordSize) throws StreamCorruptedException {
+        final int count = in.getInt();
+        if (count < 0 || count > in.remaining() / minRecordSize)
+            throw new StreamCorruptedException("Invalid record count " + count);
+        return count;
+    }
+
+    /**
+     * Get version from table by index.
+     */
+    @Nonnull
+    private static SemVer version(@Nonnull SemVer[] table, int index) throws StreamCorruptedException {
+        if (index < 0 || index >= table.length) throw new StreamCorruptedException("Unknown version " + index);
+        return table[index];
+    }
+
+    /**
+     * Read a {@link String} written by {@link DataOutput#writeUTF(String)}.
+     */
+    @Nonnull
+    private static String readUTF(@Nonnull ByteBuffer in) throws IOException {
+        final int length = in.getShort() & 0xffff;
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        for (byte b : bytes) {
+            if (b <= 0) {
+                // Rare non-ASCII string, decode as modified UTF-8.
+                final ByteBuffer encoded = ByteBuffer.allocate(2 + length).putShort((short) length).put(bytes);
+                return new DataInputStream(new ByteArrayInputStream(encoded.array())).readUTF();
+            }
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Find a subclass of {@link SemVerConstraint} without initializing it.
+     */
+    @Nonnull
+    private static Class<?> constraintClass(@Nonnull String name, @Nonnull ClassLoader loader) throws IOException {
+        final Class<?> type;
+        try {
+            type = Class.forName(name, false, loader);
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(name, "Constraint class not found");
+        }
+        if (!SemVerConstraint.class.isAssignableFrom(type))
+            throw new InvalidClassException(name, "Not a subclass of SemVerConstraint");
+        return type;
+    }
+
+    /**
+     * Find constant of {@link ConstraintPattern}.
+     */
+    @Nonnull
+    private static Enum<?> pattern(@Nonnull String className, @Nonnull String name, @Nonnull ClassLoader loader)
+            throws IOException {
+        final Class<?> type;
+        try {
+            type = Class.forName(className, false, loader);
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(className, "Constraint pattern not found");
+        }
+        if (!type.isEnum() || !ConstraintPattern.class.isAssignableFrom(type))
+            throw new InvalidClassException(className, "Not an enum of ConstraintPattern");
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) return (Enum<?>) constant;
+        }
+        throw new InvalidObjectException("Unknown constraint pattern " + className + "." + name);
+    }
+
+    /**
+     * Runtime class and pattern of cached constraint.
+     */
+    private record Shape(@Nonnull Class<?> type, @Nonnull Enum<?> pattern) {
+        @Nonnull
+        static Shape of(@Nonnull SemVerConstraint<?> constraint) throws IOException {
+            if (!(constraint.constraintPattern() instanceof Enum<?> e))
+                throw new NotSerializableException(constraint.constraintPattern().getClass().getName());
+            return new Shape(constraint.getClass(), e);
+        }
+    }
+
+    /**
+     * Restore constraints of the same {@link Shape}.
+     */
+    private static final class Restorer {
+        private final Class<?> requested;
+        private final Class<?> type;
+        private final Enum<?> pattern;
+
+        /**
+         * Declared restorer of the runtime class, or <code>null</code> if it should be parsed again.
+         */
+        private final Method restorer;
+
+        Restorer(@Nonnull Class<?> requested, @Nonnull Class<?> type, @Nonnull Enum<?> pattern) throws IOException {
+            this.requested = requested;
+            this.type = type;
+            this.pattern = pattern;
+            this.restorer = findRestorer(type, pattern.getDeclaringClass());
+        }
+
+        /**
+         * Find {@link SemVerConstraintParser#restorerMethodName() restorer} which is declared by the runtime class.
+         *
+         * @return Restorer method, or <code>null</code> if it is not declared.
+         *
+         * @throws InvalidClassException If the declared restorer does not exist or has different signature.
+         */
+        @Nullable
+        private static Method findRestorer(@Nonnull Class<?> type, @Nonnull Class<?> patternType)
+                throws InvalidClassException {
+            final SemVerConstraintParser annotation = type.getAnnotation(SemVerConstraintParser.class);
+            if (annotation == null || annotation.restorerMethodName().isEmpty()) return null;
+
+            for (Method m : type.getMethods()) {
+                final Class<?>[] p = m.getParameterTypes();
+                if (m.getName().equals(annotation.restorerMethodName())
+                        && Modifier.isStatic(m.getModifiers())
+                        && m.getReturnType() == type
+                        && p.length == 4
+                        && p[0].isAssignableFrom(patternType)
+                        && p[1] == String.class
+                        && p[2] == SemVerRangeNode.class
+                        && p[3] == SemVerRangeNode.class) return m;
+            }
+            throw new InvalidClassException(type.getName(), "Restorer not found");
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nonnull
+        SemVerConstraint<?> restore(@Nonnull String raw, @Nullable SemVerRangeNode start, @Nullable SemVerRangeNode end)
+                throws IOException {
+            if (restorer == null) return SemVerConstraint.parse(
+                    (Class<? extends SemVerConstraint<? extends ConstraintPattern<? extends Enum<?>>>>) requested,
+                    raw
+            );
+            try {
+                return (SemVerConstraint<?>) type.cast(restorer.invoke(null, pattern, raw, start, end));
+            } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
+                throw new InvalidObjectException("Unable to restore '" + raw + "': " + e);
+            }
+        }
+    }
+}
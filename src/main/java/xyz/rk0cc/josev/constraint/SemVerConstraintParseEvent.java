@@ -0,0 +1,77 @@
+package xyz.rk0cc.josev.constraint;
+
+import jdk.jfr.*;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Flight recorder event of {@link SemVerConstraint#parse(Class, String)} which exceeded the threshold.
+ * <br/>
+ * Duration of finding parser {@link java.lang.reflect.Method} is recorded separately, which is significant when the
+ * parser {@link Class} is used at the first time.
+ *
+ * @since 3.3.0
+ */
+@Name("xyz.rk0cc.josev.SemVerConstraintParse")
+@Label("SemVer Constraint Parse")
+@Description("Parsing a version constraint through reflection which is slower than threshold")
+@Category({"JOSEV", "Parsing"})
+@Threshold("1 ms")
+@StackTrace(false)
+final class SemVerConstraintParseEvent extends Event {
+    /**
+     * Maximum length of {@link #input} to be recorded.
+     */
+    static final int MAX_INPUT_LENGTH = 256;
+
+    @Label("Constraint Class")
+    Class<?> constraintClass;
+
+    @Label("Input")
+    @Description("Parsed constraint string, which is truncated if too long")
+    String input;
+
+    @Label("Length")
+    int length;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Failure")
+    @Description("Class name of the thrown exception")
+    String failure;
+
+    @Label("Parser Lookup Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long lookupDuration;
+
+    /**
+     * End this event and commit if it exceeded the threshold.
+     *
+     * @param constraintClass Parser {@link Class}.
+     * @param versionConstraint Parsed constraint.
+     * @param thrown A {@link Throwable} when parsing, or <code>null</code> if succeed.
+     */
+    void complete(
+            @Nonnull Class<?> constraintClass,
+            @Nullable String versionConstraint,
+            @Nullable Throwable thrown
+    ) {
+        end();
+        if (!shouldCommit()) return;
+
+        this.constraintClass = constraintClass;
+        if (versionConstraint != null) {
+            this.input = versionConstraint.length() > MAX_INPUT_LENGTH
+                    ? versionConstraint.substring(0, MAX_INPUT_LENGTH)
+                    : versionConstraint;
+            this.length = versionConstraint.length();
+        }
+        this.success = thrown == null;
+        if (thrown instanceof InvocationTargetException ite && ite.getCause() != null) thrown = ite.getCause();
+        this.failure = thrown == null ? null : thrown.getClass().getName();
+        commit();
+    }
+}
@@ -1,5 +1,7 @@
 package xyz.rk0cc.josev.constraint;
 
+import xyz.rk0cc.josev.SemVerRangeNode;
+
 import javax.annotation.Nonnull;
 import java.lang.annotation.*;
 
@@ -32,4 +34,19 @@ public @interface SemVerConstraintParser {
      */
     @Nonnull
     String parserMethodName() default "parse";
+
+    /**
+     * Define which <b>public static method</b> of annotated class restores a constraint from
+     * {@link SemVerConstraintCache} snapshot without parsing it again.
+     * <br/>
+     * The restorer must return the same type of the located class, with the same parameters of
+     * {@link SemVerConstraint#SemVerConstraint(ConstraintPattern, String, SemVerRangeNode, SemVerRangeNode)}, and
+     * return the same constraint as parsing the raw constraint.
+     *
+     * @return Method name of the restorer, default is empty that constraints are parsed again when loading snapshot.
+     *
+     * @since 3.3.0
+     */
+    @Nonnull
+    String restorerMethodName() default "";
 }
@@ -0,0 +1,260 @@
+package xyz.rk0cc.josev.flow;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Processor} which maps each item into zero or one item for a single {@link Flow.Subscriber}.
+ * <br/>
+ * Upstream items are prefetched into a bounded ring buffer and requested again in batches once half of them were
+ * consumed, therefore upstream {@link Flow.Subscription#request(long)} is called once per batch instead of once per
+ * item. Items are only {@link #apply(Object) transformed} when downstream has demand, except dropped items which do
+ * not need demand.
+ *
+ * @param <T> Type of upstream items.
+ * @param <R> Type of downstream items.
+ *
+ * @since 3.3.0
+ */
+abstract class SemVerFlowStage<T, R> implements Flow.Processor<T, R> {
+    /**
+     * Default size of prefetched items.
+     */
+    static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * Prefetched items from upstream.
+     */
+    private final Object[] buffer;
+
+    /**
+     * Number of consumed items which triggers requesting upstream again.
+     */
+    private final int replenish;
+
+    /**
+     * Number of received and consumed items, {@link #produced} is only written by upstream and {@link #consumed} is
+     * only written by {@link #drain()}.
+     */
+    private volatile long produced, consumed;
+
+    /**
+     * Outstanding demand of downstream.
+     */
+    private final AtomicLong requested = new AtomicLong();
+
+    /**
+     * Work-in-progress counter for serializing {@link #drain()}.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /**
+     * Ensure only one downstream subscribed.
+     */
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super R> downstream;
+    private volatile boolean done, cancelled;
+    private volatile Throwable error;
+
+    /**
+     * A transformed item which is waiting for demand, only accessed by {@link #drain()}.
+     */
+    private R pending;
+
+    /**
+     * Number of consumed items since last upstream request, only accessed by {@link #drain()}.
+     */
+    private int sinceRequest;
+
+    /**
+     * Create a stage.
+     *
+     * @param batchSize Maximum number of prefetched items.
+     *
+     * @throws IllegalArgumentException If <code>batchSize</code> is not positive.
+     */
+    SemVerFlowStage(@Nonnegative int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive");
+        this.buffer = new Object[batchSize];
+        this.replenish = Math.max(batchSize >>> 1, 1);
+    }
+
+    /**
+     * Transform an upstream item.
+     *
+     * @param item Upstream item.
+     *
+     * @return Downstream item, or <code>null</code> if this item is dropped.
+     */
+    @Nullable
+    abstract R apply(@Nonnull T item);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void subscribe(@Nonnull Flow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("Only one subscriber is allowed"));
+            return;
+        }
+        subscriber.onSubscribe(new Downstream());
+        downstream = subscriber;
+        drain();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void onSubscribe(@Nonnull Flow.Subscription subscription) {
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request(buffer.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void onNext(@Nonnull T item) {
+        final long p = produced;
+        if (p - consumed >= buffer.length) {
+            upstream.cancel();
+            onError(new IllegalStateException("Upstream emitted more items than requested"));
+            return;
+        }
+        buffer[(int) (p % buffer.length)] = item;
+        produced = p + 1;
+        drain();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void onError(@Nonnull Throwable throwable) {
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void onComplete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Transform and emit items as many as demanded, which only one thread is running at once.
+     */
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+
+        int missed = 1;
+        do {
+            final Flow.Subscriber<? super R> subscriber = downstream;
+            if (subscriber != null) {
+                final long r = requested.get();
+                long e = 0;
+                while (true) {
+                    if (cancelled) {
+                        pending = null;
+                        return;
+                    }
+                    if (pending != null) {
+                        if (e == r) break;
+                        final R next = pending;
+                        pending = null;
+                        subscriber.onNext(next);
+                        e++;
+                        continue;
+                    }
+
+                    final boolean d = done;
+                    final long c = consumed;
+                    if (c == produced) {
+                        if (d) {
+                            cancelled = true;
+                            final Throwable t = error;
+                            if (t != null) subscriber.onError(t);
+                            else subscriber.onComplete();
+                            return;
+                        }
+                        break;
+                    }
+
+                    final int slot = (int) (c % buffer.length);
+                    final T item = (T) buffer[slot];
+                    buffer[slot] = null;
+                    consumed = c + 1;
+                    if (++sinceRequest == replenish) {
+                        sinceRequest = 0;
+                        if (!done) upstream.request(replenish);
+                    }
+
+                    try {
+                        pending = apply(item);
+                    } catch (Throwable t) {
+                        cancelled = true;
+                        upstream.cancel();
+                        subscriber.onError(t);
+                        return;
+                    }
+                }
+                if (e != 0 && r != Long.MAX_VALUE) requested.addAndGet(-e);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Subscription of downstream.
+     */
+    private final class Downstream implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onError(new IllegalArgumentException("Requested items must be positive"));
+                cancelUpstream();
+                return;
+            }
+            requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+        }
+
+        private void cancelUpstream() {
+            final Flow.Subscription s = upstream;
+            if (s != null) s.cancel();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package xyz.rk0cc.josev.flow;
+
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Flow.Processor} which {@link SemVer#parse(String) parses} {@link String} into {@link SemVer}.
+ * <br/>
+ * Invalid versions are not terminating the stream. Instead, they are sent to a failure handler as a side channel and
+ * skipped from downstream. Since parsing is non-blocking, it runs in the thread which delivering upstream items or
+ * requesting from downstream without switching {@link java.util.concurrent.Executor}.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerParseProcessor extends SemVerFlowStage<String, SemVer> {
+    /**
+     * Handler of invalid versions.
+     */
+    private final Consumer<? super NonStandardSemVerException> failures;
+
+    /**
+     * Create a parsing processor.
+     *
+     * @param failures Handler of invalid versions, it should not block.
+     * @param batchSize Maximum number of prefetched items from upstream.
+     *
+     * @throws IllegalArgumentException If <code>batchSize</code> is not positive.
+     */
+    public SemVerParseProcessor(
+            @Nonnull Consumer<? super NonStandardSemVerException> failures,
+            @Nonnegative int batchSize
+    ) {
+        super(batchSize);
+        this.failures = failures;
+    }
+
+    /**
+     * Create a parsing processor with default batch size.
+     *
+     * @param failures Handler of invalid versions, it should not block.
+     */
+    public SemVerParseProcessor(@Nonnull Consumer<? super NonStandardSemVerException> failures) {
+        this(failures, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    SemVer apply(@Nonnull String item) {
+        try {
+            return SemVer.parse(item);
+        } catch (NonStandardSemVerException e) {
+            failures.accept(e);
+            return null;
+        }
+    }
+}
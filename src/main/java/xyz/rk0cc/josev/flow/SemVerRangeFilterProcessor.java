@@ -0,0 +1,55 @@
+package xyz.rk0cc.josev.flow;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerDetermineInRange;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link Flow.Processor} which only passing {@link SemVer} that {@link SemVerDetermineInRange#isInRange(SemVer) in
+ * range}.
+ * <br/>
+ * Filtered out versions do not consume downstream demand, and upstream is requested again in batches.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerRangeFilterProcessor extends SemVerFlowStage<SemVer, SemVer> {
+    /**
+     * Range of passing versions.
+     */
+    private final SemVerDetermineInRange range;
+
+    /**
+     * Create a filtering processor.
+     *
+     * @param range Range of passing versions.
+     * @param batchSize Maximum number of prefetched items from upstream.
+     *
+     * @throws IllegalArgumentException If <code>batchSize</code> is not positive.
+     */
+    public SemVerRangeFilterProcessor(@Nonnull SemVerDetermineInRange range, @Nonnegative int batchSize) {
+        super(batchSize);
+        this.range = range;
+    }
+
+    /**
+     * Create a filtering processor with default batch size.
+     *
+     * @param range Range of passing versions.
+     */
+    public SemVerRangeFilterProcessor(@Nonnull SemVerDetermineInRange range) {
+        this(range, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    SemVer apply(@Nonnull SemVer item) {
+        return range.isInRange(item) ? item : null;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * {@link java.util.concurrent.Flow.Processor Reactive stream processors} for parsing and filtering
+ * {@link xyz.rk0cc.josev.SemVer} with backpressure.
+ *
+ * @since 3.3.0
+ */
+package xyz.rk0cc.josev.flow;
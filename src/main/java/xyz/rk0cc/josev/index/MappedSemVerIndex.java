@@ -0,0 +1,349 @@
+package xyz.rk0cc.josev.index;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerDetermineInRange;
+import xyz.rk0cc.josev.SemVerRange;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read-only index of versions which memory-mapped from a file written by {@link SemVerIndexWriter}.
+ * <br/>
+ * All lookups are resolved on the mapped bytes directly, only the returned versions will be created as {@link SemVer}.
+ * Therefore, opening an index is nearly instant regardless the number of versions, and the mapped pages can be shared
+ * between processes through operating system's page cache.
+ * <br/>
+ * This class is thread-safe.
+ *
+ * @since 3.3.0
+ */
+public final class MappedSemVerIndex implements Closeable {
+    /**
+     * Opened file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Mapped package directory.
+     */
+    private final ByteBuffer directory;
+
+    /**
+     * Mapped version records and string table.
+     */
+    private final SemVerRecordTable records;
+
+    /**
+     * Number of packages.
+     */
+    private final int packageCount;
+
+    /**
+     * Number of versions from all packages.
+     */
+    private final long versionCount;
+
+    /**
+     * Create index from mapped sections.
+     *
+     * @param channel Opened file channel.
+     * @param directory Mapped package directory.
+     * @param records Mapped records.
+     * @param packageCount Number of packages.
+     * @param versionCount Number of versions.
+     */
+    private MappedSemVerIndex(
+            @Nonnull FileChannel channel,
+            @Nonnull ByteBuffer directory,
+            @Nonnull SemVerRecordTable records,
+            @Nonnegative int packageCount,
+            @Nonnegative long versionCount
+    ) {
+        this.channel = channel;
+        this.directory = directory;
+        this.records = records;
+        this.packageCount = packageCount;
+        this.versionCount = versionCount;
+    }
+
+    /**
+     * Open an index file.
+     *
+     * @param path Location of index file.
+     *
+     * @return Mapped index.
+     *
+     * @throws IOException If unable to open the file, or it is not a valid index file.
+     */
+    @Nonnull
+    public static MappedSemVerIndex open(@Nonnull Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (channel.size() < SemVerIndexWriter.HEADER_SIZE) throw new IOException("Index file is truncated");
+            final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, SemVerIndexWriter.HEADER_SIZE);
+            if (header.getInt(0) != SemVerIndexWriter.MAGIC) throw new IOException("It is not a version index file");
+            if (header.getShort(4) != SemVerIndexWriter.FORMAT_VERSION)
+                throw new IOException("Unsupported index format version " + header.getShort(4));
+
+            final int packageCount = header.getInt(8);
+            final long versionCount = header.getLong(16);
+            final long directoryOffset = header.getLong(24);
+            final long keysOffset = header.getLong(32);
+            final long stringsOffset = header.getLong(40);
+            final long stringsLength = header.getLong(48);
+            if (stringsOffset + stringsLength > channel.size()) throw new IOException("Index file is truncated");
+
+            final ByteBuffer directory = channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    directoryOffset,
+                    (long) SemVerIndexWriter.DIRECTORY_ENTRY_SIZE * packageCount
+            );
+
+            final int chunkCount = (int) ((versionCount + SemVerRecordTable.CHUNK_RECORDS - 1)
+                    >>> SemVerRecordTable.CHUNK_SHIFT);
+            final ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+            for (int c = 0; c < chunkCount; c++) {
+                final long first = (long) c << SemVerRecordTable.CHUNK_SHIFT;
+                final long count = Math.min(SemVerRecordTable.CHUNK_RECORDS, versionCount - first);
+                chunks[c] = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        keysOffset + first * SemVerRecordTable.RECORD_SIZE,
+                        count * SemVerRecordTable.RECORD_SIZE
+                );
+            }
+            final ByteBuffer strings = channel.map(FileChannel.MapMode.READ_ONLY, stringsOffset, stringsLength);
+
+            return new MappedSemVerIndex(
+                    channel,
+                    directory,
+                    new SemVerRecordTable(chunks, strings),
+                    packageCount,
+                    versionCount
+            );
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of packages in this index.
+     *
+     * @return Total packages.
+     */
+    @Nonnegative
+    public int packageCount() {
+        return packageCount;
+    }
+
+    /**
+     * Number of versions in this index.
+     *
+     * @return Total versions from all packages.
+     */
+    @Nonnegative
+    public long versionCount() {
+        return versionCount;
+    }
+
+    /**
+     * Find the package directory entry by name.
+     *
+     * @param packageName Name of the package.
+     *
+     * @return Byte position of directory entry, or <code>-1</code> if not found.
+     */
+    private int findPackage(@Nonnull String packageName) {
+        final byte[] name = packageName.getBytes(StandardCharsets.UTF_8);
+        int lo = 0, hi = packageCount - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            final int entry = mid * SemVerIndexWriter.DIRECTORY_ENTRY_SIZE;
+            final int c = compareName(directory.getInt(entry), name);
+            if (c < 0) lo = mid + 1;
+            else if (c > 0) hi = mid - 1;
+            else return entry;
+        }
+        return -1;
+    }
+
+    /**
+     * Compare stored package name with encoded name in unsigned byte order.
+     *
+     * @param ref Offset of stored name in string table.
+     * @param name Encoded name.
+     *
+     * @return Negative if stored name is lower, positive if greater, otherwise <code>0</code>.
+     */
+    private int compareName(int ref, @Nonnull byte[] name) {
+        final ByteBuffer strings = records.strings();
+        final int length = strings.getInt(ref);
+        final int limit = Math.min(length, name.length);
+        for (int i = 0; i < limit; i++) {
+            final int c = Byte.compareUnsigned(strings.get(ref + 4 + i), name[i]);
+            if (c != 0) return c;
+        }
+        return length - name.length;
+    }
+
+    /**
+     * Determine this index contains the package.
+     *
+     * @param packageName Name of the package.
+     *
+     * @return <code>true</code> if existed.
+     */
+    public boolean contains(@Nonnull String packageName) {
+        return findPackage(packageName) >= 0;
+    }
+
+    /**
+     * Number of versions of a package.
+     *
+     * @param packageName Name of the package.
+     *
+     * @return Total versions of the package, <code>0</code> if the package is absent.
+     */
+    @Nonnegative
+    public int versionCount(@Nonnull String packageName) {
+        final int entry = findPackage(packageName);
+        return entry < 0 ? 0 : directory.getInt(entry + 4);
+    }
+
+    /**
+     * Find the greatest version of a package.
+     *
+     * @param packageName Name of the package.
+     *
+     * @return The latest version, or <code>null</code> if the package is absent.
+     */
+    @Nullable
+    public SemVer latest(@Nonnull String packageName) {
+        final int entry = findPackage(packageName);
+        if (entry < 0) return null;
+        final int count = directory.getInt(entry + 4);
+        return count == 0 ? null : records.decode(directory.getLong(entry + 8) + count - 1);
+    }
+
+    /**
+     * Find the greatest version which is not {@link SemVer#isPreRelease() pre-release} of a package.
+     *
+     * @param packageName Name of the package.
+     *
+     * @return The latest stable version, or <code>null</code> if none.
+     */
+    @Nullable
+    public SemVer latestStable(@Nonnull String packageName) {
+        final int entry = findPackage(packageName);
+        if (entry < 0) return null;
+        final long stable = directory.getLong(entry + 16);
+        return stable < 0 ? null : records.decode(stable);
+    }
+
+    /**
+     * Find the greatest version of a package which is in the <code>range</code>.
+     *
+     * @param packageName Name of the package.
+     * @param range A range of version.
+     *
+     * @return The latest version in range, or <code>null</code> if none.
+     *
+     * @apiNote Only {@link SemVerRange} can be resolved on mapped bytes. Other implementation of
+     *          {@link SemVerDetermineInRange} requires decoding versions from the latest until matched.
+     */
+    @Nullable
+    public SemVer latestMatching(@Nonnull String packageName, @Nonnull SemVerDetermineInRange range) {
+        final int entry = findPackage(packageName);
+        if (entry < 0) return null;
+        final long[] bounds = bounds(entry, range);
+        for (long i = bounds[1] - 1; i >= bounds[0]; i--) {
+            final SemVer sv = records.decode(i);
+            if (range.isInRange(sv)) return sv;
+        }
+        return null;
+    }
+
+    /**
+     * Find all versions of a package which are in the <code>range</code>.
+     *
+     * @param packageName Name of the package.
+     * @param range A range of version.
+     *
+     * @return An ascending ordered {@link List} of versions in range.
+     *
+     * @apiNote Only {@link SemVerRange} can be resolved on mapped bytes. Other implementation of
+     *          {@link SemVerDetermineInRange} requires decoding all versions of the package.
+     */
+    @Nonnull
+    public List<SemVer> allMatching(@Nonnull String packageName, @Nonnull SemVerDetermineInRange range) {
+        final int entry = findPackage(packageName);
+        if (entry < 0) return Collections.emptyList();
+        final long[] bounds = bounds(entry, range);
+        final ArrayList<SemVer> matched = new ArrayList<>((int) Math.max(bounds[1] - bounds[0], 0));
+        for (long i = bounds[0]; i < bounds[1]; i++) {
+            final SemVer sv = records.decode(i);
+            if (range.isInRange(sv)) matched.add(sv);
+        }
+        return Collections.unmodifiableList(matched);
+    }
+
+    /**
+     * Count versions of a package which are in the <code>range</code> without decoding any version.
+     *
+     * @param packageName Name of the package.
+     * @param range A range of version.
+     *
+     * @return Number of versions in range.
+     *
+     * @apiNote It counts by {@link SemVerRange#start() start} and {@link SemVerRange#end() end} node only.
+     */
+    @Nonnegative
+    public long countMatching(@Nonnull String packageName, @Nonnull SemVerRange range) {
+        final int entry = findPackage(packageName);
+        if (entry < 0) return 0;
+        final long[] bounds = bounds(entry, range);
+        return Math.max(bounds[1] - bounds[0], 0);
+    }
+
+    /**
+     * Find the record indices of a package which may be in range.
+     *
+     * @param entry Byte position of directory entry.
+     * @param range A range of version.
+     *
+     * @return Lowest (inclusive) and highest (exclusive) record index.
+     */
+    @Nonnull
+    private long[] bounds(int entry, @Nonnull SemVerDetermineInRange range) {
+        final long first = directory.getLong(entry + 8);
+        final long last = first + directory.getInt(entry + 4);
+        if (!(range instanceof SemVerRange r)) return new long[]{first, last};
+
+        final long lo = records.lowerBound(first, last, r.start());
+        return new long[]{lo, records.upperBound(lo, last, r.end())};
+    }
+
+    /**
+     * Close the file channel of this index.
+     * <br/>
+     * Mapped memory will be released once this object is no longer reachable.
+     *
+     * @throws IOException If closing channel failed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
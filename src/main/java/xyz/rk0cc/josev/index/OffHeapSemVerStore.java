@@ -0,0 +1,532 @@
+package xyz.rk0cc.josev.index;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerDetermineInRange;
+import xyz.rk0cc.josev.SemVerRange;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * An immutable and sorted set of {@link SemVer} which stored outside of Java heap.
+ * <br/>
+ * Versions are packed into fixed-width records with the same layout of {@link SemVerIndexWriter index file}, and tags
+ * are stored once in a string arena. Both of them are allocated as {@link ByteBuffer#allocateDirect(int) direct
+ * buffers}, therefore millions of versions only costs a few objects in heap and they are not traced by garbage
+ * collector. {@link SemVer} objects are only created when reading from this store.
+ * <br/>
+ * Ordering of records is the same as {@link SemVer#compareTo(SemVer)}, and range lookups follow
+ * {@link SemVerRange#isInRange(SemVer)}. The memory is released once this store is no longer reachable.
+ *
+ * @since 3.3.0
+ */
+public final class OffHeapSemVerStore implements Iterable<SemVer> {
+    /**
+     * Records and string arena.
+     */
+    private final SemVerRecordTable records;
+
+    /**
+     * Number of versions.
+     */
+    private final long size;
+
+    /**
+     * Allocated bytes outside of heap.
+     */
+    private final long offHeapBytes;
+
+    /**
+     * Create a store from sorted records.
+     *
+     * @param records Sorted and distinct records.
+     * @param size Number of records.
+     * @param offHeapBytes Allocated bytes of records and arena.
+     */
+    private OffHeapSemVerStore(@Nonnull SemVerRecordTable records, @Nonnegative long size, long offHeapBytes) {
+        this.records = records;
+        this.size = size;
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    /**
+     * Create a new {@link Builder}.
+     *
+     * @return An empty {@link Builder}.
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a store with given versions.
+     *
+     * @param versions Stored versions, order and duplication does not matter.
+     *
+     * @return A store contains all distinct versions.
+     */
+    @Nonnull
+    public static OffHeapSemVerStore of(@Nonnull Iterable<SemVer> versions) {
+        return builder().addAll(versions).build();
+    }
+
+    /**
+     * Number of distinct versions in this store.
+     *
+     * @return Number of versions.
+     */
+    @Nonnegative
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Determine this store has no version.
+     *
+     * @return <code>true</code> if {@link #size()} is <code>0</code>.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of bytes allocated outside of heap by this store.
+     *
+     * @return Allocated bytes of records and tags.
+     */
+    @Nonnegative
+    public long offHeapBytes() {
+        return offHeapBytes;
+    }
+
+    /**
+     * Get a version by ascending order.
+     *
+     * @param index Index of version.
+     *
+     * @return Decoded {@link SemVer}.
+     *
+     * @throws IndexOutOfBoundsException If <code>index</code> is negative or not less than {@link #size()}.
+     */
+    @Nonnull
+    public SemVer get(@Nonnegative long index) {
+        Objects.checkIndex(index, size);
+        return records.decode(index);
+    }
+
+    /**
+     * Find the index of a version.
+     *
+     * @param semVer Finding version.
+     *
+     * @return Index of version, or <code>-(insertion point) - 1</code> if not found, which is the same convention of
+     *         {@link Arrays#binarySearch(Object[], Object)}.
+     */
+    public long indexOf(@Nonnull SemVer semVer) {
+        long lo = 0, hi = size - 1;
+        while (lo <= hi) {
+            final long mid = (lo + hi) >>> 1;
+            final int c = records.compare(mid, semVer);
+            if (c < 0) lo = mid + 1;
+            else if (c > 0) hi = mid - 1;
+            else return mid;
+        }
+        return -(lo + 1);
+    }
+
+    /**
+     * Determine a version is in this store.
+     *
+     * @param semVer Finding version.
+     *
+     * @return <code>true</code> if it is stored.
+     */
+    public boolean contains(@Nonnull SemVer semVer) {
+        return indexOf(semVer) >= 0;
+    }
+
+    /**
+     * Find the greatest version in store.
+     *
+     * @return The latest version, or <code>null</code> if empty.
+     */
+    @Nullable
+    public SemVer latest() {
+        return size == 0 ? null : records.decode(size - 1);
+    }
+
+    /**
+     * Find the greatest version which is in the <code>range</code>.
+     *
+     * @param range A range of version.
+     *
+     * @return The latest version in range, or <code>null</code> if none.
+     */
+    @Nullable
+    public SemVer latestMatching(@Nonnull SemVerDetermineInRange range) {
+        final long[] bounds = bounds(range);
+        for (long i = bounds[1] - 1; i >= bounds[0]; i--) {
+            final SemVer sv = records.decode(i);
+            if (range.isInRange(sv)) return sv;
+        }
+        return null;
+    }
+
+    /**
+     * Visit all versions in the <code>range</code> by ascending order.
+     *
+     * @param range A range of version.
+     * @param action Action of each version in range.
+     *
+     * @apiNote Only {@link SemVerRange} can be bounded without decoding. Other implementation of
+     *          {@link SemVerDetermineInRange} requires decoding all versions.
+     */
+    public void forEachMatching(@Nonnull SemVerDetermineInRange range, @Nonnull Consumer<? super SemVer> action) {
+        final long[] bounds = bounds(range);
+        for (long i = bounds[0]; i < bounds[1]; i++) {
+            final SemVer sv = records.decode(i);
+            if (range.isInRange(sv)) action.accept(sv);
+        }
+    }
+
+    /**
+     * Count versions in the <code>range</code> without decoding any version.
+     *
+     * @param range A range of version.
+     *
+     * @return Number of versions in range.
+     *
+     * @apiNote It counts by {@link SemVerRange#start() start} and {@link SemVerRange#end() end} node only.
+     */
+    @Nonnegative
+    public long countMatching(@Nonnull SemVerRange range) {
+        final long[] bounds = bounds(range);
+        return Math.max(bounds[1] - bounds[0], 0);
+    }
+
+    /**
+     * Find the record indices which may be in range.
+     *
+     * @param range A range of version.
+     *
+     * @return Lowest (inclusive) and highest (exclusive) record index.
+     */
+    @Nonnull
+    private long[] bounds(@Nonnull SemVerDetermineInRange range) {
+        if (!(range instanceof SemVerRange r)) return new long[]{0, size};
+        final long lo = records.lowerBound(0, size, r.start());
+        return new long[]{lo, records.upperBound(lo, size, r.end())};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Iterator<SemVer> iterator() {
+        return new Iterator<>() {
+            private long next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public SemVer next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return records.decode(next++);
+            }
+        };
+    }
+
+    /**
+     * Allocate a direct buffer with native byte order.
+     *
+     * @param capacity Capacity in bytes.
+     *
+     * @return Allocated buffer.
+     */
+    @Nonnull
+    private static ByteBuffer allocate(@Nonnegative int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Collect versions in any order and sort them outside of heap when {@link #build() building}.
+     * <br/>
+     * A {@link Builder} can only be built once.
+     */
+    public static final class Builder {
+        /**
+         * Initial capacity of records in a chunk.
+         */
+        private static final int INITIAL_RECORDS = 1024;
+
+        /**
+         * Collected records in insertion order.
+         */
+        private final ArrayList<ByteBuffer> chunks = new ArrayList<>();
+
+        /**
+         * Deduplicated tags with their offset in {@link #arena}.
+         */
+        private HashMap<String, Integer> tags = new HashMap<>();
+
+        /**
+         * String arena of tags.
+         */
+        private ByteBuffer arena = allocate(4096);
+
+        /**
+         * Number of collected records.
+         */
+        private long count;
+
+        private Builder() {
+            chunks.add(allocate(INITIAL_RECORDS * SemVerRecordTable.RECORD_SIZE));
+        }
+
+        /**
+         * Append a version.
+         *
+         * @param semVer Appending version.
+         *
+         * @return This builder.
+         *
+         * @throws IllegalStateException If this builder has been built already or exceeding capacity.
+         */
+        @Nonnull
+        public Builder add(@Nonnull SemVer semVer) {
+            if (tags == null) throw new IllegalStateException("This builder has been built already");
+            if (count == Integer.MAX_VALUE) throw new IllegalStateException("Too many versions");
+
+            final int position = (int) (count & (SemVerRecordTable.CHUNK_RECORDS - 1)) * SemVerRecordTable.RECORD_SIZE;
+            ByteBuffer chunk = chunks.get(chunks.size() - 1);
+            if (position == 0 && count > 0) {
+                chunk = allocate(INITIAL_RECORDS * SemVerRecordTable.RECORD_SIZE);
+                chunks.add(chunk);
+            } else if (position == chunk.capacity()) {
+                final ByteBuffer grown = allocate(chunk.capacity() << 1);
+                grown.put(0, chunk, 0, chunk.capacity());
+                chunk = grown;
+                chunks.set(chunks.size() - 1, chunk);
+            }
+
+            chunk.putLong(position, semVer.major())
+                    .putLong(position + 8, semVer.minor())
+                    .putLong(position + 16, semVer.patch())
+                    .putInt(position + 24, tag(semVer.preRelease()))
+                    .putInt(position + 28, tag(semVer.build()));
+            count++;
+            return this;
+        }
+
+        /**
+         * Append multiple versions.
+         *
+         * @param versions Appending versions.
+         *
+         * @return This builder.
+         *
+         * @throws IllegalStateException If this builder has been built already or exceeding capacity.
+         */
+        @Nonnull
+        public Builder addAll(@Nonnull Iterable<SemVer> versions) {
+            for (SemVer sv : versions) add(sv);
+            return this;
+        }
+
+        /**
+         * Store a tag into {@link #arena}.
+         *
+         * @param tag A tag, or <code>null</code>.
+         *
+         * @return Offset in arena, or {@link SemVerRecordTable#NO_TAG} if <code>tag</code> is <code>null</code>.
+         */
+        private int tag(@Nullable String tag) {
+            if (tag == null) return SemVerRecordTable.NO_TAG;
+            final Integer existed = tags.get(tag);
+            if (existed != null) return existed;
+
+            final byte[] encoded = tag.getBytes(StandardCharsets.UTF_8);
+            final int ref = arena.position();
+            final long required = (long) ref + 4 + encoded.length;
+            if (required > Integer.MAX_VALUE) throw new IllegalStateException("Tag arena is full");
+            if (required > arena.capacity()) {
+                final ByteBuffer grown = allocate((int) Math.min(
+                        Math.max(required, (long) arena.capacity() << 1),
+                        Integer.MAX_VALUE
+                ));
+                grown.put(arena.flip());
+                arena = grown;
+            }
+            arena.putInt(encoded.length).put(encoded);
+            tags.put(tag, ref);
+            return ref;
+        }
+
+        /**
+         * Sort collected versions, remove duplicates and create the store.
+         *
+         * @return An immutable store.
+         *
+         * @throws IllegalStateException If this builder has been built already.
+         */
+        @Nonnull
+        public OffHeapSemVerStore build() {
+            if (tags == null) throw new IllegalStateException("This builder has been built already");
+            tags = null;
+
+            final ByteBuffer strings = allocate(arena.position());
+            strings.put(0, arena, 0, arena.position());
+            arena = null;
+
+            final SemVerRecordTable unsorted = new SemVerRecordTable(chunks.toArray(new ByteBuffer[0]), strings);
+            final int n = (int) count;
+            final int[] order = sort(unsorted, n);
+
+            // Remove duplicates which are adjacent after sorting.
+            int distinct = 0;
+            for (int i = 0; i < n; i++) {
+                if (distinct == 0 || unsorted.compare(order[distinct - 1], order[i]) != 0) order[distinct++] = order[i];
+            }
+
+            final int chunkCount = Math.max((int) ((distinct + SemVerRecordTable.CHUNK_RECORDS - 1L)
+                    >>> SemVerRecordTable.CHUNK_SHIFT), 1);
+            final ByteBuffer[] sorted = new ByteBuffer[chunkCount];
+            long allocated = strings.capacity();
+            for (int c = 0; c < chunkCount; c++) {
+                final int records = Math.min(distinct - c * SemVerRecordTable.CHUNK_RECORDS,
+                        SemVerRecordTable.CHUNK_RECORDS);
+                sorted[c] = allocate(records * SemVerRecordTable.RECORD_SIZE);
+                allocated += sorted[c].capacity();
+            }
+            for (int i = 0; i < distinct; i++) {
+                unsorted.copyRecord(
+                        order[i],
+                        sorted[i >>> SemVerRecordTable.CHUNK_SHIFT],
+                        (i & (SemVerRecordTable.CHUNK_RECORDS - 1)) * SemVerRecordTable.RECORD_SIZE
+                );
+            }
+            chunks.clear();
+
+            return new OffHeapSemVerStore(new SemVerRecordTable(sorted, strings), distinct, allocated);
+        }
+
+        /**
+         * Sort record indices by LSD radix sort on numbers, then merge sort inside the group of the same numbers.
+         *
+         * @param table Unsorted records.
+         * @param n Number of records.
+         *
+         * @return Sorted record indices.
+         */
+        @Nonnull
+        private static int[] sort(@Nonnull SemVerRecordTable table, int n) {
+            int[] order = new int[n], swap = new int[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            if (n < 2) return order;
+
+            final int[] buckets = new int[1 << 16];
+            // Patch, minor then major, sign bit is flipped for unsigned order of keys.
+            for (int k = 2; k >= 0; k--) {
+                long varying = 0;
+                final long first = key(table, 0, k);
+                for (int i = 1; i < n; i++) varying |= key(table, i, k) ^ first;
+
+                for (int shift = 0; shift < Long.SIZE; shift += 16) {
+                    if (((varying >>> shift) & 0xFFFF) == 0) continue;
+
+                    Arrays.fill(buckets, 0);
+                    for (int i = 0; i < n; i++) buckets[(int) (key(table, order[i], k) >>> shift) & 0xFFFF]++;
+                    for (int b = 0, sum = 0; b < buckets.length; b++) {
+                        final int c = buckets[b];
+                        buckets[b] = sum;
+                        sum += c;
+                    }
+                    for (int i = 0; i < n; i++)
+                        swap[buckets[(int) (key(table, order[i], k) >>> shift) & 0xFFFF]++] = order[i];
+
+                    final int[] t = order;
+                    order = swap;
+                    swap = t;
+                }
+            }
+
+            int from = 0;
+            for (int i = 1; i <= n; i++) {
+                if (i < n && sameNumbers(table, order[from], order[i])) continue;
+                if (i - from > 1) mergeSort(table, order, swap, from, i);
+                from = i;
+            }
+            return order;
+        }
+
+        /**
+         * Get a number of record as radix key.
+         *
+         * @param table Records.
+         * @param index Record index.
+         * @param k <code>0</code> for major, <code>1</code> for minor and <code>2</code> for patch.
+         *
+         * @return Key with flipped sign bit.
+         */
+        private static long key(@Nonnull SemVerRecordTable table, long index, int k) {
+            final long v = switch (k) {
+                case 0 -> table.major(index);
+                case 1 -> table.minor(index);
+                default -> table.patch(index);
+            };
+            return v ^ Long.MIN_VALUE;
+        }
+
+        /**
+         * Determine two records have the same major, minor and patch.
+         */
+        private static boolean sameNumbers(@Nonnull SemVerRecordTable table, long a, long b) {
+            return table.major(a) == table.major(b)
+                    && table.minor(a) == table.minor(b)
+                    && table.patch(a) == table.patch(b);
+        }
+
+        /**
+         * Stable merge sort of record indices.
+         *
+         * @param table Records.
+         * @param a Sorting indices.
+         * @param tmp Temporary space with the same length of <code>a</code>.
+         * @param from Starting position (inclusive).
+         * @param to Ending position (exclusive).
+         */
+        private static void mergeSort(@Nonnull SemVerRecordTable table, int[] a, int[] tmp, int from, int to) {
+            if (to - from <= 16) {
+                for (int i = from + 1; i < to; i++) {
+                    final int v = a[i];
+                    int j = i - 1;
+                    while (j >= from && table.compare(a[j], v) > 0) a[j + 1] = a[j--];
+                    a[j + 1] = v;
+                }
+                return;
+            }
+
+            final int mid = (from + to) >>> 1;
+            mergeSort(table, a, tmp, from, mid);
+            mergeSort(table, a, tmp, mid, to);
+            if (table.compare(a[mid - 1], a[mid]) <= 0) return;
+
+            System.arraycopy(a, from, tmp, from, to - from);
+            for (int i = from, l = from, r = mid; i < to; i++) {
+                if (r >= to || (l < mid && table.compare(tmp[l], tmp[r]) <= 0)) a[i] = tmp[l++];
+                else a[i] = tmp[r++];
+            }
+        }
+    }
+}
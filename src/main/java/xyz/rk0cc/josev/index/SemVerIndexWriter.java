@@ -0,0 +1,271 @@
+package xyz.rk0cc.josev.index;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.collections.SemVerCatalog;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Write sorted version catalogs of multiple packages into a single index file which can be opened by
+ * {@link MappedSemVerIndex}.
+ * <br/>
+ * The index file is assembled with these sections in order, all numbers are stored in big-endian:
+ * <ol>
+ *     <li>
+ *         Header ({@value #HEADER_SIZE} bytes): magic number, format version, number of packages, number of versions
+ *         and the offsets of the remaining sections.
+ *     </li>
+ *     <li>
+ *         Package directory: {@value #DIRECTORY_ENTRY_SIZE} bytes per package which sorted by UTF-8 bytes of package
+ *         name. Each entry contains package name ref, number of versions, index of the first version and index of
+ *         latest stable version.
+ *     </li>
+ *     <li>
+ *         Version keys: fixed-width records of packed major, minor, patch and tag refs which are grouped by package and
+ *         sorted in ascending order. The layout is same as {@link SemVerRecordTable}.
+ *     </li>
+ *     <li>String table: Deduplicated package names and tags.</li>
+ * </ol>
+ *
+ * @since 3.3.0
+ */
+public final class SemVerIndexWriter {
+    /**
+     * Magic number of index file, which is <code>JSVI</code> in ASCII.
+     */
+    static final int MAGIC = 0x4A535649;
+
+    /**
+     * Current version of the format.
+     */
+    static final short FORMAT_VERSION = 1;
+
+    /**
+     * Size of header in bytes.
+     */
+    static final int HEADER_SIZE = 64;
+
+    /**
+     * Size of a package directory entry in bytes.
+     */
+    static final int DIRECTORY_ENTRY_SIZE = 24;
+
+    /**
+     * This class is not allowed to create instance.
+     */
+    private SemVerIndexWriter() {}
+
+    /**
+     * Write versions of packages into an index file.
+     *
+     * @param path Destination of the index file, it will be overwritten if existed.
+     * @param catalogs A {@link Map} of package name with all known versions, which can be {@link SemVerCatalog} or any
+     *                 {@link Collection} of {@link SemVer} in any order.
+     *
+     * @throws IOException If writing file failed.
+     * @throws IllegalStateException If the string table exceeding {@link Integer#MAX_VALUE} bytes.
+     */
+    public static void write(@Nonnull Path path, @Nonnull Map<String, ? extends Iterable<SemVer>> catalogs)
+            throws IOException {
+        final int packageCount = catalogs.size();
+        final byte[][] names = new byte[packageCount][];
+        final List<List<SemVer>> versions = sortedPackages(catalogs, names);
+
+        // Intern all strings before writing since record needs their offsets.
+        final StringTable table = new StringTable();
+        final int[] nameRefs = new int[packageCount];
+        long versionCount = 0;
+        for (int p = 0; p < packageCount; p++) {
+            nameRefs[p] = table.intern(names[p]);
+            for (SemVer sv : versions.get(p)) {
+                table.intern(sv.preRelease());
+                table.intern(sv.build());
+            }
+            versionCount += versions.get(p).size();
+        }
+
+        final long directoryOffset = HEADER_SIZE;
+        final long keysOffset = directoryOffset + (long) DIRECTORY_ENTRY_SIZE * packageCount;
+        final long stringsOffset = keysOffset + (long) SemVerRecordTable.RECORD_SIZE * versionCount;
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)
+        )) {
+            // Header
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeShort(0);
+            out.writeInt(packageCount);
+            out.writeInt(0);
+            out.writeLong(versionCount);
+            out.writeLong(directoryOffset);
+            out.writeLong(keysOffset);
+            out.writeLong(stringsOffset);
+            out.writeLong(table.size());
+            out.writeLong(0);
+
+            // Package directory
+            long first = 0;
+            for (int p = 0; p < packageCount; p++) {
+                final List<SemVer> pv = versions.get(p);
+                long latestStable = -1;
+                for (int i = pv.size() - 1; i >= 0; i--) {
+                    if (!pv.get(i).isPreRelease()) {
+                        latestStable = first + i;
+                        break;
+                    }
+                }
+                out.writeInt(nameRefs[p]);
+                out.writeInt(pv.size());
+                out.writeLong(first);
+                out.writeLong(latestStable);
+                first += pv.size();
+            }
+
+            // Version keys
+            for (List<SemVer> pv : versions) {
+                for (SemVer sv : pv) {
+                    out.writeLong(sv.major());
+                    out.writeLong(sv.minor());
+                    out.writeLong(sv.patch());
+                    out.writeInt(table.ref(sv.preRelease()));
+                    out.writeInt(table.ref(sv.build()));
+                }
+            }
+
+            // String table
+            table.writeTo(out);
+        }
+    }
+
+    /**
+     * Sort packages by UTF-8 encoded name, and sort versions of each package.
+     *
+     * @param catalogs Versions of packages.
+     * @param names An empty array which will be filled with encoded names.
+     *
+     * @return Sorted versions of each package.
+     */
+    @Nonnull
+    private static List<List<SemVer>> sortedPackages(
+            @Nonnull Map<String, ? extends Iterable<SemVer>> catalogs,
+            @Nonnull byte[][] names
+    ) {
+        final ArrayList<Map.Entry<byte[], Iterable<SemVer>>> entries = new ArrayList<>(catalogs.size());
+        catalogs.forEach((k, v) -> entries.add(Map.entry(k.getBytes(StandardCharsets.UTF_8), v)));
+        entries.sort((a, b) -> Arrays.compareUnsigned(a.getKey(), b.getKey()));
+
+        final ArrayList<List<SemVer>> sorted = new ArrayList<>(entries.size());
+        for (int p = 0; p < entries.size(); p++) {
+            final Map.Entry<byte[], Iterable<SemVer>> e = entries.get(p);
+            if (p > 0 && Arrays.equals(names[p - 1], e.getKey()))
+                throw new IllegalArgumentException("Duplicated package name found after encoding");
+
+            names[p] = e.getKey();
+            final Iterable<SemVer> v = e.getValue();
+            final SemVerCatalog catalog;
+            if (v instanceof SemVerCatalog c) catalog = c;
+            else if (v instanceof Collection<SemVer> c) catalog = new SemVerCatalog(c);
+            else {
+                final ArrayList<SemVer> copied = new ArrayList<>();
+                v.forEach(copied::add);
+                catalog = new SemVerCatalog(copied);
+            }
+            sorted.add(catalog.snapshot().versions());
+        }
+        return sorted;
+    }
+
+    /**
+     * Deduplicated string table builder.
+     */
+    private static final class StringTable {
+        /**
+         * Interned strings with their offset.
+         */
+        private final HashMap<String, Integer> refs = new HashMap<>();
+
+        /**
+         * Interned encoded strings with their offset.
+         */
+        private final HashMap<ByteBuffer, Integer> rawRefs = new HashMap<>();
+
+        /**
+         * Encoded table.
+         */
+        private final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+
+        /**
+         * Intern a {@link String} into table.
+         *
+         * @param s Interning {@link String}, or <code>null</code>.
+         */
+        void intern(String s) {
+            if (s == null || refs.containsKey(s)) return;
+            refs.put(s, intern(s.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        /**
+         * Intern encoded bytes into table.
+         *
+         * @param bytes Encoded {@link String}.
+         *
+         * @return Offset of the {@link String}.
+         *
+         * @throws IllegalStateException If the table exceeding {@link Integer#MAX_VALUE} bytes.
+         */
+        int intern(@Nonnull byte[] bytes) {
+            final ByteBuffer key = ByteBuffer.wrap(bytes);
+            final Integer existed = rawRefs.get(key);
+            if (existed != null) return existed;
+
+            final int ref = encoded.size();
+            if ((long) ref + 4 + bytes.length > Integer.MAX_VALUE)
+                throw new IllegalStateException("String table is too large for index file");
+            encoded.write(bytes.length >>> 24);
+            encoded.write(bytes.length >>> 16);
+            encoded.write(bytes.length >>> 8);
+            encoded.write(bytes.length);
+            encoded.writeBytes(bytes);
+            rawRefs.put(key, ref);
+            return ref;
+        }
+
+        /**
+         * Get offset of an interned {@link String}.
+         *
+         * @param s An interned {@link String}, or <code>null</code>.
+         *
+         * @return Offset of the {@link String}, or {@link SemVerRecordTable#NO_TAG} if <code>null</code>.
+         */
+        int ref(String s) {
+            return s == null ? SemVerRecordTable.NO_TAG : refs.get(s);
+        }
+
+        /**
+         * Size of the table.
+         *
+         * @return Size in bytes.
+         */
+        int size() {
+            return encoded.size();
+        }
+
+        /**
+         * Write this table to stream.
+         *
+         * @param out Destination stream.
+         *
+         * @throws IOException If writing failed.
+         */
+        void writeTo(@Nonnull OutputStream out) throws IOException {
+            encoded.writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package xyz.rk0cc.josev.index;
+
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerColumns;
+import xyz.rk0cc.josev.constraint.ConstraintPattern;
+import xyz.rk0cc.josev.constraint.SemVerConstraint;
+import xyz.rk0cc.josev.constraint.SemVerConstraintCache;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Load versions or constraints from a newline-delimited file, which is memory-mapped and parsed from bytes.
+ * <br/>
+ * The file is split into chunks which end at line boundaries, and each chunk is mapped and parsed independently in
+ * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} if it is parallel. Versions are parsed by
+ * {@link SemVer#parse(ByteBuffer, int, int)} directly from mapped bytes, which neither copies chunks to heap nor
+ * decodes lines to {@link String}. Constraints are decoded since {@link SemVerConstraint} is parsed from
+ * {@link String}, but repeated constraints are parsed once by {@link SemVerConstraintCache}.
+ * <br/>
+ * Lines are separated by <code>\n</code>, a trailing <code>\r</code> is ignored and empty lines are skipped.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerLineLoader {
+    /**
+     * Default size of chunk in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+    /**
+     * Receive parsed values of lines.
+     * <br/>
+     * When loading in parallel, methods are called from multiple threads concurrently and the order of lines is
+     * unspecified.
+     *
+     * @param <T> Type of parsed value.
+     *
+     * @since 3.3.0
+     */
+    @FunctionalInterface
+    public interface Sink<T> {
+        /**
+         * Receive a parsed line.
+         *
+         * @param offset Offset of the first byte of line in file.
+         * @param value Parsed value.
+         */
+        void accept(@Nonnegative long offset, @Nonnull T value);
+
+        /**
+         * Receive a line which can not be parsed. It aborts loading by default.
+         *
+         * @param offset Offset of the first byte of line in file.
+         * @param cause Thrown by parser.
+         *
+         * @throws UncheckedIOException Abort loading, which is rethrown as {@link IOException} by loader.
+         */
+        default void rejected(@Nonnegative long offset, @Nonnull RuntimeException cause) {
+            throw new UncheckedIOException(new IOException("Malformed line at offset " + offset, cause));
+        }
+    }
+
+    /**
+     * Parse a line from chunk.
+     */
+    @FunctionalInterface
+    private interface LineParser {
+        /**
+         * @param chunk Mapped chunk.
+         * @param from Index of the first byte of line.
+         * @param to Index after the last byte of line.
+         * @param offset Offset of line in file.
+         *
+         * @return <code>true</code> if accepted.
+         */
+        boolean parse(@Nonnull ByteBuffer chunk, int from, int to, long offset);
+    }
+
+    private final int chunkSize;
+
+    private final boolean parallel;
+
+    /**
+     * Create a parallel loader with {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public SemVerLineLoader() {
+        this(DEFAULT_CHUNK_SIZE, true);
+    }
+
+    /**
+     * Create a loader.
+     *
+     * @param chunkSize Expected size of chunk in bytes, a chunk is extended to the end of line.
+     * @param parallel Parse chunks in parallel.
+     *
+     * @throws IllegalArgumentException If <code>chunkSize</code> is not positive.
+     */
+    public SemVerLineLoader(@Nonnegative int chunkSize, boolean parallel) {
+        if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be positive");
+        this.chunkSize = chunkSize;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Load versions.
+     *
+     * @param path Location of file, which each line is a version.
+     * @param sink Receiver of versions.
+     *
+     * @return Number of accepted versions.
+     *
+     * @throws IOException If unable to read the file, or aborted by {@link Sink#rejected(long, RuntimeException)}.
+     */
+    @Nonnegative
+    public long versions(@Nonnull Path path, @Nonnull Sink<? super SemVer> sink) throws IOException {
+        return load(path, (chunk, from, to, offset) -> {
+            final SemVer parsed;
+            try {
+                parsed = SemVer.parse(chunk, from, to - from);
+            } catch (NonStandardSemVerException e) {
+                sink.rejected(offset, new IllegalArgumentException(e));
+                return false;
+            }
+            sink.accept(offset, parsed);
+            return true;
+        });
+    }
+
+    /**
+     * Load constraints.
+     *
+     * @param path Location of file, which each line is a constraint.
+     * @param cache Cache for parsing repeated constraints once.
+     * @param constraintClass Class of constraint.
+     * @param sink Receiver of constraints.
+     * @param <C> Type of constraint.
+     *
+     * @return Number of accepted constraints.
+     *
+     * @throws IOException If unable to read the file, or aborted by {@link Sink#rejected(long, RuntimeException)}.
+     */
+    @Nonnegative
+    public <C extends SemVerConstraint<? extends ConstraintPattern<? extends Enum<?>>>> long constraints(
+            @Nonnull Path path,
+            @Nonnull SemVerConstraintCache cache,
+            @Nonnull Class<C> constraintClass,
+            @Nonnull Sink<? super C> sink
+    ) throws IOException {
+        return load(path, (chunk, from, to, offset) -> {
+            final C parsed;
+            try {
+                parsed = cache.parse(constraintClass, latin1(chunk, from, to));
+            } catch (UnsupportedOperationException e) {
+                sink.rejected(offset, e);
+                return false;
+            }
+            sink.accept(offset, parsed);
+            return true;
+        });
+    }
+
+    /**
+     * Load versions into columns in the order of file.
+     *
+     * @param path Location of file, which each line is a version.
+     *
+     * @return Sequential columns of all versions.
+     *
+     * @throws IOException If unable to read the file, or any line is malformed.
+     */
+    @Nonnull
+    public SemVerColumns columns(@Nonnull Path path) throws IOException {
+        final ColumnChunk[] chunks;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long[] bounds = chunkBounds(channel);
+            chunks = new ColumnChunk[bounds.length - 1];
+            run(channel, bounds, c -> {
+                final ColumnChunk columns = chunks[c] = new ColumnChunk();
+                return (chunk, from, to, offset) -> {
+                    try {
+                        columns.add(SemVer.parse(chunk, from, to - from));
+                    } catch (NonStandardSemVerException e) {
+                        throw new UncheckedIOException(new IOException("Malformed line at offset " + offset, e));
+                    }
+                    return true;
+                };
+            });
+        }
+
+        int size = 0;
+        for (ColumnChunk c : chunks) size = Math.addExact(size, c.size);
+        final long[] major = new long[size], minor = new long[size], patch = new long[size];
+        final BitSet preRelease = new BitSet(size);
+        int at = 0;
+        for (ColumnChunk c : chunks) {
+            System.arraycopy(c.major, 0, major, at, c.size);
+            System.arraycopy(c.minor, 0, minor, at, c.size);
+            System.arraycopy(c.patch, 0, patch, at, c.size);
+            for (int i = c.preRelease.nextSetBit(0); i >= 0; i = c.preRelease.nextSetBit(i + 1))
+                preRelease.set(at + i);
+            at += c.size;
+        }
+        return new SemVerColumns(major, minor, patch, preRelease);
+    }
+
+    /**
+     * Growable columns of a chunk.
+     */
+    private static final class ColumnChunk {
+        long[] major = new long[64], minor = new long[64], patch = new long[64];
+        final BitSet preRelease = new BitSet();
+        int size;
+
+        void add(@Nonnull SemVer v) {
+            if (size == major.length) {
+                major = Arrays.copyOf(major, size * 2);
+                minor = Arrays.copyOf(minor, size * 2);
+                patch = Arrays.copyOf(patch, size * 2);
+            }
+            major[size] = v.major();
+            minor[size] = v.minor();
+            patch[size] = v.patch();
+            if (v.preRelease() != null) preRelease.set(size);
+            size++;
+        }
+    }
+
+    /**
+     * Factory of {@link LineParser} for each chunk.
+     */
+    @FunctionalInterface
+    private interface ChunkParser {
+        @Nonnull
+        LineParser forChunk(int chunk);
+    }
+
+    /**
+     * Load with the same parser for all chunks.
+     *
+     * @return Number of accepted lines.
+     */
+    private long load(@Nonnull Path path, @Nonnull LineParser parser) throws IOException {
+        final AtomicLong accepted = new AtomicLong();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            run(channel, chunkBounds(channel), c -> (chunk, from, to, offset) -> {
+                if (!parser.parse(chunk, from, to, offset)) return false;
+                accepted.incrementAndGet();
+                return true;
+            });
+        }
+        return accepted.get();
+    }
+
+    /**
+     * Find offsets of chunks which every chunk starts at the beginning of a line.
+     *
+     * @return Offsets of chunks, and the size of file as the last element.
+     */
+    @Nonnull
+    private long[] chunkBounds(@Nonnull FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final ByteBuffer probe = ByteBuffer.allocate(256);
+        long[] bounds = new long[16];
+        int count = 1;
+        long at = 0;
+        while (at < size) {
+            long next = Math.min(size, at + chunkSize);
+            // Extend to the byte after next newline.
+            scan:
+            while (next < size) {
+                probe.clear();
+                final int read = channel.read(probe, next);
+                if (read <= 0) {
+                    next = size;
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        next += i + 1;
+                        break scan;
+                    }
+                }
+                next += read;
+            }
+            if (count == bounds.length) bounds = Arrays.copyOf(bounds, count * 2);
+            bounds[count++] = at = next;
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Map and parse all chunks.
+     *
+     * @param channel Opened file.
+     * @param bounds Offsets of chunks from {@link #chunkBounds(FileChannel)}.
+     * @param parsers Parser of each chunk.
+     *
+     * @throws IOException If unable to map the file, or any parser aborted.
+     */
+    private void run(@Nonnull FileChannel channel, @Nonnull long[] bounds, @Nonnull ChunkParser parsers)
+            throws IOException {
+        final IntStream chunks = IntStream.range(0, bounds.length - 1);
+        try {
+            (parallel ? chunks.parallel() : chunks).forEach(c -> {
+                try {
+                    parseChunk(channel, bounds[c], bounds[c + 1], parsers.forChunk(c));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Map a chunk and parse each line in place.
+     */
+    private static void parseChunk(@Nonnull FileChannel channel, long start, long end, @Nonnull LineParser parser)
+            throws IOException {
+        final int length = (int) (end - start);
+        final MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+
+        int from = 0;
+        while (from < length) {
+            int to = from;
+            while (to < length && chunk.get(to) != '\n') to++;
+            final int next = to + 1;
+            if (to > from && chunk.get(to - 1) == '\r') to--;
+            if (to > from) parser.parse(chunk, from, to, start + from);
+            from = next;
+        }
+    }
+
+    /**
+     * Decode a line as ISO-8859-1.
+     */
+    @Nonnull
+    private static String latin1(@Nonnull ByteBuffer chunk, int from, int to) {
+        final byte[] bytes = new byte[to - from];
+        chunk.get(from, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,400 @@
+package xyz.rk0cc.josev.index;
+
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRangeNode;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A table of fixed-width {@link SemVer} records which sorted in ascending order, with a tag string table.
+ * <br/>
+ * Each record is {@value #RECORD_SIZE} bytes with this layout:
+ * <pre>
+ *     | major (8) | minor (8) | patch (8) | pre-release ref (4) | build ref (4) |
+ * </pre>
+ * A tag ref is the byte offset of a tag in the string table, or {@value #NO_TAG} if not applied. Every string in the
+ * string table is stored as a 4 bytes length follows by UTF-8 encoded bytes.
+ * <br/>
+ * Records are split into multiple {@link ByteBuffer} chunks since a single {@link ByteBuffer} can not exceed
+ * {@link Integer#MAX_VALUE} bytes.
+ *
+ * @since 3.3.0
+ */
+final class SemVerRecordTable {
+    /**
+     * Size of a record in bytes.
+     */
+    static final int RECORD_SIZE = 32;
+
+    /**
+     * Tag reference when the tag is not applied.
+     */
+    static final int NO_TAG = -1;
+
+    /**
+     * Bits of record index to locate the position inside a chunk.
+     */
+    static final int CHUNK_SHIFT = 25;
+
+    /**
+     * Maximum records in a chunk.
+     */
+    static final int CHUNK_RECORDS = 1 << CHUNK_SHIFT;
+
+    /**
+     * Chunks of records.
+     */
+    private final ByteBuffer[] chunks;
+
+    /**
+     * String table of tags.
+     */
+    private final ByteBuffer strings;
+
+    /**
+     * Create a table from existed buffers.
+     *
+     * @param chunks Record chunks, all except the last one must have {@link #CHUNK_RECORDS} records.
+     * @param strings String table.
+     */
+    SemVerRecordTable(@Nonnull ByteBuffer[] chunks, @Nonnull ByteBuffer strings) {
+        this.chunks = chunks;
+        this.strings = strings;
+    }
+
+    /**
+     * Get the string table.
+     *
+     * @return String table buffer.
+     */
+    @Nonnull
+    ByteBuffer strings() {
+        return strings;
+    }
+
+    /**
+     * Get the chunk which containing the record.
+     *
+     * @param index Record index.
+     *
+     * @return Chunk of records.
+     */
+    @Nonnull
+    private ByteBuffer chunk(@Nonnegative long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)];
+    }
+
+    /**
+     * Get the byte position of the record in the {@link #chunk(long) chunk}.
+     *
+     * @param index Record index.
+     *
+     * @return Byte position.
+     */
+    private static int position(@Nonnegative long index) {
+        return (int) (index & (CHUNK_RECORDS - 1)) * RECORD_SIZE;
+    }
+
+    /**
+     * Get major version of the record.
+     *
+     * @param index Record index.
+     *
+     * @return Major version.
+     */
+    long major(@Nonnegative long index) {
+        return chunk(index).getLong(position(index));
+    }
+
+    /**
+     * Get minor version of the record.
+     *
+     * @param index Record index.
+     *
+     * @return Minor version.
+     */
+    long minor(@Nonnegative long index) {
+        return chunk(index).getLong(position(index) + 8);
+    }
+
+    /**
+     * Get patch version of the record.
+     *
+     * @param index Record index.
+     *
+     * @return Patch version.
+     */
+    long patch(@Nonnegative long index) {
+        return chunk(index).getLong(position(index) + 16);
+    }
+
+    /**
+     * Get pre-release tag reference of the record.
+     *
+     * @param index Record index.
+     *
+     * @return Offset in string table, or {@link #NO_TAG}.
+     */
+    int preReleaseRef(@Nonnegative long index) {
+        return chunk(index).getInt(position(index) + 24);
+    }
+
+    /**
+     * Get build tag reference of the record.
+     *
+     * @param index Record index.
+     *
+     * @return Offset in string table, or {@link #NO_TAG}.
+     */
+    int buildRef(@Nonnegative long index) {
+        return chunk(index).getInt(position(index) + 28);
+    }
+
+    /**
+     * Read a {@link String} from string table.
+     *
+     * @param ref Offset in string table.
+     *
+     * @return Decoded {@link String}, or <code>null</code> if <code>ref</code> is {@link #NO_TAG}.
+     */
+    @Nullable
+    String string(int ref) {
+        if (ref == NO_TAG) return null;
+        final int length = strings.getInt(ref);
+        final byte[] encoded = new byte[length];
+        strings.get(ref + 4, encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compare a {@link String} in string table with a {@link String} by the order of {@link String#compareTo(String)}.
+     *
+     * @param ref Offset in string table.
+     * @param s Compared {@link String}.
+     *
+     * @return Negative if stored {@link String} is lower, positive if greater, otherwise <code>0</code>.
+     */
+    int compareString(int ref, @Nonnull String s) {
+        final int length = strings.getInt(ref);
+        final int limit = Math.min(length, s.length());
+        final int base = ref + 4;
+        for (int i = 0; i < limit; i++) {
+            final byte b = strings.get(base + i);
+            // Byte and char order are the same in ASCII only, fallback to decoded one otherwise.
+            if (b < 0 || s.charAt(i) > 0x7f) return string(ref).compareTo(s);
+            final int c = b - s.charAt(i);
+            if (c != 0) return c;
+        }
+        if (length > limit) {
+            for (int i = limit; i < length; i++) {
+                if (strings.get(base + i) < 0) return string(ref).compareTo(s);
+            }
+        }
+        return length - s.length();
+    }
+
+    /**
+     * Compare {@link SemVer#major() major}, {@link SemVer#minor() minor} and {@link SemVer#patch() patch} of the record
+     * with a {@link SemVer}.
+     *
+     * @param index Record index.
+     * @param semVer Compared version.
+     *
+     * @return Negative if the record has lower version group, positive if greater, otherwise <code>0</code>.
+     */
+    int compareVersionGroup(@Nonnegative long index, @Nonnull SemVer semVer) {
+        final ByteBuffer c = chunk(index);
+        final int p = position(index);
+        int r = Long.compare(c.getLong(p), semVer.major());
+        if (r != 0) return r;
+        r = Long.compare(c.getLong(p + 8), semVer.minor());
+        if (r != 0) return r;
+        return Long.compare(c.getLong(p + 16), semVer.patch());
+    }
+
+    /**
+     * Compare the record with a {@link SemVer} by the same order of {@link SemVer#compareTo(SemVer)}.
+     *
+     * @param index Record index.
+     * @param semVer Compared version.
+     *
+     * @return Negative if the record is lower, positive if greater, otherwise <code>0</code>.
+     */
+    int compare(@Nonnegative long index, @Nonnull SemVer semVer) {
+        final int group = compareVersionGroup(index, semVer);
+        if (group != 0) return group;
+
+        final int buildRef = buildRef(index);
+        final String build = semVer.build();
+        if (buildRef != NO_TAG && build != null) {
+            final int c = compareString(buildRef, build);
+            if (c != 0) return c > 0 ? 1 : -1;
+        }
+        else if (buildRef != NO_TAG) return 1;
+        else if (build != null) return -1;
+
+        final int preRef = preReleaseRef(index);
+        final String preRelease = semVer.preRelease();
+        if (preRef != NO_TAG && preRelease != null) {
+            final int c = compareString(preRef, preRelease);
+            if (c != 0) return c > 0 ? -1 : 1;
+        }
+        else if (preRef != NO_TAG) return -1;
+        else if (preRelease != null) return 1;
+
+        return 0;
+    }
+
+    /**
+     * Compare two {@link String Strings} in string table by the order of {@link String#compareTo(String)}.
+     *
+     * @param a Offset of a {@link String}.
+     * @param b Offset of another {@link String}.
+     *
+     * @return Negative if <code>a</code> is lower, positive if greater, otherwise <code>0</code>.
+     */
+    int compareStrings(int a, int b) {
+        if (a == b) return 0;
+        final int la = strings.getInt(a), lb = strings.getInt(b);
+        final int limit = Math.min(la, lb);
+        for (int i = 0; i < limit; i++) {
+            final byte ba = strings.get(a + 4 + i), bb = strings.get(b + 4 + i);
+            // Byte and char order are the same in ASCII only, fallback to decoded one otherwise.
+            if (ba < 0 || bb < 0) return string(a).compareTo(string(b));
+            if (ba != bb) return ba - bb;
+        }
+        for (int i = limit; i < Math.max(la, lb); i++) {
+            if ((la > lb ? strings.get(a + 4 + i) : strings.get(b + 4 + i)) < 0)
+                return string(a).compareTo(string(b));
+        }
+        return la - lb;
+    }
+
+    /**
+     * Compare two records by the same order of {@link SemVer#compareTo(SemVer)}.
+     *
+     * @param a Index of a record.
+     * @param b Index of another record.
+     *
+     * @return Negative if record <code>a</code> is lower, positive if greater, otherwise <code>0</code>.
+     */
+    int compare(@Nonnegative long a, @Nonnegative long b) {
+        int r = Long.compare(major(a), major(b));
+        if (r != 0) return r;
+        r = Long.compare(minor(a), minor(b));
+        if (r != 0) return r;
+        r = Long.compare(patch(a), patch(b));
+        if (r != 0) return r;
+
+        final int buildA = buildRef(a), buildB = buildRef(b);
+        if (buildA != NO_TAG && buildB != NO_TAG) {
+            final int c = compareStrings(buildA, buildB);
+            if (c != 0) return c > 0 ? 1 : -1;
+        }
+        else if (buildA != NO_TAG) return 1;
+        else if (buildB != NO_TAG) return -1;
+
+        final int preA = preReleaseRef(a), preB = preReleaseRef(b);
+        if (preA != NO_TAG && preB != NO_TAG) {
+            final int c = compareStrings(preA, preB);
+            if (c != 0) return c > 0 ? -1 : 1;
+        }
+        else if (preA != NO_TAG) return -1;
+        else if (preB != NO_TAG) return 1;
+
+        return 0;
+    }
+
+    /**
+     * Copy a record into another buffer.
+     *
+     * @param index Record index.
+     * @param target Target buffer.
+     * @param position Byte position in <code>target</code>.
+     */
+    void copyRecord(@Nonnegative long index, @Nonnull ByteBuffer target, @Nonnegative int position) {
+        target.put(position, chunk(index), position(index), RECORD_SIZE);
+    }
+
+    /**
+     * Create a {@link SemVer} from the record.
+     *
+     * @param index Record index.
+     *
+     * @return Decoded {@link SemVer}.
+     *
+     * @throws IllegalStateException If the record does not contain valid version.
+     */
+    @Nonnull
+    SemVer decode(@Nonnegative long index) {
+        final String preRelease = string(preReleaseRef(index)), build = string(buildRef(index));
+        if (preRelease == null && build == null) return new SemVer(major(index), minor(index), patch(index));
+        try {
+            return new SemVer(major(index), minor(index), patch(index), preRelease, build);
+        } catch (NonStandardSemVerException e) {
+            throw new IllegalStateException("Found corrupted version record at " + index, e);
+        }
+    }
+
+    /**
+     * Find the first record index that passed the start node of a range.
+     *
+     * @param from Starting index (inclusive).
+     * @param to Ending index (exclusive).
+     * @param start Start node of the range, <code>null</code> if unbounded.
+     *
+     * @return The lowest index which satisfied <code>start</code>, or <code>to</code> if none.
+     *
+     * @see xyz.rk0cc.josev.SemVerRange#isInRange(SemVer)
+     */
+    long lowerBound(long from, long to, @Nullable SemVerRangeNode start) {
+        if (start == null) return from;
+        final SemVer sv = start.semVer();
+        final boolean orEquals = start.orEquals();
+        long lo = from, hi = to;
+        while (lo < hi) {
+            final long mid = (lo + hi) >>> 1;
+            final int c = compare(mid, sv);
+            if (c > 0 || (c == 0 && orEquals)) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    /**
+     * Find the first record index that no longer satisfied the end node of a range.
+     *
+     * @param from Starting index (inclusive).
+     * @param to Ending index (exclusive).
+     * @param end End node of the range, <code>null</code> if unbounded.
+     *
+     * @return The lowest index which does not satisfied <code>end</code>, or <code>to</code> if all satisfied.
+     *
+     * @see xyz.rk0cc.josev.SemVerRange#isInRange(SemVer)
+     */
+    long upperBound(long from, long to, @Nullable SemVerRangeNode end) {
+        if (end == null) return to;
+        final SemVer sv = end.semVer();
+        final boolean groupExclusive = sv.preRelease() == null;
+        final boolean orEquals = end.orEquals();
+        long lo = from, hi = to;
+        while (lo < hi) {
+            final long mid = (lo + hi) >>> 1;
+            final boolean outside;
+            if (groupExclusive) {
+                outside = compareVersionGroup(mid, sv) >= 0;
+            } else {
+                final int c = compare(mid, sv);
+                outside = c > 0 || (c == 0 && !orEquals);
+            }
+            if (outside) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Compact binary storage of sorted {@link xyz.rk0cc.josev.SemVer} outside the Java heap.
+ * <br/>
+ * Versions are stored as fixed-width records of packed numeric keys with references to a shared tag string table, which
+ * allows range lookups being resolved directly on the stored bytes without creating {@link xyz.rk0cc.josev.SemVer}
+ * objects.
+ *
+ * @since 3.3.0
+ */
+package xyz.rk0cc.josev.index;
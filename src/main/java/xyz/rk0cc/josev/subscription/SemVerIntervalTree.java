@@ -0,0 +1,212 @@
+package xyz.rk0cc.josev.subscription;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.SemVerRangeNode;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+/**
+ * Immutable interval tree of {@link SemVerRangeNode bounds} for finding every interval contains a version.
+ * <br/>
+ * Intervals are sorted by start node in an array, and the tree is implicit: the middle of each sub-array is the root
+ * of it, so that no node object is allocated. Each root stores the highest end node of its sub-array. A stabbing
+ * query skips sub-arrays which highest end is below the version, and stops at the first start node above the version.
+ * <br/>
+ * Bounds are evaluated as same as {@link SemVerRange#isInRange(SemVer)}, which an end node without
+ * {@link SemVer#preRelease() pre-release} tag excludes its whole version group. Versions accepted by any end node are
+ * always lower than an exclusive or inclusive bound in {@link SemVer#compareTo(SemVer) order}, so that end nodes are
+ * totally ordered by {@link #END_ORDER}.
+ *
+ * @since 3.3.0
+ */
+final class SemVerIntervalTree {
+    /**
+     * An interval of a subscription.
+     */
+    static final class Interval {
+        @Nonnull
+        final SemVerSubscription<?> subscription;
+
+        @Nullable
+        final SemVerRangeNode start, end;
+
+        Interval(@Nonnull SemVerSubscription<?> subscription, @Nullable SemVerRangeNode start,
+                 @Nullable SemVerRangeNode end) {
+            this.subscription = subscription;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Order of start nodes from the lowest bound, which unbounded comes first and inclusive node comes before exclusive
+     * node of the same version.
+     */
+    static final Comparator<Interval> START_ORDER = (a, b) -> {
+        if (a.start == null || b.start == null) return a.start == null ? (b.start == null ? 0 : -1) : 1;
+        final int c = a.start.semVer().compareTo(b.start.semVer());
+        return c != 0 ? c : Boolean.compare(b.start.orEquals(), a.start.orEquals());
+    };
+
+    /**
+     * Order of end nodes by accepted versions, which unbounded comes last.
+     * <br/>
+     * An end without pre-release tag accepts versions which numbers are lower, which is lower than any end with
+     * pre-release tag of the same numbers. Ends with pre-release tag are ordered by version, and exclusive node comes
+     * before inclusive node.
+     */
+    static final Comparator<SemVerRangeNode> END_ORDER = (a, b) -> {
+        if (a == null || b == null) return a == null ? (b == null ? 0 : 1) : -1;
+        final SemVer x = a.semVer(), y = b.semVer();
+        int c = Long.compare(x.major(), y.major());
+        if (c == 0) c = Long.compare(x.minor(), y.minor());
+        if (c == 0) c = Long.compare(x.patch(), y.patch());
+        if (c != 0) return c;
+        final boolean xPre = x.preRelease() != null, yPre = y.preRelease() != null;
+        if (!xPre || !yPre) return Boolean.compare(xPre, yPre);
+        c = x.compareTo(y);
+        return c != 0 ? c : Boolean.compare(a.orEquals(), b.orEquals());
+    };
+
+    /**
+     * A tree without interval.
+     */
+    static final SemVerIntervalTree EMPTY = new SemVerIntervalTree(new Interval[0]);
+
+    /**
+     * Intervals sorted by {@link #START_ORDER}.
+     */
+    private final Interval[] intervals;
+
+    /**
+     * Highest end node of sub-array which rooted at the same index, <code>null</code> if unbounded.
+     */
+    private final SemVerRangeNode[] maxEnd;
+
+    /**
+     * Build tree from intervals which are sorted by {@link #START_ORDER} already.
+     *
+     * @param sorted Sorted intervals, which is owned by the tree.
+     */
+    private SemVerIntervalTree(@Nonnull Interval[] sorted) {
+        this.intervals = sorted;
+        this.maxEnd = new SemVerRangeNode[sorted.length];
+        if (sorted.length > 0) build(0, sorted.length);
+    }
+
+    /**
+     * Build tree from intervals.
+     *
+     * @param intervals Intervals in any order.
+     *
+     * @return A tree of all intervals.
+     */
+    @Nonnull
+    static SemVerIntervalTree of(@Nonnull Interval... intervals) {
+        final Interval[] sorted = intervals.clone();
+        Arrays.sort(sorted, START_ORDER);
+        return new SemVerIntervalTree(sorted);
+    }
+
+    /**
+     * Merge intervals of two trees, which intervals of inactive subscriptions are dropped.
+     *
+     * @param a A tree.
+     * @param b Another tree.
+     *
+     * @return A tree of all active intervals of both trees.
+     */
+    @Nonnull
+    static SemVerIntervalTree merge(@Nonnull SemVerIntervalTree a, @Nonnull SemVerIntervalTree b) {
+        final Interval[] x = a.intervals, y = b.intervals;
+        final Interval[] merged = new Interval[x.length + y.length];
+        int i = 0, j = 0, n = 0;
+        while (i < x.length || j < y.length) {
+            final Interval next = j == y.length || (i < x.length && START_ORDER.compare(x[i], y[j]) <= 0)
+                    ? x[i++]
+                    : y[j++];
+            if (next.subscription.isActive()) merged[n++] = next;
+        }
+        return new SemVerIntervalTree(n == merged.length ? merged : Arrays.copyOf(merged, n));
+    }
+
+    /**
+     * Store the highest end node of sub-array from <code>low</code> (inclusive) to <code>high</code> (exclusive).
+     *
+     * @return The highest end node.
+     */
+    @Nullable
+    private SemVerRangeNode build(int low, int high) {
+        final int mid = (low + high) >>> 1;
+        SemVerRangeNode max = intervals[mid].end;
+        if (low < mid) max = max(max, build(low, mid));
+        if (mid + 1 < high) max = max(max, build(mid + 1, high));
+        return maxEnd[mid] = max;
+    }
+
+    @Nullable
+    private static SemVerRangeNode max(@Nullable SemVerRangeNode a, @Nullable SemVerRangeNode b) {
+        return END_ORDER.compare(a, b) >= 0 ? a : b;
+    }
+
+    /**
+     * Number of intervals, including intervals of inactive subscriptions.
+     *
+     * @return Number of intervals.
+     */
+    @Nonnegative
+    int size() {
+        return intervals.length;
+    }
+
+    /**
+     * Find every interval of active subscription which contains <code>version</code>.
+     *
+     * @param version Version to find.
+     * @param action Action of each interval.
+     */
+    void stab(@Nonnull SemVer version, @Nonnull Consumer<Interval> action) {
+        stab(version, 0, intervals.length, action);
+    }
+
+    private void stab(@Nonnull SemVer version, int low, int high, @Nonnull Consumer<Interval> action) {
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (!isBeforeEnd(version, maxEnd[mid])) return;
+            stab(version, low, mid, action);
+
+            // Every interval from mid starts above the version.
+            final Interval interval = intervals[mid];
+            if (!isAfterStart(version, interval.start)) return;
+            if (isBeforeEnd(version, interval.end) && interval.subscription.isActive()) action.accept(interval);
+            low = mid + 1;
+        }
+    }
+
+    /**
+     * Determine version satisfies start node as same as {@link SemVerRange#isInRange(SemVer)}.
+     */
+    private static boolean isAfterStart(@Nonnull SemVer version, @Nullable SemVerRangeNode start) {
+        if (start == null) return true;
+        final int c = version.compareTo(start.semVer());
+        return start.orEquals() ? c >= 0 : c > 0;
+    }
+
+    /**
+     * Determine version satisfies end node as same as {@link SemVerRange#isInRange(SemVer)}, which an end without
+     * pre-release tag excludes its whole version group.
+     */
+    private static boolean isBeforeEnd(@Nonnull SemVer version, @Nullable SemVerRangeNode end) {
+        if (end == null) return true;
+        final SemVer bound = end.semVer();
+        final int c = version.compareTo(bound);
+        if (bound.preRelease() == null) return c < 0 && !version.isSameVersionGroup(bound);
+        return end.orEquals() ? c <= 0 : c < 0;
+    }
+}
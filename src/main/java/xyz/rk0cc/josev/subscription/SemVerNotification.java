@@ -0,0 +1,14 @@
+package xyz.rk0cc.josev.subscription;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A published version which satisfies a subscription.
+ *
+ * @param subscription Satisfied subscription.
+ * @param release Published version.
+ * @param <K> Type of subscriber.
+ *
+ * @since 3.3.0
+ */
+public record SemVerNotification<K>(@Nonnull SemVerSubscription<K> subscription, @Nonnull SemVerRelease release) {}
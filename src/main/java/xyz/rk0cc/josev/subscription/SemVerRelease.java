@@ -0,0 +1,15 @@
+package xyz.rk0cc.josev.subscription;
+
+import xyz.rk0cc.josev.SemVer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A version published for a package.
+ *
+ * @param packageName Name of the package.
+ * @param version Published version.
+ *
+ * @since 3.3.0
+ */
+public record SemVerRelease(@Nonnull String packageName, @Nonnull SemVer version) {}
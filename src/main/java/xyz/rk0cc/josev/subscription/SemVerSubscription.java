@@ -0,0 +1,104 @@
+package xyz.rk0cc.josev.subscription;
+
+import xyz.rk0cc.josev.SemVerDetermineInRange;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A range of versions of a package which registered to {@link SemVerSubscriptionRegistry}.
+ * <br/>
+ * Subscriptions are compared by identity, so that the same subscriber can register the same range multiple times.
+ *
+ * @param <K> Type of subscriber.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerSubscription<K> {
+    private final String packageName;
+
+    private final K subscriber;
+
+    private final SemVerDetermineInRange range;
+
+    /**
+     * Registry which owns this subscription.
+     */
+    final SemVerSubscriptionRegistry<K> registry;
+
+    private volatile boolean active = true;
+
+    SemVerSubscription(
+            @Nonnull SemVerSubscriptionRegistry<K> registry,
+            @Nonnull String packageName,
+            @Nonnull K subscriber,
+            @Nonnull SemVerDetermineInRange range
+    ) {
+        this.registry = registry;
+        this.packageName = packageName;
+        this.subscriber = subscriber;
+        this.range = range;
+    }
+
+    /**
+     * Name of subscribed package.
+     *
+     * @return Package name.
+     */
+    @Nonnull
+    public String packageName() {
+        return packageName;
+    }
+
+    /**
+     * Subscriber of this subscription.
+     *
+     * @return Subscriber.
+     */
+    @Nonnull
+    public K subscriber() {
+        return subscriber;
+    }
+
+    /**
+     * Subscribed versions.
+     *
+     * @return Range of versions.
+     */
+    @Nonnull
+    public SemVerDetermineInRange range() {
+        return range;
+    }
+
+    /**
+     * Determine this subscription has not been {@link SemVerSubscriptionRegistry#unsubscribe(SemVerSubscription)
+     * unsubscribed}.
+     *
+     * @return <code>true</code> if it still receives notifications.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Mark this subscription is no longer active.
+     *
+     * @return <code>true</code> if it was active.
+     */
+    boolean deactivate() {
+        synchronized (this) {
+            if (!active) return false;
+            active = false;
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SemVerSubscription{" +
+                "packageName='" + packageName + '\'' +
+                ", subscriber=" + subscriber +
+                ", range=" + range +
+                ", active=" + active +
+                '}';
+    }
+}
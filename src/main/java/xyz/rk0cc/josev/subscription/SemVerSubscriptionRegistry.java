@@ -0,0 +1,212 @@
+package xyz.rk0cc.josev.subscription;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerDetermineInRange;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.collections.SemVerMultipleRange;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Registry of {@link SemVerSubscription subscriptions} which finds every subscription satisfied by published versions
+ * without evaluating every subscription of the package.
+ * <br/>
+ * Subscriptions are indexed by bounds of {@link SemVerRange}. A {@link SemVerMultipleRange} is indexed by each of its
+ * ranges, and any other {@link SemVerDetermineInRange} is indexed as unbounded. Candidates found by index are confirmed
+ * by {@link SemVerDetermineInRange#isInRange(SemVer)} of the subscription. It requires every version accepted by a
+ * subscription is in its bounds, which holds for all ranges which do not override
+ * {@link SemVerRange#isInRange(SemVer)}, the ranges which only reject more versions, and {@link SemVerMultipleRange}
+ * which only accepts versions in any of its ranges. A {@link SemVerMultipleRange} must not be modified after
+ * subscribing.
+ * <br/>
+ * Each package is indexed by a few immutable interval trees, which sizes are decreasing at least geometrically.
+ * Subscribing adds a tree of the new subscription and merges trees from the smallest while the smaller one is not
+ * larger than the merged tree, so that each subscription is merged at most logarithmic times. Unsubscribed
+ * subscriptions are skipped when finding, and dropped when merging or when more than half of indexed subscriptions are
+ * inactive. Finding reads the current trees without locking, and runs concurrently with subscribing.
+ *
+ * @param <K> Type of subscriber.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerSubscriptionRegistry<K> {
+    /**
+     * Index of a package.
+     */
+    private static final class Bucket {
+        /**
+         * Trees in descending size, which is replaced when modified.
+         */
+        volatile SemVerIntervalTree[] trees = new SemVerIntervalTree[0];
+
+        /**
+         * Number of intervals in trees, and the number of intervals of inactive subscriptions.
+         */
+        private int intervals, inactive;
+
+        synchronized void add(@Nonnull SemVerIntervalTree.Interval[] added) {
+            final ArrayList<SemVerIntervalTree> next = new ArrayList<>(Arrays.asList(trees));
+            SemVerIntervalTree carry = SemVerIntervalTree.of(added);
+            intervals += added.length;
+            while (!next.isEmpty() && next.get(next.size() - 1).size() <= carry.size()) {
+                final SemVerIntervalTree smaller = next.remove(next.size() - 1);
+                final int size = smaller.size() + carry.size();
+                carry = SemVerIntervalTree.merge(smaller, carry);
+                // Dropped intervals are no longer counted.
+                intervals -= size - carry.size();
+                inactive -= size - carry.size();
+            }
+            next.add(carry);
+            trees = next.toArray(new SemVerIntervalTree[0]);
+        }
+
+        synchronized void deactivated(@Nonnegative int count) {
+            inactive += count;
+            if (inactive * 2 <= intervals) return;
+
+            SemVerIntervalTree merged = SemVerIntervalTree.EMPTY;
+            for (SemVerIntervalTree t : trees) merged = SemVerIntervalTree.merge(merged, t);
+            intervals = merged.size();
+            inactive = 0;
+            trees = merged.size() == 0 ? new SemVerIntervalTree[0] : new SemVerIntervalTree[]{merged};
+        }
+    }
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Create an empty registry.
+     */
+    public SemVerSubscriptionRegistry() {}
+
+    /**
+     * Subscribe versions of a package.
+     *
+     * @param packageName Name of package.
+     * @param subscriber Subscriber.
+     * @param range Subscribed versions.
+     *
+     * @return A new active subscription.
+     */
+    @Nonnull
+    public SemVerSubscription<K> subscribe(
+            @Nonnull String packageName,
+            @Nonnull K subscriber,
+            @Nonnull SemVerDetermineInRange range
+    ) {
+        final SemVerSubscription<K> subscription = new SemVerSubscription<>(
+                this,
+                Objects.requireNonNull(packageName),
+                Objects.requireNonNull(subscriber),
+                Objects.requireNonNull(range)
+        );
+        buckets.computeIfAbsent(packageName, p -> new Bucket()).add(intervals(subscription));
+        size.increment();
+        return subscription;
+    }
+
+    /**
+     * Index bounds of subscription.
+     */
+    @Nonnull
+    private static SemVerIntervalTree.Interval[] intervals(@Nonnull SemVerSubscription<?> subscription) {
+        final SemVerDetermineInRange range = subscription.range();
+        if (range instanceof SemVerRange r)
+            return new SemVerIntervalTree.Interval[]{new SemVerIntervalTree.Interval(subscription, r.start(), r.end())};
+        if (range instanceof SemVerMultipleRange<?> m && !m.isEmpty())
+            return m.stream()
+                    .map(r -> new SemVerIntervalTree.Interval(subscription, r.start(), r.end()))
+                    .toArray(SemVerIntervalTree.Interval[]::new);
+        return new SemVerIntervalTree.Interval[]{new SemVerIntervalTree.Interval(subscription, null, null)};
+    }
+
+    /**
+     * Cancel a subscription, which no longer be found after returned.
+     *
+     * @param subscription Subscription from this registry.
+     *
+     * @return <code>true</code> if it was active.
+     *
+     * @throws IllegalArgumentException If the subscription is not from this registry.
+     */
+    public boolean unsubscribe(@Nonnull SemVerSubscription<K> subscription) {
+        if (subscription.registry != this)
+            throw new IllegalArgumentException("Subscription is not registered in this registry");
+        if (!subscription.deactivate()) return false;
+        size.decrement();
+        buckets.get(subscription.packageName()).deactivated(intervals(subscription).length);
+        return true;
+    }
+
+    /**
+     * Number of active subscriptions.
+     *
+     * @return Number of active subscriptions.
+     */
+    @Nonnegative
+    public long size() {
+        return size.sum();
+    }
+
+    /**
+     * Find every active subscription satisfied by a version.
+     *
+     * @param packageName Name of package.
+     * @param version Published version.
+     *
+     * @return Satisfied subscriptions in unspecified order.
+     */
+    @Nonnull
+    public List<SemVerSubscription<K>> find(@Nonnull String packageName, @Nonnull SemVer version) {
+        final Bucket bucket = buckets.get(packageName);
+        return bucket == null ? List.of() : find(bucket.trees, version);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    private List<SemVerSubscription<K>> find(@Nonnull SemVerIntervalTree[] trees, @Nonnull SemVer version) {
+        final ArrayList<SemVerSubscription<K>> found = new ArrayList<>();
+        // Subscription of multiple ranges may be found once per range.
+        final Set<SemVerSubscription<?>> multiple = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (SemVerIntervalTree tree : trees) {
+            tree.stab(version, interval -> {
+                final SemVerSubscription<?> s = interval.subscription;
+                if (s.range() instanceof SemVerMultipleRange<?> m && m.size() > 1 && !multiple.add(s)) return;
+                if (s.range().isInRange(version)) found.add((SemVerSubscription<K>) s);
+            });
+        }
+        return found;
+    }
+
+    /**
+     * Find every active subscription satisfied by a batch of published versions.
+     * <br/>
+     * Releases are grouped by package, and each package reads its index once. The returned {@link Stream} is parallel
+     * and finds lazily when consuming. Order of notifications is unspecified.
+     *
+     * @param releases Published versions of any packages.
+     *
+     * @return A {@link Stream} of every pair of satisfied subscription and published version.
+     */
+    @Nonnull
+    public Stream<SemVerNotification<K>> publish(@Nonnull Collection<SemVerRelease> releases) {
+        final HashMap<String, List<SemVerRelease>> published = new HashMap<>();
+        for (SemVerRelease r : releases)
+            if (buckets.containsKey(r.packageName()))
+                published.computeIfAbsent(r.packageName(), p -> new ArrayList<>()).add(r);
+
+        return published.entrySet().parallelStream().flatMap(e -> {
+            final SemVerIntervalTree[] trees = buckets.get(e.getKey()).trees;
+            return e.getValue()
+                    .parallelStream()
+                    .flatMap(r -> find(trees, r.version()).stream().map(s -> new SemVerNotification<>(s, r)));
+        });
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Registering ranges of versions per package and finding every subscription satisfied by newly published versions.
+ *
+ * @since 3.3.0
+ */
+package xyz.rk0cc.josev.subscription;
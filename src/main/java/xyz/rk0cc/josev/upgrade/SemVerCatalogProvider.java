@@ -0,0 +1,64 @@
+package xyz.rk0cc.josev.upgrade;
+
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.collections.SemVerCatalog;
+import xyz.rk0cc.josev.index.MappedSemVerIndex;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Source of {@link SemVerCatalog} for {@link SemVerUpgradePlanner}.
+ * <br/>
+ * It may fetch versions from remote registry, or a local stand-in like {@link #of(MappedSemVerIndex) index file} for
+ * planning offline.
+ *
+ * @since 3.3.0
+ */
+@FunctionalInterface
+public interface SemVerCatalogProvider {
+    /**
+     * Get all known versions of the package.
+     * <br/>
+     * It may be called from multiple threads concurrently.
+     *
+     * @param packageName Name of the package.
+     *
+     * @return A {@link SemVerCatalog} of the package, or <code>null</code> if the package is unknown.
+     *
+     * @throws IOException If unable to fetch versions.
+     */
+    @Nullable
+    SemVerCatalog catalog(@Nonnull String packageName) throws IOException;
+
+    /**
+     * Provide catalogs from a {@link Map}.
+     *
+     * @param catalogs Catalogs with package name.
+     *
+     * @return A provider uses given catalogs.
+     */
+    @Nonnull
+    static SemVerCatalogProvider of(@Nonnull Map<String, SemVerCatalog> catalogs) {
+        return catalogs::get;
+    }
+
+    /**
+     * Provide catalogs from {@link MappedSemVerIndex}.
+     * <br/>
+     * Versions of package will be decoded from index file every time when {@link #catalog(String) called}.
+     *
+     * @param index Opened index file.
+     *
+     * @return A provider uses given index file.
+     */
+    @Nonnull
+    static SemVerCatalogProvider of(@Nonnull MappedSemVerIndex index) {
+        final SemVerRange unbounded = new SemVerRange(null, null);
+        return packageName -> index.contains(packageName)
+                ? new SemVerCatalog(index.allMatching(packageName, unbounded))
+                : null;
+    }
+}
@@ -0,0 +1,21 @@
+package xyz.rk0cc.josev.upgrade;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.constraint.SemVerConstraint;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A declaration of dependency which uses for {@link SemVerUpgradePlanner planning upgrade}.
+ *
+ * @param packageName Name of the package.
+ * @param current Currently resolved version of the package.
+ * @param constraint Declared version constraint of the package.
+ *
+ * @since 3.3.0
+ */
+public record SemVerDependency(
+        @Nonnull String packageName,
+        @Nonnull SemVer current,
+        @Nonnull SemVerConstraint<?> constraint
+) {}
@@ -0,0 +1,44 @@
+package xyz.rk0cc.josev.upgrade;
+
+import xyz.rk0cc.josev.SemVer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Available upgrades of a {@link SemVerDependency}.
+ * <br/>
+ * Except {@link #latestCompatible()}, all versions are selected from versions without
+ * {@link SemVer#preRelease() pre-release} tag only.
+ *
+ * @param dependency Planned dependency.
+ * @param latestCompatible The greatest version which is in range of {@link SemVerDependency#constraint() constraint},
+ *                         <code>null</code> if none.
+ * @param latestPatch The greatest version which has the same {@link SemVer#major() major} and {@link SemVer#minor()
+ *                    minor} with {@link SemVerDependency#current() current version}, <code>null</code> if none.
+ * @param latestMinor The greatest version which has the same {@link SemVer#major() major} with
+ *                    {@link SemVerDependency#current() current version}, <code>null</code> if none.
+ * @param latestMajor The greatest version of the package, <code>null</code> if none.
+ *
+ * @since 3.3.0
+ */
+public record SemVerUpgrade(
+        @Nonnull SemVerDependency dependency,
+        @Nullable SemVer latestCompatible,
+        @Nullable SemVer latestPatch,
+        @Nullable SemVer latestMinor,
+        @Nullable SemVer latestMajor
+) {
+    /**
+     * Determine any upgrade is available.
+     *
+     * @return <code>true</code> if one of the latest version is greater than {@link SemVerDependency#current() current}.
+     */
+    public boolean hasUpgrade() {
+        final SemVer current = dependency.current();
+        return (latestCompatible != null && latestCompatible.isGreater(current))
+                || (latestPatch != null && latestPatch.isGreater(current))
+                || (latestMinor != null && latestMinor.isGreater(current))
+                || (latestMajor != null && latestMajor.isGreater(current));
+    }
+}
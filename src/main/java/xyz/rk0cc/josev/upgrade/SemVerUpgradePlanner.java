@@ -0,0 +1,195 @@
+package xyz.rk0cc.josev.upgrade;
+
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.SemVerRangeNode;
+import xyz.rk0cc.josev.collections.SemVerCatalog;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plan available upgrades for multiple {@link SemVerDependency dependencies} concurrently.
+ * <br/>
+ * Each dependency is planned independently, which fetching {@link SemVerCatalog} from {@link SemVerCatalogProvider} and
+ * finding the latest compatible, patch, minor and major version. The work is distributed to the given {@link Executor}
+ * with a limit of concurrent running plans. It can be a thread pool, {@link ForkJoinPool} or a virtual thread executor
+ * when running on Java 21 or later.
+ *
+ * @since 3.3.0
+ */
+public final class SemVerUpgradePlanner {
+    /**
+     * Source of catalogs.
+     */
+    private final SemVerCatalogProvider provider;
+
+    /**
+     * Executor for running plans.
+     */
+    private final Executor executor;
+
+    /**
+     * Maximum number of plans running at once.
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Create a planner.
+     *
+     * @param provider Source of catalogs.
+     * @param executor Executor for running plans.
+     * @param maxConcurrency Maximum number of plans running at once.
+     *
+     * @throws IllegalArgumentException If <code>maxConcurrency</code> is not positive.
+     */
+    public SemVerUpgradePlanner(
+            @Nonnull SemVerCatalogProvider provider,
+            @Nonnull Executor executor,
+            @Nonnegative int maxConcurrency
+    ) {
+        if (maxConcurrency < 1) throw new IllegalArgumentException("Maximum concurrency must be positive");
+        this.provider = provider;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Create a planner which runs on {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param provider Source of catalogs.
+     * @param maxConcurrency Maximum number of plans running at once.
+     *
+     * @throws IllegalArgumentException If <code>maxConcurrency</code> is not positive.
+     */
+    public SemVerUpgradePlanner(@Nonnull SemVerCatalogProvider provider, @Nonnegative int maxConcurrency) {
+        this(provider, ForkJoinPool.commonPool(), maxConcurrency);
+    }
+
+    /**
+     * Plan upgrades of a single dependency in current thread.
+     *
+     * @param dependency Planning dependency.
+     *
+     * @return Available upgrades, all versions are <code>null</code> if the package is unknown.
+     *
+     * @throws IOException If {@link SemVerCatalogProvider} unable to fetch versions.
+     */
+    @Nonnull
+    public SemVerUpgrade plan(@Nonnull SemVerDependency dependency) throws IOException {
+        final SemVerCatalog catalog = provider.catalog(dependency.packageName());
+        if (catalog == null) return new SemVerUpgrade(dependency, null, null, null, null);
+
+        final SemVerCatalog.Snapshot snapshot = catalog.snapshot();
+        final SemVer current = dependency.current();
+        final long major = current.major(), minor = current.minor();
+
+        return new SemVerUpgrade(
+                dependency,
+                snapshot.latestMatching(dependency.constraint()),
+                snapshot.latestMatching(new StableRange(
+                        new SemVer(major, minor),
+                        minor == Long.MAX_VALUE ? null : new SemVer(major, minor + 1)
+                )),
+                snapshot.latestMatching(new StableRange(
+                        new SemVer(major),
+                        major == Long.MAX_VALUE ? null : new SemVer(major + 1)
+                )),
+                snapshot.latestMatching(new StableRange(null, null))
+        );
+    }
+
+    /**
+     * Plan upgrades of multiple dependencies concurrently.
+     *
+     * @param dependencies Planning dependencies.
+     *
+     * @return A {@link CompletableFuture} of available upgrades which is the same order of <code>dependencies</code>.
+     *         It completes exceptionally with {@link UncheckedIOException} if any {@link SemVerCatalogProvider} failed.
+     */
+    @Nonnull
+    public CompletableFuture<List<SemVerUpgrade>> planAsync(@Nonnull Collection<SemVerDependency> dependencies) {
+        final SemVerDependency[] pending = dependencies.toArray(new SemVerDependency[0]);
+        final SemVerUpgrade[] planned = new SemVerUpgrade[pending.length];
+        final AtomicInteger next = new AtomicInteger();
+
+        // Each worker keeps taking next dependency until all planned, which limits concurrency without blocking.
+        final Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < pending.length) {
+                try {
+                    planned[i] = plan(pending[i]);
+                } catch (IOException e) {
+                    next.set(pending.length);
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        final int workers = Math.min(maxConcurrency, pending.length);
+        final CompletableFuture<?>[] running = new CompletableFuture<?>[workers];
+        for (int w = 0; w < workers; w++) running[w] = CompletableFuture.runAsync(worker, executor);
+
+        return CompletableFuture.allOf(running).thenApply(v -> List.of(planned));
+    }
+
+    /**
+     * Plan upgrades of multiple dependencies concurrently and wait until all completed.
+     *
+     * @param dependencies Planning dependencies.
+     *
+     * @return Available upgrades which is the same order of <code>dependencies</code>.
+     *
+     * @throws IOException If {@link SemVerCatalogProvider} unable to fetch versions.
+     * @throws InterruptedException If current thread is interrupted while waiting.
+     */
+    @Nonnull
+    public List<SemVerUpgrade> plan(@Nonnull Collection<SemVerDependency> dependencies)
+            throws IOException, InterruptedException {
+        try {
+            return planAsync(dependencies).get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException uioe) throw uioe.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * A range which excludes versions with {@link SemVer#preRelease() pre-release} tag.
+     */
+    private static final class StableRange extends SemVerRange {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Create range from inclusive <code>from</code> to exclusive <code>until</code>.
+         *
+         * @param from Lowest version (inclusive), <code>null</code> if unbounded.
+         * @param until Highest version (exclusive), <code>null</code> if unbounded.
+         */
+        StableRange(@Nullable SemVer from, @Nullable SemVer until) {
+            super(
+                    from == null ? null : new SemVerRangeNode(from, '>', true),
+                    until == null ? null : new SemVerRangeNode(until, '<', false)
+            );
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isInRange(@Nonnull SemVer semVer) {
+            return semVer.preRelease() == null && super.isInRange(semVer);
+        }
+    }
+}
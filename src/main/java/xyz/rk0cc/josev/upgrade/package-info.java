@@ -0,0 +1,7 @@
+/**
+ * Planning available upgrades of dependencies by their {@link xyz.rk0cc.josev.constraint.SemVerConstraint version
+ * constraint} and known versions from {@link xyz.rk0cc.josev.collections.SemVerCatalog}.
+ *
+ * @since 3.3.0
+ */
+package xyz.rk0cc.josev.upgrade;
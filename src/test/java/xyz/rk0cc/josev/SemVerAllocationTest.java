@@ -0,0 +1,125 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerAllocationTest {
+    private static final int WARMUP = 20_000, ITERATIONS = 200_000;
+
+    /**
+     * Budget of {@link SemVer#parse(String)} in bytes per call.
+     */
+    private static final long PARSE_BUDGET = 256;
+
+    /**
+     * Scanning state, {@link SemVer} and locations of tags, without any decoded tag.
+     */
+    private static final long LAZY_PARSE_BUDGET = 192;
+
+    /**
+     * Object header and a packed {@link Long}, aligned to 8 bytes.
+     */
+    private static final long COMPACT_BUDGET = 24;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static int sink;
+
+    private static long allocatedPerCall(IntSupplier operation) {
+        for (int i = 0; i < WARMUP; i++) sink += operation.getAsInt();
+        final long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) sink += operation.getAsInt();
+        return (THREADS.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+
+    private static void assertBudget(long budget, IntSupplier operation) {
+        final long allocated = allocatedPerCall(operation);
+        assertTrue(allocated <= budget, "Allocated " + allocated + " bytes per call, budget is " + budget);
+    }
+
+    @BeforeAll
+    static void checkSupported() {
+        Assumptions.assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @DisplayName("Comparing and hashing do not allocate")
+    @Order(1)
+    @Test
+    void testCompareAndHash() throws NonStandardSemVerException {
+        final SemVer a = SemVer.parse("1.2.3-beta.1+build.5"), b = SemVer.parse("1.2.3-beta.2+build.5");
+        final SemVer c = SemVer.parse("1.2.3-beta.1+build.5");
+        final SemVerRangeNode node = new SemVerRangeNode(a, '>', true);
+
+        assertEquals(Objects.hash(a.major(), a.minor(), a.patch(), a.preRelease(), a.build()), a.hashCode());
+        assertEquals(Objects.hash(a, '>', true), node.hashCode());
+
+        assertBudget(0, () -> a.compareTo(b));
+        assertBudget(0, () -> a.equals(c) ? 1 : 0);
+        assertBudget(0, a::hashCode);
+        assertBudget(0, node::hashCode);
+    }
+
+    @DisplayName("Range evaluation does not allocate")
+    @Order(2)
+    @Test
+    void testIsInRange() throws NonStandardSemVerException {
+        final SemVer inside = SemVer.parse("1.5.0"), outside = SemVer.parse("2.0.0-rc.1");
+        final SemVerRange range = SampleConstraint.parse(">=1.0.0 <2.0.0");
+        final SemVerRange caret = SampleConstraint.parse("^1.0.0");
+
+        assertBudget(0, () -> range.isInRange(inside) ? 1 : 0);
+        assertBudget(0, () -> range.isInRange(outside) ? 1 : 0);
+        assertBudget(0, () -> caret.isInRange(inside) ? 1 : 0);
+    }
+
+    @DisplayName("Parsing stays within budget")
+    @Order(3)
+    @Test
+    void testParse() {
+        final String[] versions = {"1.2.3", "v10.20.30", "1.0.0-alpha.1+build.5"};
+        final int[] cursor = {0};
+        assertBudget(PARSE_BUDGET, () -> {
+            cursor[0] = (cursor[0] + 1) % versions.length;
+            return Objects.requireNonNull(SemVer.tryParse(versions[cursor[0]])).hashCode();
+        });
+    }
+
+    @DisplayName("Lazy parsing does not decode tags when comparing by numbers")
+    @Order(4)
+    @Test
+    void testLazyParse() {
+        final String[] versions = {"1.2.3", "v10.20.30", "1.0.0-alpha.1+build.5"};
+        final SemVer pivot = new SemVer(2);
+        final int[] cursor = {0};
+        assertBudget(LAZY_PARSE_BUDGET, () -> {
+            cursor[0] = (cursor[0] + 1) % versions.length;
+            try {
+                return SemVer.lazyParse(versions[cursor[0]]).compareTo(pivot);
+            } catch (NonStandardSemVerException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    @DisplayName("Small versions without tags are stored in a single object")
+    @Order(5)
+    @Test
+    void testCompact() {
+        final SemVer[] retained = new SemVer[1024];
+        final int[] cursor = {0};
+        assertBudget(COMPACT_BUDGET, () -> {
+            final int i = cursor[0]++ & 1023;
+            retained[i] = new SemVer(i, 2, 3);
+            return retained[i].hashCode();
+        });
+    }
+}
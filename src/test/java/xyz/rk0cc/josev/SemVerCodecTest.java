@@ -0,0 +1,179 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerCodecTest {
+    private static final String[] VERSIONS = {
+            "0.0.0", "1.2.3", "127.128.16384", "9223372036854775807.0.1", "1.0.0-alpha", "1.0.0+build.1",
+            "2.0.0-rc.1+build.123", "1.0.0-alpha-a.b-c-somethinglong+build.1-aef.1-its-okay"
+    };
+
+    private static byte[] serialize(Object o) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(o);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] b) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(b))) {
+            return in.readObject();
+        }
+    }
+
+    @DisplayName("Round trip version with data stream and byte buffer")
+    @Order(1)
+    @Test
+    void testSemVerRoundTrip() throws NonStandardSemVerException, IOException {
+        for (String v : VERSIONS) {
+            final SemVer sv = SemVer.parse(v);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            SemVerCodec.write(sv, new DataOutputStream(bytes));
+            assertEquals(SemVerCodec.encodedSize(sv), bytes.size());
+            final SemVer fromStream = SemVerCodec.readSemVer(
+                    new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+            );
+            assertEquals(sv, fromStream);
+            assertEquals(sv.value(), fromStream.value());
+
+            ByteBuffer buffer = ByteBuffer.allocate(SemVerCodec.encodedSize(sv));
+            SemVerCodec.write(sv, buffer);
+            assertFalse(buffer.hasRemaining());
+            assertEquals(sv, SemVerCodec.readSemVer(buffer.flip()));
+        }
+
+        assertEquals(4, SemVerCodec.encodedSize(SemVer.parse("1.2.3")));
+    }
+
+    @DisplayName("Round trip range and nodes")
+    @Order(2)
+    @Test
+    void testRangeRoundTrip() throws IOException {
+        final List<SemVerRange> ranges = List.of(
+                SampleConstraint.parse(">=1.0.0 <2.0.0-alpha"),
+                SampleConstraint.parse(">1.0.0+1 <=2.0.0"),
+                SampleConstraint.parse("<3.0.0"),
+                SampleConstraint.parse(">=3.0.0-rc.1"),
+                new SemVerRange(null, null)
+        );
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SemVerCodec.writeAll(ranges, new DataOutputStream(bytes));
+        final List<SemVerRange> decoded = SemVerCodec.readAll(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+        );
+
+        assertEquals(ranges.size(), decoded.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i).start(), decoded.get(i).start());
+            assertEquals(ranges.get(i).end(), decoded.get(i).end());
+
+            ByteBuffer buffer = ByteBuffer.allocate(SemVerCodec.encodedSize(ranges.get(i)));
+            SemVerCodec.write(ranges.get(i), buffer);
+            final SemVerRange fromBuffer = SemVerCodec.readRange(buffer.flip());
+            assertEquals(ranges.get(i).start(), fromBuffer.start());
+            assertEquals(ranges.get(i).end(), fromBuffer.end());
+        }
+    }
+
+    @DisplayName("Java serialization uses compact form")
+    @Order(3)
+    @Test
+    void testSerialization() throws Exception {
+        for (String v : VERSIONS) {
+            final SemVer sv = SemVer.parse(v);
+            assertEquals(sv, deserialize(serialize(sv)));
+        }
+
+        final SemVerRange range = new SemVerRange(
+                new SemVerRangeNode(SemVer.parse("1.0.0"), '>', true),
+                new SemVerRangeNode(SemVer.parse("2.0.0-rc.1"), '<', false)
+        );
+        final SemVerRange deserializedRange = (SemVerRange) deserialize(serialize(range));
+        assertEquals(range.start(), deserializedRange.start());
+        assertEquals(range.end(), deserializedRange.end());
+
+        final SampleConstraint constraint = SampleConstraint.parse("^1.2.0");
+        assertEquals(constraint, deserialize(serialize(constraint)));
+    }
+
+    @DisplayName("Corrupted tag length is rejected before allocating")
+    @Order(4)
+    @Test
+    void testCorruptedTagLength() {
+        // 1.2.3 with pre-release tag which length is Integer.MAX_VALUE in LEB128.
+        final byte[] corrupted = {1, 1, 2, 3, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a'};
+        assertThrows(
+                StreamCorruptedException.class,
+                () -> SemVerCodec.readSemVer(new DataInputStream(new ByteArrayInputStream(corrupted)))
+        );
+        assertThrows(IllegalArgumentException.class, () -> SemVerCodec.readSemVer(ByteBuffer.wrap(corrupted)));
+    }
+
+    @DisplayName("Decoding rejects invalid numbers and tags without assertions enabled")
+    @Order(5)
+    @Test
+    void testInvalidFields() throws Exception {
+        final byte[][] invalid = {
+                // 1.2.3-!!
+                {1, 1, 2, 3, 2, '!', '!'},
+                // 1.2.3-01
+                {1, 1, 2, 3, 2, '0', '1'},
+                // 1.2.3+b_d
+                {2, 1, 2, 3, 3, 'b', '_', 'd'},
+                // 1.2.3- with empty tag
+                {1, 1, 2, 3, 0},
+                // Major is 2^63, which is negative in long.
+                {0, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+                        (byte) 0x80, (byte) 0x80, 1, 2, 3},
+                // The 10th byte of major exceeds 64 bits.
+                {0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                        (byte) 0xFF, (byte) 0xFF, 2, 2, 3}
+        };
+
+        // Load codec again with assertions disabled, so that validation must not depend on assert.
+        final URL classes = SemVerCodec.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+            loader.setDefaultAssertionStatus(false);
+            final Class<?> codec = Class.forName(SemVerCodec.class.getName(), true, loader);
+            assertFalse(codec.desiredAssertionStatus());
+            final Method fromStream = codec.getMethod("readSemVer", DataInput.class);
+            final Method fromBuffer = codec.getMethod("readSemVer", ByteBuffer.class);
+
+            for (byte[] encoded : invalid) {
+                final InvocationTargetException streamFailure = assertThrows(
+                        InvocationTargetException.class,
+                        () -> fromStream.invoke(null, new DataInputStream(new ByteArrayInputStream(encoded)))
+                );
+                assertInstanceOf(StreamCorruptedException.class, streamFailure.getCause());
+                final InvocationTargetException bufferFailure = assertThrows(
+                        InvocationTargetException.class,
+                        () -> fromBuffer.invoke(null, ByteBuffer.wrap(encoded))
+                );
+                assertInstanceOf(IllegalArgumentException.class, bufferFailure.getCause());
+            }
+
+            // 2^63 - 1 is still accepted.
+            final byte[] max = {0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                    (byte) 0xFF, (byte) 0xFF, 0x7F, 2, 3};
+            assertEquals(
+                    new SemVer(Long.MAX_VALUE, 2, 3).toString(),
+                    fromBuffer.invoke(null, ByteBuffer.wrap(max)).toString()
+            );
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.collections.SemVerMultipleRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerColumnsTest {
+    private static final String[] CONSTRAINTS = {
+            "^1.0.0", "^0.2.0", ">=1.2.0 <2.0.0", ">1.0.0", "<1.1.0", ">=0.0.1", "<=2.0.0", ">1.0.0+build.1",
+            ">=1.0.0+build.1 <2.1.0", ">=1.1.0 <=1.1.0"
+    };
+
+    private static final class RangeSet extends SemVerMultipleRange<SampleConstraint> {
+        RangeSet(String... constraints) {
+            for (String c : constraints) add(SampleConstraint.parse(c));
+        }
+
+        @Override
+        public boolean isInRange(@Nonnull SemVer semVer) {
+            return stream().anyMatch(r -> r.isInRange(semVer));
+        }
+    }
+
+    private static List<SemVer> versions(int count, long seed) throws NonStandardSemVerException {
+        final Random random = new Random(seed);
+        final List<SemVer> versions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) versions.add(new SemVer(
+                random.nextInt(3),
+                random.nextInt(3),
+                random.nextInt(3),
+                random.nextInt(4) == 0 ? "beta." + random.nextInt(3) : null,
+                null
+        ));
+        return versions;
+    }
+
+    @DisplayName("Evaluating columns is the same as evaluating each version")
+    @Order(1)
+    @Test
+    void testEvaluate() throws NonStandardSemVerException {
+        final List<SemVer> versions = versions(1000, 47L);
+        final SemVerColumns columns = SemVerColumns.of(versions);
+        assertEquals(versions.size(), columns.size());
+        for (String c : CONSTRAINTS) {
+            final SampleConstraint range = SampleConstraint.parse(c);
+            final BitSet result = range.evaluate(columns);
+            for (int i = 0; i < versions.size(); i++)
+                assertEquals(range.isInRange(versions.get(i)), result.get(i), versions.get(i) + " in " + c);
+            assertEquals(result, BitSet.valueOf(range.evaluateWords(columns)));
+        }
+        assertEquals(versions.size(), new SemVerRange(null, null).evaluate(columns).cardinality());
+    }
+
+    @DisplayName("Large numbers are evaluated by columns")
+    @Order(2)
+    @Test
+    void testWide() throws NonStandardSemVerException {
+        final long large = 1L << 21;
+        final List<SemVer> versions = new ArrayList<>(versions(300, 7L));
+        for (long n : new long[]{large - 1, large, Long.MAX_VALUE}) {
+            versions.add(new SemVer(n, 0, 0));
+            versions.add(new SemVer(1, n, 0));
+            versions.add(new SemVer(1, 1, n, "rc", null));
+        }
+        final List<SemVerRange> ranges = new ArrayList<>();
+        for (String c : CONSTRAINTS) ranges.add(SampleConstraint.parse(c));
+        ranges.add(new SemVerRange(new SemVerRangeNode(new SemVer(1, large), '>', true), null));
+        ranges.add(new SemVerRange(null, new SemVerRangeNode(new SemVer(large, 1), '<', false)));
+
+        // Small versions are packed even if bounds can not be packed.
+        for (List<SemVer> input : List.of(versions, versions(300, 8L))) {
+            final SemVerColumns columns = SemVerColumns.of(input);
+            for (SemVerRange range : ranges) {
+                final BitSet result = range.evaluate(columns);
+                for (int i = 0; i < input.size(); i++)
+                    assertEquals(range.isInRange(input.get(i)), result.get(i), input.get(i) + " in " + range.start());
+            }
+        }
+    }
+
+    @DisplayName("Columns can be created from arrays")
+    @Order(3)
+    @Test
+    void testArrays() {
+        final BitSet pre = new BitSet();
+        pre.set(1);
+        final SemVerColumns columns = new SemVerColumns(
+                new long[]{1, 1, 2}, new long[]{0, 5, 0}, new long[]{0, 0, 0}, pre
+        );
+        assertEquals(BitSet.valueOf(new long[]{0b011}), SampleConstraint.parse("^1.0.0").evaluate(columns));
+        assertEquals(BitSet.valueOf(new long[]{0b001}), SampleConstraint.parse("<1.5.0").evaluate(columns));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new SemVerColumns(new long[1], new long[2], new long[1], new BitSet())
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new SemVerColumns(new long[1], new long[1], new long[1], pre)
+        );
+    }
+
+    @DisplayName("Pre-release bounds and overridden ranges are rejected")
+    @Order(4)
+    @Test
+    void testUnsupported() throws NonStandardSemVerException {
+        final SemVerColumns columns = SemVerColumns.of(List.of(new SemVer(1)));
+        assertThrows(IllegalArgumentException.class, () -> SampleConstraint.parse("^1.0.0-beta").evaluate(columns));
+        assertThrows(IllegalArgumentException.class, () -> SampleConstraint.parse("<2.0.0-rc.1").evaluate(columns));
+
+        final SemVerRange overridden = new SemVerRange(null, null) {
+            @Override
+            public boolean isInRange(@Nonnull SemVer semVer) {
+                return semVer.preRelease() == null;
+            }
+        };
+        assertThrows(UnsupportedOperationException.class, () -> overridden.evaluate(columns));
+    }
+
+    @DisplayName("Parallel evaluation is the same as sequential")
+    @Order(5)
+    @Test
+    void testParallel() throws NonStandardSemVerException {
+        final SemVerColumns columns = SemVerColumns.of(versions(SemVerColumns.PARALLEL_THRESHOLD * 2 + 17, 4747L));
+        final SemVerColumns parallel = columns.parallel();
+        assertTrue(parallel.isParallel());
+        assertFalse(parallel.sequential().isParallel());
+        for (String c : CONSTRAINTS) {
+            final SampleConstraint range = SampleConstraint.parse(c);
+            assertEquals(range.evaluate(columns), range.evaluate(parallel), c);
+        }
+    }
+
+    @DisplayName("Multiple range matches any or all ranges")
+    @Order(6)
+    @Test
+    void testMultipleRange() throws NonStandardSemVerException {
+        final List<SemVer> versions = versions(500, 4L);
+        final SemVerColumns columns = SemVerColumns.of(versions);
+        final RangeSet ranges = new RangeSet("^1.0.0", ">=1.2.0 <2.0.0", "<=2.0.0");
+
+        final BitSet any = ranges.matchAny(columns), all = ranges.matchAll(columns);
+        for (int i = 0; i < versions.size(); i++) {
+            final SemVer v = versions.get(i);
+            assertEquals(ranges.isInRange(v), any.get(i), v.toString());
+            assertEquals(ranges.stream().allMatch(r -> r.isInRange(v)), all.get(i), v.toString());
+        }
+
+        assertTrue(new RangeSet("^1.0.0", "^2.0.0").matchAll(columns).isEmpty());
+        assertTrue(new RangeSet().matchAny(columns).isEmpty());
+        assertEquals(versions.size(), new RangeSet().matchAll(columns).cardinality());
+    }
+}
@@ -0,0 +1,74 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerCompactTest {
+    /**
+     * Numbers around the boundary of packed form.
+     */
+    private static final long[] NUMBERS = {0, 1, (1L << 21) - 1, 1L << 21, Long.MAX_VALUE};
+
+    private static List<SemVer> versions() throws NonStandardSemVerException {
+        final List<SemVer> versions = new ArrayList<>();
+        for (long major : NUMBERS)
+            for (long minor : NUMBERS)
+                for (long patch : NUMBERS) {
+                    versions.add(new SemVer(major, minor, patch));
+                    versions.add(new SemVer(major, minor, patch, "alpha", null));
+                    versions.add(new SemVer(major, minor, patch, null, "build.1"));
+                }
+        return versions;
+    }
+
+    @DisplayName("Compact and wide form behave the same")
+    @Order(1)
+    @Test
+    void testEquivalence() throws NonStandardSemVerException {
+        final List<SemVer> versions = versions();
+        for (SemVer a : versions) {
+            assertEquals(
+                    Objects.hash(a.major(), a.minor(), a.patch(), a.preRelease(), a.build()),
+                    a.hashCode()
+            );
+            final SemVer parsed = SemVer.parse(a.value()), lazy = SemVer.lazyParse(a.value());
+            assertEquals(a, parsed);
+            assertEquals(a, lazy);
+            assertEquals(a.toString(), parsed.toString());
+            assertEquals(a.isPreRelease(), lazy.isPreRelease());
+
+            final ByteBuffer buffer = ByteBuffer.allocate(SemVerCodec.encodedSize(a));
+            SemVerCodec.write(a, buffer);
+            assertEquals(a, SemVerCodec.readSemVer(buffer.flip()));
+
+            for (SemVer b : versions) {
+                final int expected = SemVer.compare(a.value(), b.value());
+                assertEquals(expected, a.compareTo(b), a + " <=> " + b);
+                assertEquals(expected == 0, a.equals(b));
+                assertEquals(
+                        a.major() == b.major() && a.minor() == b.minor() && a.patch() == b.patch(),
+                        a.isSameVersionGroup(b)
+                );
+            }
+        }
+    }
+
+    @DisplayName("Numbers are restored from packed form")
+    @Order(2)
+    @Test
+    void testNumbers() throws NonStandardSemVerException {
+        final SemVer max = new SemVer((1L << 21) - 1, (1L << 21) - 1, (1L << 21) - 1);
+        assertEquals("2097151.2097151.2097151", max.value());
+        assertEquals(new SemVer(0, 0, 1), SemVer.parse("0.0.1"));
+        assertEquals(2097152L, SemVer.parse("1.2097152.3").minor());
+        assertTrue(SemVer.parse("1.0.0").isLower(SemVer.parse("1.2097152.0")));
+        assertTrue(SemVer.parse("2097152.0.0").isGreater(SemVer.parse("2097151.2097151.2097151")));
+    }
+}
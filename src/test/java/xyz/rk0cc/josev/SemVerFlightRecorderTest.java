@@ -0,0 +1,80 @@
+package xyz.rk0cc.josev;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.collections.SemVerMultipleRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+import xyz.rk0cc.josev.constraint.SemVerConstraint;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerFlightRecorderTest {
+    private static final String PARSE = "xyz.rk0cc.josev.SemVerParse",
+            CONSTRAINT = "xyz.rk0cc.josev.SemVerConstraintParse",
+            OPERATION = "xyz.rk0cc.josev.SemVerRangeOperation";
+
+    @DisplayName("Events are recorded when exceeding threshold")
+    @Order(1)
+    @Test
+    void testRecordEvents() throws IOException {
+        final Path dump = Files.createTempFile("josev", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PARSE).withThreshold(Duration.ZERO);
+            recording.enable(CONSTRAINT).withThreshold(Duration.ZERO);
+            recording.enable(OPERATION).withThreshold(Duration.ZERO);
+            recording.start();
+
+            SemVer.tryParse("1.0.0");
+            SemVer.tryParse("1.0.0-beta..1");
+            SemVerConstraint.parse(SampleConstraint.class, "^1.0.0");
+            final SemVerMultipleRange<SampleConstraint> mr = new SemVerMultipleRange<>() {
+                @Override
+                public boolean isInRange(@Nonnull SemVer semVer) {
+                    return stream().anyMatch(r -> r.isInRange(semVer));
+                }
+            };
+            mr.addAll(Set.of(SampleConstraint.parse("^1.0.0"), SampleConstraint.parse("^2.0.0")));
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        try {
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+            final List<RecordedEvent> parses = events.stream()
+                    .filter(e -> e.getEventType().getName().equals(PARSE))
+                    .toList();
+            assertTrue(parses.stream().anyMatch(e -> e.getString("input").equals("1.0.0") && e.getBoolean("success")));
+            assertTrue(parses.stream().anyMatch(e -> !e.getBoolean("success")
+                    && e.getString("failure").equals(SemVerMetrics.ParseFailure.INVALID_PRE_RELEASE.name())
+                    && e.getInt("length") == 13));
+
+            final RecordedEvent constraint = events.stream()
+                    .filter(e -> e.getEventType().getName().equals(CONSTRAINT))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals("^1.0.0", constraint.getString("input"));
+            assertTrue(constraint.getBoolean("success"));
+            assertEquals(SampleConstraint.class.getName(), constraint.getClass("constraintClass").getName());
+
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals(OPERATION)
+                    && e.getString("operation").equals("addAll")
+                    && e.getInt("inputSize") == 2
+                    && e.getBoolean("result")));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential fuzzing of all parser entry points against {@link SemVer#SEMVER_REGEX}.
+ * <br/>
+ * Seed and number of inputs per shape can be changed by system properties <code>josev.fuzz.seed</code> and
+ * <code>josev.fuzz.iterations</code>.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerFuzzTest {
+    private static final long SEED = Long.getLong("josev.fuzz.seed", 20230601L);
+    private static final int ITERATIONS = Integer.getInteger("josev.fuzz.iterations", 5_000);
+
+    private static final Pattern REFERENCE = Pattern.compile("^" + SemVer.SEMVER_REGEX + "$");
+    private static final String IDENTIFIER_CHARS =
+            "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ-";
+
+    /**
+     * Every public parser entry points, which return <code>null</code> if rejected.
+     */
+    private static final Map<String, Function<String, SemVer>> ENTRY_POINTS = new LinkedHashMap<>();
+
+    static {
+        ENTRY_POINTS.put("parse", s -> {
+            try {
+                return SemVer.parse(s);
+            } catch (NonStandardSemVerException e) {
+                return null;
+            }
+        });
+        ENTRY_POINTS.put("tryParse", SemVer::tryParse);
+        ENTRY_POINTS.put("lazyParse", s -> {
+            try {
+                return SemVer.lazyParse(s);
+            } catch (NonStandardSemVerException e) {
+                return null;
+            }
+        });
+        ENTRY_POINTS.put("parseBytes", s -> {
+            // Embed in other bytes to ensure offset and length are respected.
+            final byte[] encoded = ("[" + s + "]").getBytes(StandardCharsets.ISO_8859_1);
+            try {
+                return SemVer.parse(encoded, 1, encoded.length - 2);
+            } catch (NonStandardSemVerException e) {
+                return null;
+            }
+        });
+        ENTRY_POINTS.put("parseBuffer", s -> {
+            final byte[] encoded = ("[" + s + "]").getBytes(StandardCharsets.ISO_8859_1);
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length).put(encoded);
+            try {
+                return SemVer.parse(buffer, 1, encoded.length - 2);
+            } catch (NonStandardSemVerException e) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Parsed fields from reference implementation.
+     */
+    private record Fields(long major, long minor, long patch, String preRelease, String build) {
+        static Fields of(@Nonnull SemVer semVer) {
+            return new Fields(semVer.major(), semVer.minor(), semVer.patch(), semVer.preRelease(), semVer.build());
+        }
+    }
+
+    /**
+     * Reference parser built from {@link SemVer#SEMVER_REGEX} directly.
+     */
+    @Nullable
+    private static Fields reference(@Nonnull String input) {
+        final String v = !input.isEmpty() && input.charAt(0) == 'v' ? input.substring(1) : input;
+        final Matcher m = REFERENCE.matcher(v);
+        if (!m.matches()) return null;
+        try {
+            return new Fields(
+                    Long.parseLong(m.group(1)),
+                    Long.parseLong(m.group(2)),
+                    Long.parseLong(m.group(3)),
+                    m.group(4),
+                    m.group(5)
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Shapes of generated input.
+     */
+    private enum Shape {
+        VALID {
+            @Override
+            String generate(SplittableRandom r) {
+                return core(r) + tags(r, 4, 12);
+            }
+        },
+        LEADING_ZERO {
+            @Override
+            String generate(SplittableRandom r) {
+                final String[] parts = {number(r), number(r), number(r)};
+                parts[r.nextInt(3)] = "0" + r.nextInt(100);
+                final String tag = r.nextBoolean() ? "" : "-rc." + (r.nextBoolean() ? "0" : "") + r.nextInt(10);
+                return String.join(".", parts) + tag;
+            }
+        },
+        LONG_IDENTIFIER {
+            @Override
+            String generate(SplittableRandom r) {
+                final StringBuilder sb = new StringBuilder(core(r)).append(r.nextBoolean() ? '-' : '+');
+                final int length = 256 + r.nextInt(4096);
+                for (int i = 0; i < length; i++) {
+                    final int c = r.nextInt(20);
+                    sb.append(c == 0 ? '.' : c < 10 ? (char) ('0' + c) : IDENTIFIER_CHARS.charAt(r.nextInt(63)));
+                }
+                if (r.nextInt(4) == 0) sb.append(r.nextBoolean() ? "..": "!");
+                return sb.toString();
+            }
+        },
+        OVERFLOW {
+            @Override
+            String generate(SplittableRandom r) {
+                final String[] parts = {number(r), number(r), number(r)};
+                final String big = switch (r.nextInt(3)) {
+                    case 0 -> "9223372036854775807";
+                    case 1 -> "9223372036854775808";
+                    default -> "1" + "0".repeat(19 + r.nextInt(20));
+                };
+                parts[r.nextInt(3)] = big;
+                return String.join(".", parts) + tags(r, 1, 4);
+            }
+        },
+        STRAY_CHARACTER {
+            @Override
+            String generate(SplittableRandom r) {
+                final StringBuilder sb = new StringBuilder(core(r) + tags(r, 2, 6));
+                final int strays = 1 + r.nextInt(3);
+                for (int i = 0; i < strays; i++) sb.insert(r.nextInt(sb.length() + 1), "v+-."
+                        .charAt(r.nextInt(4)));
+                return sb.toString();
+            }
+        },
+        MUTATED {
+            @Override
+            String generate(SplittableRandom r) {
+                final char[] chars = (core(r) + tags(r, 3, 8)).toCharArray();
+                chars[r.nextInt(chars.length)] = (char) (0x20 + r.nextInt(0x5F));
+                return new String(chars);
+            }
+        };
+
+        abstract String generate(SplittableRandom r);
+
+        static String number(SplittableRandom r) {
+            return switch (r.nextInt(4)) {
+                case 0 -> "0";
+                case 1 -> String.valueOf(r.nextInt(10));
+                case 2 -> String.valueOf(r.nextInt(1000));
+                default -> String.valueOf(r.nextLong(Long.MAX_VALUE));
+            };
+        }
+
+        static String core(SplittableRandom r) {
+            return (r.nextInt(8) == 0 ? "v" : "") + number(r) + "." + number(r) + "." + number(r);
+        }
+
+        static String identifier(SplittableRandom r, int maxLength) {
+            if (r.nextInt(3) == 0) return number(r);
+            final StringBuilder sb = new StringBuilder();
+            final int length = 1 + r.nextInt(maxLength);
+            for (int i = 0; i < length; i++) sb.append(IDENTIFIER_CHARS.charAt(r.nextInt(IDENTIFIER_CHARS.length())));
+            return sb.toString();
+        }
+
+        static String tags(SplittableRandom r, int maxIdentifiers, int maxLength) {
+            final StringBuilder sb = new StringBuilder();
+            if (r.nextBoolean()) {
+                sb.append('-').append(identifier(r, maxLength));
+                for (int i = r.nextInt(maxIdentifiers); i > 0; i--) sb.append('.').append(identifier(r, maxLength));
+            }
+            if (r.nextBoolean()) {
+                sb.append('+').append(identifier(r, maxLength));
+                for (int i = r.nextInt(maxIdentifiers); i > 0; i--) sb.append('.').append(identifier(r, maxLength));
+            }
+            return sb.toString();
+        }
+    }
+
+    @DisplayName("All parser entry points agree with regex reference")
+    @Order(1)
+    @Test
+    void testDifferential(TestReporter reporter) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final StringBuilder report = new StringBuilder("SemVer fuzz (seed=" + SEED + "), inputs/ms per shape:");
+
+        for (Shape shape : Shape.values()) {
+            final String[] inputs = new String[ITERATIONS];
+            for (int i = 0; i < ITERATIONS; i++) inputs[i] = shape.generate(random);
+
+            final Fields[] expected = new Fields[ITERATIONS];
+            for (int i = 0; i < ITERATIONS; i++) expected[i] = reference(inputs[i]);
+
+            for (Map.Entry<String, Function<String, SemVer>> entry : ENTRY_POINTS.entrySet()) {
+                final long begin = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    final String input = inputs[i];
+                    final SemVer parsed;
+                    try {
+                        parsed = entry.getValue().apply(input);
+                    } catch (RuntimeException e) {
+                        fail(entry.getKey() + " threw unexpectedly on \"" + input + "\"", e);
+                        return;
+                    }
+                    assertEquals(
+                            expected[i],
+                            parsed == null ? null : Fields.of(parsed),
+                            () -> entry.getKey() + " disagreed on " + shape + " input \"" + input + "\""
+                    );
+                }
+                final double elapsedMs = (System.nanoTime() - begin) / 1e6;
+                report.append(String.format(
+                        "%n  %-16s %-10s %10.1f",
+                        shape,
+                        entry.getKey(),
+                        ITERATIONS / Math.max(elapsedMs, 1e-3)
+                ));
+            }
+        }
+
+        reporter.publishEntry("throughput", report.toString());
+    }
+
+    @DisplayName("Reference accepts valid samples and rejects invalid samples")
+    @Order(2)
+    @Test
+    void testReferenceSanity() {
+        assertEquals(new Fields(1, 2, 3, "rc.1", "build.5"), reference("v1.2.3-rc.1+build.5"));
+        assertNull(reference("01.2.3"));
+        assertNull(reference("9223372036854775808.0.0"));
+        assertNull(reference("vv1.0.0"));
+        assertNull(reference(""));
+    }
+}
@@ -0,0 +1,103 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+
+import javax.annotation.Nonnull;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerLazyCompareTest {
+    private static final String[] TAGS = {null, "alpha", "alpha.1", "alpha.beta", "beta", "rc.1", "rc.11", "0", "1a"};
+
+    @Nonnull
+    private static String randomVersion(@Nonnull Random random) {
+        final StringBuilder sb = new StringBuilder();
+        if (random.nextInt(8) == 0) sb.append('v');
+        sb.append(random.nextInt(3)).append('.').append(random.nextInt(3)).append('.').append(random.nextInt(3));
+        final String pre = TAGS[random.nextInt(TAGS.length)], build = TAGS[random.nextInt(TAGS.length)];
+        if (pre != null) sb.append('-').append(pre);
+        if (build != null) sb.append('+').append(build);
+        return sb.toString();
+    }
+
+    @DisplayName("Lazy comparison is the same as comparing parsed versions")
+    @Order(1)
+    @Test
+    void testCompareConsistency() throws NonStandardSemVerException {
+        final Random random = new Random(41L);
+        for (int i = 0; i < 20_000; i++) {
+            final String a = randomVersion(random), b = randomVersion(random);
+            assertEquals(SemVer.parse(a).compareTo(SemVer.parse(b)), SemVer.compare(a, b), a + " <=> " + b);
+        }
+        assertEquals(0, SemVer.compare(new StringBuilder("v1.2.3-rc.1"), "1.2.3-rc.1"));
+        assertEquals(1, SemVer.compare("18446744.0.0", "9.99999999.0"));
+    }
+
+    @DisplayName("Lazy comparison decides by the first different number")
+    @Order(2)
+    @Test
+    void testCompareEarlyExit() {
+        assertDoesNotThrow(() -> assertEquals(-1, SemVer.compare("2.0.0", "10.whatever")));
+        assertDoesNotThrow(() -> assertEquals(1, SemVer.compare("1.3.garbage", "1.2.0")));
+        assertThrows(NonStandardSemVerException.class, () -> SemVer.compare("1.2.0", "1.2.0-"));
+        assertThrows(NonStandardSemVerException.class, () -> SemVer.compare("01.0.0", "1.0.0"));
+        assertThrows(NonStandardSemVerException.class, () -> SemVer.compare("1.0.0", "1.0.0 "));
+        assertThrows(NonStandardSemVerException.class, () -> SemVer.compare("99999999999999999999.0.0", "1.0.0"));
+    }
+
+    @DisplayName("Lazy range evaluation is the same as evaluating parsed version")
+    @Order(3)
+    @Test
+    void testRangeConsistency() throws NonStandardSemVerException {
+        final Random random = new Random(4141L);
+        final SemVerRange[] ranges = new SemVerRange[64];
+        for (int i = 0; i < ranges.length; i++) {
+            SemVer low = SemVer.parse(randomVersion(random)), high = SemVer.parse(randomVersion(random));
+            if (low.isGreater(high)) {
+                final SemVer swap = low;
+                low = high;
+                high = swap;
+            }
+            ranges[i] = new SemVerRange(
+                    i % 5 == 0 ? null : new SemVerRangeNode(low, '>', random.nextBoolean()),
+                    i % 7 == 0 ? null : new SemVerRangeNode(high, '<', random.nextBoolean())
+            );
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            final String v = randomVersion(random);
+            final SemVerRange range = ranges[i % ranges.length];
+            assertEquals(range.isInRange(SemVer.parse(v)), range.isInRange((CharSequence) v), v + " in " + range);
+            assertEquals(range.isInRange(SemVer.parse(v)), range.isInRange(v), v + " in " + range);
+        }
+    }
+
+    @DisplayName("Lazy range evaluation stops early and respects overridden method")
+    @Order(4)
+    @Test
+    void testRangeEarlyExit() throws NonStandardSemVerException {
+        final SemVerRange caret = new SemVerRange(
+                new SemVerRangeNode(new SemVer(1, 2), '>', true),
+                new SemVerRangeNode(new SemVer(2), '<', false)
+        );
+        assertDoesNotThrow(() -> assertFalse(caret.isInRange((CharSequence) "3.not-a-version")));
+        assertDoesNotThrow(() -> assertFalse(caret.isInRange((CharSequence) "0.9")));
+        assertThrows(NonStandardSemVerException.class, () -> caret.isInRange("3.not-a-version"));
+        assertThrows(NonStandardSemVerException.class, () -> caret.isInRange("0.9"));
+        assertThrows(NonStandardSemVerException.class, () -> caret.isInRange("1.5"));
+        assertFalse(caret.isInRange("2.0.0-rc.1"));
+        assertTrue(caret.isInRange("1.9.9+build"));
+
+        final SemVerRange stable = new SemVerRange(caret.start(), caret.end()) {
+            @Override
+            public boolean isInRange(@Nonnull SemVer semVer) {
+                return semVer.preRelease() == null && super.isInRange(semVer);
+            }
+        };
+        assertTrue(caret.isInRange("1.5.0-beta"));
+        assertFalse(stable.isInRange("1.5.0-beta"));
+        assertThrows(NonStandardSemVerException.class, () -> stable.isInRange("3.not-a-version"));
+    }
+}
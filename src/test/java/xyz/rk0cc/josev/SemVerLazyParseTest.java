@@ -0,0 +1,89 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerLazyParseTest {
+    private static final String[] VERSIONS = {
+            "1.0.0", "v1.0.0", "1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha+build.1", "1.0.0+build.1",
+            "v1.0.0+build.2", "1.0.0-beta", "1.0.0-rc.1+exp.sha.5114f85", "2.0.0-0.3.7", "0.1.0"
+    };
+
+    @DisplayName("Lazy parsed version is indistinguishable from parsed version")
+    @Order(1)
+    @Test
+    void testEquivalence() throws NonStandardSemVerException {
+        for (String a : VERSIONS) {
+            final SemVer lazy = SemVer.lazyParse(a), eager = SemVer.parse(a);
+            assertEquals(eager, lazy);
+            assertEquals(eager.hashCode(), lazy.hashCode());
+            assertEquals(eager.toString(), lazy.toString());
+            assertEquals(eager.value(), lazy.value());
+            assertEquals(eager.isPreRelease(), lazy.isPreRelease());
+            assertEquals(eager.preRelease(), lazy.preRelease());
+            assertEquals(eager.build(), lazy.build());
+
+            for (String b : VERSIONS) {
+                final SemVer other = SemVer.parse(b);
+                assertEquals(eager.compareTo(other), SemVer.lazyParse(a).compareTo(other), a + " <=> " + b);
+                assertEquals(other.compareTo(eager), other.compareTo(SemVer.lazyParse(a)), b + " <=> " + a);
+                assertEquals(
+                        eager.compareTo(other),
+                        SemVer.lazyParse(a).compareTo(SemVer.lazyParse(b)),
+                        a + " <=> " + b
+                );
+            }
+        }
+
+        assertThrows(NonStandardSemVerException.class, () -> SemVer.lazyParse("1.0.0-01"));
+        assertThrows(NonStandardSemVerException.class, () -> SemVer.lazyParse("1.0.0+"));
+        assertThrows(NonStandardSemVerException.class, () -> SemVer.lazyParse("1.0"));
+    }
+
+    @DisplayName("Tags are decoded once")
+    @Order(2)
+    @Test
+    void testDecodeOnce() throws NonStandardSemVerException {
+        final SemVer lazy = SemVer.lazyParse("v3.2.1-rc.1+build.7");
+        assertEquals("rc.1", lazy.preRelease());
+        assertSame(lazy.preRelease(), lazy.preRelease());
+        assertEquals("build.7", lazy.build());
+        assertSame(lazy.build(), lazy.build());
+    }
+
+    @DisplayName("Lazy parsed version works in collections and serialization")
+    @Order(3)
+    @Test
+    void testInterop() throws NonStandardSemVerException, IOException, ClassNotFoundException {
+        final Set<SemVer> eager = new HashSet<>();
+        final TreeSet<SemVer> lazy = new TreeSet<>();
+        for (String v : VERSIONS) {
+            eager.add(SemVer.parse(v));
+            lazy.add(SemVer.lazyParse(v));
+        }
+        assertEquals(eager, new HashSet<>(lazy));
+
+        final SemVerRange range = new SemVerRange(
+                new SemVerRangeNode(new SemVer(1, 0, 0, "alpha", null), '>', false),
+                new SemVerRangeNode(new SemVer(2), '<', false)
+        );
+        for (String v : VERSIONS) assertEquals(range.isInRange(SemVer.parse(v)), range.isInRange(SemVer.lazyParse(v)));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(SemVer.lazyParse("1.0.0-rc.1+exp.sha.5114f85"));
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(SemVer.parse("1.0.0-rc.1+exp.sha.5114f85"), ois.readObject());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.collections.SemVerCatalog;
+import xyz.rk0cc.josev.collections.SemVerResolutionCache;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+import xyz.rk0cc.josev.constraint.SampleConstraintPattern;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerMetricsTest {
+    @AfterEach
+    void unregister() {
+        SemVerMetrics.unregister();
+    }
+
+    @DisplayName("Classify reasons of parse failure")
+    @Order(1)
+    @Test
+    void testClassify() {
+        assertEquals(SemVerMetrics.ParseFailure.EMPTY, SemVerMetrics.classify(""));
+        assertEquals(SemVerMetrics.ParseFailure.MALFORMED_CORE, SemVerMetrics.classify("1.2"));
+        assertEquals(SemVerMetrics.ParseFailure.MALFORMED_CORE, SemVerMetrics.classify("1.a.3"));
+        assertEquals(SemVerMetrics.ParseFailure.LEADING_ZERO, SemVerMetrics.classify("01.2.3"));
+        assertEquals(SemVerMetrics.ParseFailure.NUMBER_OVERFLOW, SemVerMetrics.classify("9223372036854775808.0.0"));
+        assertEquals(SemVerMetrics.ParseFailure.INVALID_PRE_RELEASE, SemVerMetrics.classify("1.2.3-beta..1"));
+        assertEquals(SemVerMetrics.ParseFailure.INVALID_BUILD, SemVerMetrics.classify("1.2.3+_x"));
+        assertEquals(SemVerMetrics.ParseFailure.INVALID_BUILD, SemVerMetrics.classify("1.2.3-alpha+b_d"));
+        assertEquals(SemVerMetrics.ParseFailure.INVALID_PRE_RELEASE, SemVerMetrics.classify("v1.2.3-!"));
+        assertEquals(SemVerMetrics.ParseFailure.INVALID_PRE_RELEASE, SemVerMetrics.classify("1.2.3-01+build"));
+        assertEquals(SemVerMetrics.ParseFailure.EMPTY, SemVerMetrics.classify("v"));
+    }
+
+    @DisplayName("Counters receive events from hooks")
+    @Order(2)
+    @Test
+    void testCounters() throws NonStandardSemVerException {
+        final SemVerMetrics.Counters counters = new SemVerMetrics.Counters();
+        SemVerMetrics.register(counters);
+
+        SemVer.parse("v1.0.0");
+        assertNull(SemVer.tryParse("1.0.0-beta..1"));
+        assertThrows(NonStandardSemVerException.class, () -> SemVer.parse(""));
+        assertEquals(3, counters.parses());
+        assertEquals(1, counters.parseFailures(SemVerMetrics.ParseFailure.INVALID_PRE_RELEASE));
+        assertEquals(1, counters.parseFailures(SemVerMetrics.ParseFailure.EMPTY));
+
+        final SampleConstraint constraint = SampleConstraint.parse("^1.0.0");
+        assertEquals(Map.of(SampleConstraintPattern.CARET, 1L), counters.constraintParses());
+
+        final long evaluated = counters.rangeEvaluations();
+        assertTrue(constraint.isInRange(SemVer.parse("1.2.0")));
+        assertFalse(constraint.isInRange(SemVer.parse("2.0.0")));
+        assertEquals(evaluated + 2, counters.rangeEvaluations());
+
+        final SemVerResolutionCache cache = new SemVerResolutionCache(
+                Map.of("foo", new SemVerCatalog(List.of(SemVer.parse("1.0.0"))))::get
+        );
+        cache.best("foo", constraint);
+        cache.best("foo", constraint);
+        assertEquals(1, counters.cacheHits(SemVerMetrics.Cache.RESOLUTION));
+        assertEquals(1, counters.cacheMisses(SemVerMetrics.Cache.RESOLUTION));
+
+        SemVerMetrics.unregister();
+        counters.reset();
+        SemVer.parse("1.0.0");
+        assertEquals(0, counters.parses());
+        assertTrue(counters.constraintParses().isEmpty());
+    }
+}
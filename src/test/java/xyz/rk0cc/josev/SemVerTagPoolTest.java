@@ -0,0 +1,66 @@
+package xyz.rk0cc.josev;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerTagPoolTest {
+    @DisplayName("Repeated tags share the same instance")
+    @Order(1)
+    @Test
+    void testDeduplicate() throws NonStandardSemVerException {
+        final SemVer parsed = SemVer.parse("1.0.0-beta.1+ci.5114f85");
+        assertSame(parsed.preRelease(), SemVer.parse("2.3.4-beta.1").preRelease());
+        assertSame(parsed.build(), SemVer.parse("v0.0.1+ci.5114f85").build());
+        assertSame(parsed.preRelease(), SemVer.parse("3.0.0-beta.1".getBytes(), 0, 12).preRelease());
+        assertSame(parsed.preRelease(), SemVer.lazyParse("1.0.0-beta.1").preRelease());
+        assertSame(parsed.preRelease(), new SemVer(7, 0, 0, new String("beta.1"), null).preRelease());
+        assertEquals("beta.1", parsed.preRelease());
+        assertEquals("ci.5114f85", parsed.build());
+    }
+
+    @DisplayName("Long tags are not pooled")
+    @Order(2)
+    @Test
+    void testLongTag() throws NonStandardSemVerException {
+        final String tag = "x".repeat(SemVerTagPool.MAX_POOLED_LENGTH + 1);
+        final SemVer a = SemVer.parse("1.0.0-" + tag), b = SemVer.parse("1.0.0-" + tag);
+        assertEquals(a.preRelease(), b.preRelease());
+        assertNotSame(a.preRelease(), b.preRelease());
+    }
+
+    @DisplayName("Colliding tags are never mixed up under contention")
+    @Order(3)
+    @Test
+    void testConcurrent() throws InterruptedException, ExecutionException {
+        final List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) tags.add("rc." + i);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Integer>> workers = new ArrayList<>();
+            for (int w = 0; w < 4; w++) {
+                final int offset = w;
+                workers.add(executor.submit(() -> {
+                    int verified = 0;
+                    for (int i = 0; i < tags.size(); i++) {
+                        final String tag = tags.get((i * 7 + offset) % tags.size());
+                        final SemVer v = SemVer.parse("1.0.0-" + tag + "+" + tag);
+                        assertEquals(tag, v.preRelease());
+                        assertEquals(tag, v.build());
+                        verified++;
+                    }
+                    return verified;
+                }));
+            }
+            for (Future<Integer> f : workers) assertEquals(tags.size(), f.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
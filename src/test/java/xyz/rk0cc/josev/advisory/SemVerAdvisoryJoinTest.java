@@ -0,0 +1,142 @@
+package xyz.rk0cc.josev.advisory;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.SemVerRangeNode;
+import xyz.rk0cc.josev.collections.SemVerMultipleRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerAdvisoryJoinTest {
+    private static final String[] TAGS = {null, "alpha", "beta", "rc.1"};
+
+    /**
+     * Affected if any range matched.
+     */
+    private static final class AnyRange extends SemVerMultipleRange<SemVerRange> {
+        AnyRange(SemVerRange... ranges) {
+            super(new HashSet<>(List.of(ranges)));
+        }
+
+        @Override
+        public boolean isInRange(@Nonnull SemVer semVer) {
+            return stream().anyMatch(r -> r.isInRange(semVer));
+        }
+    }
+
+    /**
+     * Affected if all ranges matched.
+     */
+    private static final class AllRange extends SemVerMultipleRange<SemVerRange> {
+        AllRange(SemVerRange... ranges) {
+            super(new HashSet<>(List.of(ranges)));
+        }
+
+        @Override
+        public boolean isInRange(@Nonnull SemVer semVer) {
+            return !isEmpty() && stream().allMatch(r -> r.isInRange(semVer));
+        }
+    }
+
+    private static SemVer randomVersion(Random random) throws NonStandardSemVerException {
+        return new SemVer(
+                random.nextInt(3),
+                random.nextInt(3),
+                random.nextInt(2),
+                TAGS[random.nextInt(TAGS.length)],
+                random.nextInt(5) == 0 ? "build" : null
+        );
+    }
+
+    private static SemVerRange randomRange(Random random) throws NonStandardSemVerException {
+        SemVer a = randomVersion(random), b = randomVersion(random);
+        if (a.isGreater(b)) {
+            final SemVer t = a;
+            a = b;
+            b = t;
+        }
+        return new SemVerRange(
+                random.nextInt(5) == 0 ? null : new SemVerRangeNode(a, '>', random.nextBoolean()),
+                random.nextInt(5) == 0 ? null : new SemVerRangeNode(b, '<', random.nextBoolean())
+        );
+    }
+
+    private static Set<String> keys(Collection<SemVerAdvisoryMatch> matches) {
+        return matches.stream()
+                .map(m -> m.advisory().id() + " " + m.installation().packageName() + " " + m.installation().version())
+                .collect(Collectors.toSet());
+    }
+
+    @DisplayName("Join finds the same matches of nested loop")
+    @Order(1)
+    @Test
+    void testAgainstNestedLoop() throws NonStandardSemVerException {
+        final Random random = new Random(48L);
+        final String[] packages = {"foo", "bar", "baz", "qux"};
+
+        final List<SemVerAdvisory> advisories = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final SemVerRange[] ranges = new SemVerRange[random.nextInt(4)];
+            for (int r = 0; r < ranges.length; r++) ranges[r] = randomRange(random);
+            advisories.add(new SemVerAdvisory(
+                    "ADV-" + i,
+                    packages[random.nextInt(packages.length - 1)],
+                    random.nextBoolean() ? new AnyRange(ranges) : new AllRange(ranges)
+            ));
+        }
+
+        final List<SemVerInstallation> installations = new ArrayList<>();
+        for (int i = 0; i < 500; i++)
+            installations.add(new SemVerInstallation(packages[random.nextInt(packages.length)], randomVersion(random)));
+        // Duplicated installations are reported separately.
+        installations.add(installations.get(0));
+
+        final List<SemVerAdvisoryMatch> expected = new ArrayList<>();
+        for (SemVerAdvisory a : advisories)
+            for (SemVerInstallation i : installations)
+                if (a.packageName().equals(i.packageName()) && a.affected().isInRange(i.version()))
+                    expected.add(new SemVerAdvisoryMatch(a, i));
+
+        final List<SemVerAdvisoryMatch> joined = SemVerAdvisoryJoin.join(advisories, installations).toList();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected.size(), joined.size());
+        assertEquals(keys(expected), keys(joined));
+        assertEquals(
+                keys(expected),
+                keys(SemVerAdvisoryJoin.join(advisories, installations).sequential().toList())
+        );
+    }
+
+    @DisplayName("Overlapped ranges report an installation once")
+    @Order(2)
+    @Test
+    void testOverlapped() throws NonStandardSemVerException {
+        final SemVerAdvisory advisory = new SemVerAdvisory(
+                "ADV-1",
+                "foo",
+                new AnyRange(SampleConstraint.parse("^1.0.0"), SampleConstraint.parse(">=1.2.0 <3.0.0"))
+        );
+        final List<SemVerInstallation> installations = List.of(
+                new SemVerInstallation("foo", SemVer.parse("1.5.0")),
+                new SemVerInstallation("foo", SemVer.parse("2.0.0-rc.1")),
+                new SemVerInstallation("foo", SemVer.parse("3.0.0")),
+                new SemVerInstallation("bar", SemVer.parse("1.5.0"))
+        );
+
+        final List<SemVerAdvisoryMatch> matches = SemVerAdvisoryJoin.join(List.of(advisory), installations)
+                .sorted(Comparator.comparing(m -> m.installation().version()))
+                .toList();
+        assertEquals(2, matches.size());
+        assertEquals(installations.get(0), matches.get(0).installation());
+        assertEquals(installations.get(1), matches.get(1).installation());
+        assertEquals(0, SemVerAdvisoryJoin.join(List.of(), installations).count());
+    }
+}
@@ -0,0 +1,91 @@
+package xyz.rk0cc.josev.collections;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerCatalogTest {
+    private static final String[] VERSIONS = {
+            "0.1.0", "0.9.0", "1.0.0-alpha", "1.0.0-rc.1", "1.0.0", "1.0.0+1", "1.0.1-beta", "1.0.1", "1.2.0",
+            "1.9.9", "2.0.0-alpha", "2.0.0", "2.1.0-rc.1", "3.0.0", "3.1.0", "3.1.0+build.5", "4.0.0-beta"
+    };
+
+    private static SemVerCatalog sampleCatalog() throws NonStandardSemVerException {
+        ArrayList<SemVer> vs = new ArrayList<>();
+        for (String v : VERSIONS) vs.add(SemVer.parse(v));
+        Collections.shuffle(vs, new Random(26));
+        return new SemVerCatalog(vs);
+    }
+
+    @DisplayName("Catalog keeps versions sorted without duplication")
+    @Order(1)
+    @Test
+    void testSortedAndDistinct() throws NonStandardSemVerException {
+        SemVerCatalog catalog = sampleCatalog();
+        assertFalse(catalog.add(SemVer.parse("1.0.0")));
+        assertFalse(catalog.addAll(List.of(SemVer.parse("2.0.0"), SemVer.parse("3.0.0"))));
+        assertEquals(VERSIONS.length, catalog.size());
+
+        List<SemVer> listed = catalog.snapshot().versions();
+        for (int i = 1; i < listed.size(); i++) assertTrue(listed.get(i - 1).isLower(listed.get(i)));
+    }
+
+    @DisplayName("Latest, latest stable and next version")
+    @Order(2)
+    @Test
+    void testLatestAndNext() throws NonStandardSemVerException {
+        SemVerCatalog catalog = sampleCatalog();
+        assertEquals(SemVer.parse("4.0.0-beta"), catalog.latest());
+        assertEquals(SemVer.parse("3.1.0+build.5"), catalog.latestStable());
+        assertEquals(SemVer.parse("1.0.1"), catalog.nextAfter(SemVer.parse("1.0.1-beta")));
+        assertEquals(SemVer.parse("1.0.0+1"), catalog.nextAfter(SemVer.parse("1.0.0+0")));
+        assertNull(catalog.nextAfter(SemVer.parse("4.0.0-beta")));
+
+        assertNull(new SemVerCatalog(List.of(SemVer.parse("0.1.0"))).latestStable());
+    }
+
+    @DisplayName("Snapshot is not affected by appending")
+    @Order(3)
+    @Test
+    void testSnapshotIsolation() throws NonStandardSemVerException {
+        SemVerCatalog catalog = sampleCatalog();
+        SemVerCatalog.Snapshot before = catalog.snapshot();
+
+        assertTrue(catalog.add(SemVer.parse("5.0.0")));
+        assertEquals(VERSIONS.length, before.size());
+        assertEquals(SemVer.parse("3.1.0+build.5"), before.latestStable());
+        assertEquals(SemVer.parse("5.0.0"), catalog.latestStable());
+
+        assertTrue(catalog.add(SemVer.parse("4.5.0-rc.1")));
+        assertEquals(SemVer.parse("5.0.0"), catalog.latestStable());
+    }
+
+    @DisplayName("Range lookup matches isInRange")
+    @Order(4)
+    @Test
+    void testRangeLookup() throws NonStandardSemVerException {
+        SemVerCatalog catalog = sampleCatalog();
+        List<SemVerRange> ranges = List.of(
+                SampleConstraint.parse(">=1.0.0 <2.0.0"),
+                SampleConstraint.parse(">1.0.0 <=2.0.0"),
+                SampleConstraint.parse(">=1.0.0-alpha <=2.0.0-alpha"),
+                SampleConstraint.parse("<1.0.1"),
+                SampleConstraint.parse(">3.0.0"),
+                SampleConstraint.parse("^2.0.0"),
+                SampleConstraint.parse("^9.0.0")
+        );
+
+        for (SemVerRange r : ranges) {
+            List<SemVer> expected = catalog.snapshot().versions().stream().filter(r::isInRange).toList();
+            assertEquals(expected, catalog.allMatching(r));
+            assertEquals(expected.isEmpty() ? null : expected.get(expected.size() - 1), catalog.latestMatching(r));
+        }
+    }
+}
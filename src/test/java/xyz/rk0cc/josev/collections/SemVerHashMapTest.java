@@ -0,0 +1,97 @@
+package xyz.rk0cc.josev.collections;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerHashMapTest {
+    private static final String[] TAGS = {null, "alpha", "beta.1", "rc.2"};
+
+    private static SemVer random(SplittableRandom r) throws NonStandardSemVerException {
+        return new SemVer(r.nextInt(20), r.nextInt(20), r.nextInt(20), TAGS[r.nextInt(4)], TAGS[r.nextInt(4)]);
+    }
+
+    @DisplayName("Behave the same as HashMap under random operations")
+    @Order(1)
+    @Test
+    void testAgainstHashMap() throws NonStandardSemVerException {
+        final SplittableRandom r = new SplittableRandom(37L);
+        final SemVerHashMap<Integer> map = new SemVerHashMap<>();
+        final HashMap<SemVer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            final SemVer key = random(r);
+            switch (r.nextInt(4)) {
+                case 0, 1 -> assertEquals(expected.put(key, i), map.put(key, i));
+                case 2 -> assertEquals(expected.remove(key), map.remove(key));
+                default -> {
+                    assertEquals(expected.get(key), map.get(key));
+                    assertEquals(
+                            expected.get(key),
+                            map.get(key.major(), key.minor(), key.patch(), key.preRelease(), key.build())
+                    );
+                }
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        final HashMap<SemVer, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+    }
+
+    @DisplayName("Remove entries through iterator")
+    @Order(2)
+    @Test
+    void testIteratorRemove() throws NonStandardSemVerException {
+        final SplittableRandom r = new SplittableRandom(41L);
+        final SemVerHashMap<Integer> map = new SemVerHashMap<>(4);
+        for (int i = 0; i < 5_000; i++) map.put(random(r), i);
+        final HashMap<SemVer, Integer> expected = new HashMap<>(map);
+        final int initialSize = map.size();
+
+        int visits = 0;
+        final Iterator<Map.Entry<SemVer, Integer>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<SemVer, Integer> e = it.next();
+            visits++;
+            if (e.getValue() % 3 == 0) {
+                it.remove();
+                expected.remove(e.getKey());
+            }
+        }
+
+        assertEquals(initialSize, visits);
+        assertEquals(expected, map);
+        map.keySet().removeIf(k -> k.preRelease() != null);
+        expected.keySet().removeIf(k -> k.preRelease() != null);
+        assertEquals(expected, map);
+    }
+
+    @DisplayName("Raw lookup and null handling")
+    @Order(3)
+    @Test
+    void testRawLookup() throws NonStandardSemVerException {
+        final SemVerHashMap<String> map = new SemVerHashMap<>();
+        map.put(SemVer.parse("1.2.3-rc.1+build.5"), "rc");
+        map.put(SemVer.parse("1.2.3"), "release");
+
+        assertTrue(map.containsKey(1, 2, 3, "rc.1", "build.5"));
+        assertFalse(map.containsKey(1, 2, 3, "rc.1", null));
+        assertEquals("release", map.get(1, 2, 3, null, null));
+        assertNull(map.get("1.2.3"));
+        assertThrows(NullPointerException.class, () -> map.put(null, "x"));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1, 2, 3, null, null));
+    }
+}
@@ -0,0 +1,129 @@
+package xyz.rk0cc.josev.collections;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.SemVerRangeNode;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerRangeIntersectionTest {
+    private static final String[] TAGS = {null, "alpha", "beta", "rc.1"};
+
+    private static List<SemVer> pool() throws NonStandardSemVerException {
+        final List<SemVer> pool = new ArrayList<>();
+        for (int major = 0; major < 3; major++)
+            for (int minor = 0; minor < 2; minor++)
+                for (String pre : TAGS)
+                    for (String build : new String[]{null, "1"}) pool.add(new SemVer(major, minor, 0, pre, build));
+        return pool;
+    }
+
+    private static SemVerRange randomRange(Random random, List<SemVer> pool) {
+        SemVer a = pool.get(random.nextInt(pool.size())), b = pool.get(random.nextInt(pool.size()));
+        if (a.isGreater(b)) {
+            final SemVer t = a;
+            a = b;
+            b = t;
+        }
+        return new SemVerRange(
+                random.nextInt(6) == 0 ? null : new SemVerRangeNode(a, '>', random.nextBoolean()),
+                random.nextInt(6) == 0 ? null : new SemVerRangeNode(b, '<', random.nextBoolean())
+        );
+    }
+
+    private static void assertSameBounds(SemVerRange expected, SemVerRange actual) {
+        if (expected == null || actual == null) {
+            assertSame(expected, actual);
+            return;
+        }
+        assertEquals(expected.start(), actual.start());
+        assertEquals(expected.end(), actual.end());
+    }
+
+    @DisplayName("Intersection accepts exactly versions accepted by all ranges")
+    @Order(1)
+    @Test
+    void testAgainstEveryRange() throws NonStandardSemVerException {
+        final List<SemVer> pool = pool();
+        final Random random = new Random(43L);
+        int unsatisfiable = 0;
+        for (int round = 0; round < 3000; round++) {
+            final List<SemVerRange> ranges = new ArrayList<>();
+            for (int i = 1 + random.nextInt(4); i > 0; i--) ranges.add(randomRange(random, pool));
+
+            final SemVerRange intersected = ranges.stream().collect(SemVerRangeIntersection.collector());
+            if (intersected == null) unsatisfiable++;
+            for (SemVer v : pool) {
+                final boolean expected = ranges.stream().allMatch(r -> r.isInRange(v));
+                assertEquals(expected, intersected != null && intersected.isInRange(v), v + " in " + ranges);
+            }
+            assertSameBounds(intersected, SemVerRangeIntersection.intersect(ranges));
+        }
+        assertTrue(unsatisfiable > 0);
+    }
+
+    @DisplayName("Unsatisfiable intersection stops early")
+    @Order(2)
+    @Test
+    void testEarlyStop() {
+        final SemVerRangeIntersection intersection = new SemVerRangeIntersection();
+        assertTrue(intersection.add(SampleConstraint.parse("^1.2.0")));
+        assertTrue(intersection.add(SampleConstraint.parse(">=1.4.0 <3.0.0")));
+        final SemVerRange range = intersection.toRange();
+        assertNotNull(range);
+        assertEquals(new SemVer(1, 4), range.start().semVer());
+        assertEquals(new SemVer(2), range.end().semVer());
+
+        assertFalse(intersection.add(SampleConstraint.parse(">=2.0.0-beta")));
+        assertTrue(intersection.isUnsatisfiable());
+        assertNull(intersection.toRange());
+
+        // Never consumes after unsatisfiable.
+        final Iterator<SemVerRange> ranges = Stream.<SemVerRange>of(
+                SampleConstraint.parse("^1.0.0"),
+                SampleConstraint.parse("^2.0.0"),
+                SampleConstraint.parse("^3.0.0")
+        ).iterator();
+        final int[] consumed = {0};
+        assertNull(SemVerRangeIntersection.intersect(() -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return ranges.hasNext();
+            }
+
+            @Override
+            public SemVerRange next() {
+                consumed[0]++;
+                return ranges.next();
+            }
+        }));
+        assertEquals(2, consumed[0]);
+    }
+
+    @DisplayName("Parallel collecting is the same as sequential")
+    @Order(3)
+    @Test
+    void testParallel() throws NonStandardSemVerException {
+        final List<SemVer> pool = pool();
+        final Random random = new Random(4343L);
+        final List<SemVerRange> ranges = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            final SemVer low = pool.get(random.nextInt(pool.size() / 3));
+            ranges.add(new SemVerRange(new SemVerRangeNode(low, '>', true), null));
+        }
+        assertSameBounds(
+                ranges.stream().collect(SemVerRangeIntersection.collector()),
+                ranges.parallelStream().collect(SemVerRangeIntersection.collector())
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package xyz.rk0cc.josev.collections;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerResolutionCacheTest {
+    @DisplayName("Publishing only invalidates results containing the new version")
+    @Order(1)
+    @Test
+    void testPublishInvalidation() throws NonStandardSemVerException {
+        final SemVerCatalog catalog = new SemVerCatalog(List.of(
+                SemVer.parse("1.0.0"), SemVer.parse("1.1.0"), SemVer.parse("2.0.0"), SemVer.parse("2.1.0")
+        ));
+        final SemVerResolutionCache cache = new SemVerResolutionCache(Map.of("foo", catalog)::get);
+
+        final SampleConstraint one = SampleConstraint.parse("^1.0.0"), two = SampleConstraint.parse("^2.0.0");
+        assertEquals(SemVer.parse("1.1.0"), cache.best("foo", one));
+        assertEquals(List.of(SemVer.parse("2.0.0"), SemVer.parse("2.1.0")), cache.matching("foo", two));
+        final List<SemVer> cachedTwo = cache.matching("foo", two);
+        assertSame(cachedTwo, cache.matching("foo", two));
+        assertEquals(2, cache.size());
+
+        assertTrue(cache.publish("foo", SemVer.parse("1.2.0")));
+        assertFalse(cache.publish("foo", SemVer.parse("1.2.0")));
+        assertEquals(1, cache.size());
+        assertSame(cachedTwo, cache.matching("foo", two));
+        assertEquals(SemVer.parse("1.2.0"), cache.best("foo", one));
+
+        // Changes from catalog directly are detected by generation
+        catalog.add(SemVer.parse("2.2.0"));
+        assertEquals(SemVer.parse("2.2.0"), cache.best("foo", two));
+
+        assertNull(cache.best("bar", one));
+        assertTrue(cache.matching("bar", one).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> cache.publish("bar", SemVer.parse("1.0.0")));
+    }
+}
@@ -0,0 +1,72 @@
+package xyz.rk0cc.josev.collections;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerSortTest {
+    private static final String[] PRE_RELEASES = {null, "alpha", "alpha.1", "beta", "rc.1"};
+    private static final String[] BUILDS = {null, "1", "2", "build.5"};
+
+    private static SemVer[] generate(int size, long seed) throws NonStandardSemVerException {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final SemVer[] versions = new SemVer[size];
+        for (int i = 0; i < size; i++) {
+            final long major = random.nextInt(8) == 0 ? random.nextLong(Long.MAX_VALUE) : random.nextInt(20);
+            versions[i] = new SemVer(
+                    major,
+                    random.nextInt(70_000),
+                    random.nextInt(5),
+                    PRE_RELEASES[random.nextInt(PRE_RELEASES.length)],
+                    BUILDS[random.nextInt(BUILDS.length)]
+            );
+        }
+        return versions;
+    }
+
+    @DisplayName("Same order as comparison sort")
+    @Order(1)
+    @Test
+    void testSortOrder() throws NonStandardSemVerException {
+        for (int size : new int[] {0, 1, 100, SemVerSort.RADIX_THRESHOLD, 50_000}) {
+            final SemVer[] versions = generate(size, size);
+            final SemVer[] expected = versions.clone();
+            Arrays.sort(expected);
+
+            SemVerSort.sort(versions);
+            assertArrayEquals(expected, versions);
+            for (int i = 0; i < size; i++) assertSame(expected[i], versions[i]);
+        }
+    }
+
+    @DisplayName("Remove duplicated versions while sorting")
+    @Order(2)
+    @Test
+    void testDistinct() throws NonStandardSemVerException {
+        final SemVer[] versions = generate(20_000, 7L);
+        final TreeSet<SemVer> expected = new TreeSet<>(Arrays.asList(versions));
+
+        final int size = SemVerSort.sort(versions, true);
+        assertEquals(expected.size(), size);
+        assertEquals(new ArrayList<>(expected), Arrays.asList(versions).subList(0, size));
+        for (int i = size; i < versions.length; i++) assertNull(versions[i]);
+
+        final ArrayList<SemVer> list = new ArrayList<>(Arrays.asList(generate(10_000, 11L)));
+        final TreeSet<SemVer> expectedList = new TreeSet<>(list);
+        SemVerSort.sort(list, true);
+        assertEquals(new ArrayList<>(expectedList), list);
+
+        final LinkedList<SemVer> small = new LinkedList<>(List.of(
+                SemVer.parse("2.0.0"), SemVer.parse("1.0.0"), SemVer.parse("2.0.0"), SemVer.parse("1.0.0-rc.1")
+        ));
+        SemVerSort.sort(small);
+        assertEquals(List.of(
+                SemVer.parse("1.0.0-rc.1"), SemVer.parse("1.0.0"), SemVer.parse("2.0.0"), SemVer.parse("2.0.0")
+        ), small);
+    }
+}
@@ -10,7 +10,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
-@SemVerConstraintParser
+@SemVerConstraintParser(restorerMethodName = "restore")
 public final class SampleConstraint extends SemVerConstraint<SampleConstraintPattern> {
     private SampleConstraint(
             @Nonnull SampleConstraintPattern constraintPattern,
@@ -21,6 +21,16 @@ public final class SampleConstraint extends SemVerConstraint<SampleConstraintPat
         super(constraintPattern, rawConstraint, start, end);
     }
 
+    @Nonnull
+    public static SampleConstraint restore(
+            @Nonnull SampleConstraintPattern constraintPattern,
+            @Nullable String rawConstraint,
+            @Nullable SemVerRangeNode start,
+            @Nullable SemVerRangeNode end
+    ) {
+        return new SampleConstraint(constraintPattern, rawConstraint, start, end);
+    }
+
     @Nonnull
     public static SampleConstraint parse(@Nullable String versionConstraint) {
         List<SampleConstraintPattern> appliedPattern = Arrays.stream(SampleConstraintPattern.values())
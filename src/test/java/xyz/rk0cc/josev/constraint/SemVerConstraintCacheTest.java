@@ -0,0 +1,191 @@
+package xyz.rk0cc.josev.constraint;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerMetrics;
+import xyz.rk0cc.josev.SemVerRangeNode;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerConstraintCacheTest {
+    private static final String[] CONSTRAINTS = {"^1.0.0", ">=1.2.0 <2.0.0", "<3.0.0-alpha", ">0.9.0", "^2.1.0-rc.1"};
+
+    /**
+     * A constraint without restorer, so that it must be parsed again even its constructor has the same parameters of
+     * {@link SemVerConstraint}.
+     */
+    @SemVerConstraintParser
+    public static final class ExactConstraint extends SemVerConstraint<SampleConstraintPattern> {
+        static final AtomicInteger PARSED = new AtomicInteger();
+
+        private ExactConstraint(
+                SampleConstraintPattern constraintPattern,
+                @Nullable String rawConstraint,
+                @Nullable SemVerRangeNode start,
+                @Nullable SemVerRangeNode end
+        ) {
+            super(constraintPattern, rawConstraint, start, end);
+        }
+
+        public static ExactConstraint parse(@Nullable String versionConstraint) {
+            PARSED.incrementAndGet();
+            return new ExactConstraint(
+                    SampleConstraintPattern.TRADITIONAL,
+                    versionConstraint,
+                    new SemVerRangeNode(SemVer.tryParse(versionConstraint), '>', true),
+                    null
+            );
+        }
+    }
+
+    /**
+     * A constraint which declares a restorer does not exist.
+     */
+    @SemVerConstraintParser(restorerMethodName = "missing")
+    public static final class MissingRestorerConstraint extends SemVerConstraint<SampleConstraintPattern> {
+        private MissingRestorerConstraint(@Nullable String rawConstraint) {
+            super(SampleConstraintPattern.TRADITIONAL, rawConstraint, null, null);
+        }
+
+        public static MissingRestorerConstraint parse(@Nullable String versionConstraint) {
+            return new MissingRestorerConstraint(versionConstraint);
+        }
+    }
+
+    @AfterEach
+    void unregister() {
+        SemVerMetrics.unregister();
+    }
+
+    private static byte[] snapshot(SemVerConstraintCache cache) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        cache.write(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    @DisplayName("Cached constraints are reused")
+    @Order(1)
+    @Test
+    void testParseCache() {
+        final SemVerMetrics.Counters counters = new SemVerMetrics.Counters();
+        SemVerMetrics.register(counters);
+
+        final SemVerConstraintCache cache = new SemVerConstraintCache();
+        final SampleConstraint first = cache.parse(SampleConstraint.class, "^1.0.0");
+        assertSame(first, cache.parse(SampleConstraint.class, "^1.0.0"));
+        assertEquals(SampleConstraint.parse("^1.0.0"), first);
+        assertEquals(1, cache.size());
+        assertEquals(1, counters.cacheHits(SemVerMetrics.Cache.CONSTRAINT));
+        assertEquals(1, counters.cacheMisses(SemVerMetrics.Cache.CONSTRAINT));
+
+        final SemVer v = new SemVer(1, 2, 3);
+        assertSame(v, cache.intern(v));
+        assertSame(v, cache.intern(new SemVer(1, 2, 3)));
+        assertEquals(1, cache.internedSize());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.internedSize());
+    }
+
+    @DisplayName("Snapshot restores constraints without parsing")
+    @Order(2)
+    @Test
+    void testSnapshot() throws IOException, NonStandardSemVerException {
+        final SemVerConstraintCache cache = new SemVerConstraintCache();
+        for (String c : CONSTRAINTS) cache.parse(SampleConstraint.class, c);
+        cache.parse(ExactConstraint.class, "1.5.0");
+        cache.intern(new SemVer(1));
+        cache.intern(new SemVer(9, 9, 9, "beta", "7"));
+
+        final SemVerMetrics.Counters counters = new SemVerMetrics.Counters();
+        SemVerMetrics.register(counters);
+        ExactConstraint.PARSED.set(0);
+
+        final SemVerConstraintCache restored = new SemVerConstraintCache();
+        final byte[] bytes = snapshot(cache);
+        assertEquals(CONSTRAINTS.length + 1, restored.load(ByteBuffer.wrap(bytes)));
+        assertEquals(cache.size(), restored.size());
+        final SemVer probe = new SemVer(9, 9, 9, "beta", "7");
+        assertNotSame(probe, restored.intern(probe));
+        for (String c : CONSTRAINTS) {
+            final SampleConstraint constraint = restored.parse(SampleConstraint.class, c);
+            assertEquals(SampleConstraint.parse(c), constraint);
+            if (constraint.start() != null)
+                assertSame(restored.intern(constraint.start().semVer()), constraint.start().semVer());
+        }
+        assertEquals(CONSTRAINTS.length, counters.cacheHits(SemVerMetrics.Cache.CONSTRAINT));
+        assertEquals(0, counters.cacheMisses(SemVerMetrics.Cache.CONSTRAINT));
+
+        // No restorer is declared, then parse again.
+        assertEquals(1, ExactConstraint.PARSED.get());
+        assertEquals(new SemVer(1, 5), restored.parse(ExactConstraint.class, "1.5.0").start().semVer());
+    }
+
+    @DisplayName("Snapshot can be written to file and loaded again")
+    @Order(3)
+    @Test
+    void testSnapshotFile() throws IOException {
+        final Path file = Files.createTempFile("josev-constraint", ".snapshot");
+        try {
+            final SemVerConstraintCache cache = new SemVerConstraintCache();
+            for (String c : CONSTRAINTS) cache.parse(SampleConstraint.class, c);
+            cache.write(file);
+
+            final SemVerConstraintCache restored = new SemVerConstraintCache();
+            restored.parse(SampleConstraint.class, "^1.0.0");
+            assertEquals(CONSTRAINTS.length - 1, restored.load(file));
+            assertEquals(CONSTRAINTS.length, restored.size());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @DisplayName("Malformed snapshot is rejected")
+    @Order(4)
+    @Test
+    void testMalformed() throws IOException {
+        final SemVerConstraintCache cache = new SemVerConstraintCache();
+        assertThrows(
+                StreamCorruptedException.class,
+                () -> cache.load(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}))
+        );
+
+        final SemVerConstraintCache source = new SemVerConstraintCache();
+        source.parse(SampleConstraint.class, "^1.0.0");
+        final byte[] bytes = snapshot(source);
+        assertThrows(
+                EOFException.class,
+                () -> cache.load(ByteBuffer.wrap(bytes, 0, bytes.length - 1))
+        );
+
+        // Count of version table is stored after magic number and format.
+        for (int count : new int[]{-1, Integer.MAX_VALUE}) {
+            final ByteBuffer corrupted = ByteBuffer.wrap(bytes.clone()).putInt(5, count);
+            assertThrows(StreamCorruptedException.class, () -> cache.load(corrupted));
+        }
+
+        final SemVerConstraintCache missing = new SemVerConstraintCache();
+        missing.parse(MissingRestorerConstraint.class, "1.0.0");
+        final byte[] missingBytes = snapshot(missing);
+        assertThrows(InvalidClassException.class, () -> cache.load(ByteBuffer.wrap(missingBytes)));
+
+        final String name = SampleConstraint.class.getName();
+        final String text = new String(bytes, StandardCharsets.ISO_8859_1)
+                .replace(name, name.substring(0, name.length() - 1) + "X");
+        assertThrows(
+                InvalidClassException.class,
+                () -> cache.load(ByteBuffer.wrap(text.getBytes(StandardCharsets.ISO_8859_1)))
+        );
+    }
+}
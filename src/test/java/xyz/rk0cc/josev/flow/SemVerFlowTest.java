@@ -0,0 +1,178 @@
+package xyz.rk0cc.josev.flow;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerFlowTest {
+    /**
+     * Synchronous publisher which records requested amount.
+     */
+    private static final class ListPublisher implements Flow.Publisher<String> {
+        final List<String> items;
+        long requested, emitted, requestCalls;
+
+        ListPublisher(List<String> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super String> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                boolean emitting, finished;
+
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    requestCalls++;
+                    if (emitting) return;
+                    emitting = true;
+                    while (emitted < requested && emitted < items.size())
+                        subscriber.onNext(items.get((int) emitted++));
+                    if (emitted == items.size() && !finished) {
+                        finished = true;
+                        subscriber.onComplete();
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {}
+            });
+        }
+    }
+
+    /**
+     * Subscriber which requests manually.
+     */
+    private static final class ManualSubscriber implements Flow.Subscriber<SemVer> {
+        final List<SemVer> received = new ArrayList<>();
+        Flow.Subscription subscription;
+        boolean completed;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(SemVer item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    @DisplayName("Parse, filter and respect downstream demand")
+    @Order(1)
+    @Test
+    void testBackpressure() throws NonStandardSemVerException {
+        final ArrayList<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) inputs.add(i % 10 == 0 ? "invalid-" + i : (i % 3) + "." + i + ".0");
+
+        final ListPublisher upstream = new ListPublisher(inputs);
+        final ArrayList<String> failures = new ArrayList<>();
+        final SemVerParseProcessor parser = new SemVerParseProcessor(e -> failures.add(e.invalidVersion), 16);
+        final SemVerRangeFilterProcessor filter = new SemVerRangeFilterProcessor(SampleConstraint.parse("^1.0.0"), 8);
+        final ManualSubscriber downstream = new ManualSubscriber();
+
+        upstream.subscribe(parser);
+        parser.subscribe(filter);
+        filter.subscribe(downstream);
+
+        // Only prefetched by both stages, nothing emitted without demand.
+        assertTrue(downstream.received.isEmpty());
+        assertTrue(upstream.requested <= 16 + 8 + 8, "Requested " + upstream.requested);
+
+        downstream.subscription.request(5);
+        assertEquals(5, downstream.received.size());
+        assertTrue(upstream.emitted <= 64, "Emitted " + upstream.emitted);
+
+        downstream.subscription.request(Long.MAX_VALUE);
+        assertTrue(downstream.completed);
+        assertNull(downstream.error);
+
+        final List<SemVer> expected = new ArrayList<>();
+        for (String s : inputs) {
+            final SemVer sv = SemVer.tryParse(s);
+            if (sv != null && sv.major() == 1) expected.add(sv);
+        }
+        assertEquals(expected, downstream.received);
+        assertEquals(100, failures.size());
+        assertTrue(upstream.requestCalls < inputs.size() / 4, "Upstream is requested in batches");
+    }
+
+    @DisplayName("Work with asynchronous publisher")
+    @Order(2)
+    @Test
+    void testAsync() throws Exception {
+        final SemVerParseProcessor parser = new SemVerParseProcessor(e -> {});
+        final SemVerRangeFilterProcessor filter = new SemVerRangeFilterProcessor(SampleConstraint.parse(">=2.0.0"));
+        final CompletableFuture<Long> counted = new CompletableFuture<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>(executor, 32)) {
+            publisher.subscribe(parser);
+            parser.subscribe(filter);
+            filter.subscribe(new Flow.Subscriber<>() {
+                long count;
+                Flow.Subscription s;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    s = subscription;
+                    s.request(1);
+                }
+
+                @Override
+                public void onNext(SemVer item) {
+                    count++;
+                    s.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    counted.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    counted.complete(count);
+                }
+            });
+
+            for (int i = 0; i < 10_000; i++) publisher.submit((i % 4) + ".0." + i);
+        } finally {
+            assertEquals(5_000L, counted.get(30, TimeUnit.SECONDS));
+            executor.shutdown();
+        }
+    }
+
+    @DisplayName("Reject second subscriber")
+    @Order(3)
+    @Test
+    void testSingleSubscriber() {
+        final SemVerParseProcessor parser = new SemVerParseProcessor(e -> {});
+        parser.subscribe(new ManualSubscriber());
+        final ManualSubscriber second = new ManualSubscriber();
+        parser.subscribe(second);
+        assertInstanceOf(IllegalStateException.class, second.error);
+        assertThrows(IllegalArgumentException.class, () -> new SemVerParseProcessor(e -> {}, 0));
+    }
+}
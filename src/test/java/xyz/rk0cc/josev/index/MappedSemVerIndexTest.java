@@ -0,0 +1,84 @@
+package xyz.rk0cc.josev.index;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.collections.SemVerCatalog;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class MappedSemVerIndexTest {
+    @TempDir
+    static Path tempDir;
+
+    private static final Map<String, SemVerCatalog> CATALOGS = new LinkedHashMap<>();
+
+    @BeforeAll
+    static void setupCatalogs() throws NonStandardSemVerException {
+        CATALOGS.put("foo", catalogOf("0.1.0", "1.0.0-alpha", "1.0.0", "1.0.0+1", "1.2.0", "2.0.0-rc.1", "2.0.0"));
+        CATALOGS.put("bar", catalogOf("3.0.0-beta", "3.0.0", "3.1.0", "4.0.0-alpha"));
+        CATALOGS.put("ünïcode", catalogOf("0.0.1"));
+        CATALOGS.put("empty", new SemVerCatalog());
+    }
+
+    private static SemVerCatalog catalogOf(String... versions) throws NonStandardSemVerException {
+        ArrayList<SemVer> vs = new ArrayList<>();
+        for (String v : versions) vs.add(SemVer.parse(v));
+        return new SemVerCatalog(vs);
+    }
+
+    @DisplayName("Reject non-index file")
+    @Order(1)
+    @Test
+    void testInvalidFile() throws IOException {
+        Path invalid = tempDir.resolve("invalid.idx");
+        Files.write(invalid, new byte[128]);
+        assertThrows(IOException.class, () -> MappedSemVerIndex.open(invalid));
+    }
+
+    @DisplayName("Lookup on mapped index matches catalog")
+    @Order(2)
+    @Test
+    void testLookup() throws IOException {
+        Path path = tempDir.resolve("catalog.idx");
+        SemVerIndexWriter.write(path, CATALOGS);
+
+        List<SemVerRange> ranges = List.of(
+                SampleConstraint.parse(">=1.0.0 <2.0.0"),
+                SampleConstraint.parse(">1.0.0 <=2.0.0-rc.1"),
+                SampleConstraint.parse("^3.0.0"),
+                SampleConstraint.parse("<1.0.0")
+        );
+
+        try (MappedSemVerIndex index = MappedSemVerIndex.open(path)) {
+            assertEquals(CATALOGS.size(), index.packageCount());
+            assertEquals(12, index.versionCount());
+            assertFalse(index.contains("baz"));
+            assertNull(index.latest("baz"));
+            assertNull(index.latest("empty"));
+
+            for (Map.Entry<String, SemVerCatalog> e : CATALOGS.entrySet()) {
+                final SemVerCatalog catalog = e.getValue();
+                assertTrue(index.contains(e.getKey()));
+                assertEquals(catalog.size(), index.versionCount(e.getKey()));
+                assertEquals(catalog.latest(), index.latest(e.getKey()));
+                assertEquals(catalog.latestStable(), index.latestStable(e.getKey()));
+
+                for (SemVerRange r : ranges) {
+                    assertEquals(catalog.allMatching(r), index.allMatching(e.getKey(), r));
+                    assertEquals(catalog.latestMatching(r), index.latestMatching(e.getKey(), r));
+                    assertEquals(catalog.allMatching(r).size(), index.countMatching(e.getKey(), r));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package xyz.rk0cc.josev.index;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class OffHeapSemVerStoreTest {
+    private static final String[] TAGS = {null, "alpha", "alpha.1", "beta", "rc.1", "build.5"};
+
+    @DisplayName("Same order and lookups as on-heap versions")
+    @Order(1)
+    @Test
+    void testSortAndSearch() throws NonStandardSemVerException {
+        final SplittableRandom r = new SplittableRandom(3L);
+        final ArrayList<SemVer> versions = new ArrayList<>();
+        for (int i = 0; i < 30_000; i++) {
+            versions.add(new SemVer(
+                    r.nextInt(8) == 0 ? r.nextLong(Long.MAX_VALUE) : r.nextInt(5),
+                    r.nextInt(70_000),
+                    r.nextInt(3),
+                    TAGS[r.nextInt(TAGS.length)],
+                    TAGS[r.nextInt(TAGS.length)]
+            ));
+        }
+
+        final OffHeapSemVerStore store = OffHeapSemVerStore.of(versions);
+        final ArrayList<SemVer> expected = new ArrayList<>(new TreeSet<>(versions));
+
+        assertEquals(expected.size(), store.size());
+        assertTrue(store.offHeapBytes() >= store.size() * SemVerRecordTable.RECORD_SIZE);
+        final ArrayList<SemVer> stored = new ArrayList<>();
+        store.forEach(stored::add);
+        assertEquals(expected, stored);
+        assertEquals(expected.get(expected.size() - 1), store.latest());
+
+        for (int i = 0; i < expected.size(); i += 97) assertEquals(i, store.indexOf(expected.get(i)));
+        assertEquals(-1, store.indexOf(new SemVer(0, 0, 0, "0", null)));
+        assertFalse(store.contains(new SemVer(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE)));
+
+        final List<SemVerRange> ranges = List.of(
+                SampleConstraint.parse("^1.0.0"),
+                SampleConstraint.parse(">=2.100.0 <=3.0.0"),
+                SampleConstraint.parse(">=0.5.0-rc.1 <0.5.1-alpha"),
+                SampleConstraint.parse("<1.2.0")
+        );
+        for (SemVerRange range : ranges) {
+            final List<SemVer> matching = expected.stream().filter(range::isInRange).toList();
+            final ArrayList<SemVer> scanned = new ArrayList<>();
+            store.forEachMatching(range, scanned::add);
+            assertEquals(matching, scanned);
+            assertEquals(matching.size(), store.countMatching(range));
+            assertEquals(matching.isEmpty() ? null : matching.get(matching.size() - 1), store.latestMatching(range));
+        }
+    }
+
+    @DisplayName("Builder can only be built once")
+    @Order(2)
+    @Test
+    void testBuilder() throws NonStandardSemVerException {
+        final OffHeapSemVerStore.Builder builder = OffHeapSemVerStore.builder();
+        builder.add(SemVer.parse("1.0.0")).add(SemVer.parse("1.0.0"));
+        final OffHeapSemVerStore store = builder.build();
+        assertEquals(1, store.size());
+        assertEquals(SemVer.parse("1.0.0"), store.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+        assertThrows(IllegalStateException.class, builder::build);
+
+        final OffHeapSemVerStore empty = OffHeapSemVerStore.builder().build();
+        assertTrue(empty.isEmpty());
+        assertNull(empty.latest());
+        assertNull(empty.latestMatching(SampleConstraint.parse("^1.0.0")));
+    }
+}
@@ -0,0 +1,121 @@
+package xyz.rk0cc.josev.index;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerColumns;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+import xyz.rk0cc.josev.constraint.SemVerConstraintCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerLineLoaderTest {
+    @TempDir
+    static Path tempDir;
+
+    private static final List<SemVer> VERSIONS = new ArrayList<>();
+
+    private static Path versionsFile;
+
+    @BeforeAll
+    static void setupFile() throws IOException, NonStandardSemVerException {
+        final Random random = new Random(49);
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            String v = random.nextInt(5) + "." + random.nextInt(20) + "." + random.nextInt(30);
+            if (random.nextInt(4) == 0) v += "-rc." + random.nextInt(3);
+            if (random.nextInt(8) == 0) v += "+build." + i;
+            VERSIONS.add(SemVer.parse(v));
+            content.append(v).append(i % 3 == 0 ? "\r\n" : "\n");
+            if (i % 97 == 0) content.append('\n');
+        }
+        versionsFile = tempDir.resolve("versions.txt");
+        Files.writeString(versionsFile, content, StandardCharsets.US_ASCII);
+    }
+
+    private static Map<Long, SemVer> loadVersions(SemVerLineLoader loader) throws IOException {
+        final ConcurrentHashMap<Long, SemVer> loaded = new ConcurrentHashMap<>();
+        assertEquals(VERSIONS.size(), loader.versions(versionsFile, loaded::put));
+        return new TreeMap<>(loaded);
+    }
+
+    @DisplayName("Load versions in any chunk size")
+    @Order(1)
+    @Test
+    void testVersions() {
+        assertThrows(IllegalArgumentException.class, () -> new SemVerLineLoader(0, false));
+        assertDoesNotThrow(() -> {
+            for (SemVerLineLoader loader : List.of(
+                    new SemVerLineLoader(),
+                    new SemVerLineLoader(1, true),
+                    new SemVerLineLoader(1000, false),
+                    new SemVerLineLoader(4096, true)
+            )) assertEquals(VERSIONS, new ArrayList<>(loadVersions(loader).values()));
+        });
+    }
+
+    @DisplayName("Malformed line aborts loading unless handled by sink")
+    @Order(2)
+    @Test
+    void testMalformed() throws IOException {
+        final Path path = tempDir.resolve("malformed.txt");
+        Files.writeString(path, "1.0.0\nnot.a.version\n2.0.0\n", StandardCharsets.US_ASCII);
+        final SemVerLineLoader loader = new SemVerLineLoader(4, true);
+
+        IOException e = assertThrows(IOException.class, () -> loader.versions(path, (o, v) -> {}));
+        assertTrue(e.getMessage().contains("offset 6"));
+        assertThrows(IOException.class, () -> loader.columns(path));
+
+        final List<Long> rejected = Collections.synchronizedList(new ArrayList<>());
+        assertEquals(2, loader.versions(path, new SemVerLineLoader.Sink<>() {
+            @Override
+            public void accept(long offset, SemVer value) {}
+
+            @Override
+            public void rejected(long offset, RuntimeException cause) {
+                rejected.add(offset);
+            }
+        }));
+        assertEquals(List.of(6L), rejected);
+    }
+
+    @DisplayName("Load constraints with cache")
+    @Order(3)
+    @Test
+    void testConstraints() throws IOException {
+        final Path path = tempDir.resolve("constraints.txt");
+        Files.writeString(path, "^1.0.0\r\n>=1.0.0 <2.0.0\n^1.0.0\n\n^2.0.0", StandardCharsets.US_ASCII);
+        final ConcurrentHashMap<Long, SampleConstraint> loaded = new ConcurrentHashMap<>();
+
+        assertEquals(4, new SemVerLineLoader(2, true)
+                .constraints(path, new SemVerConstraintCache(), SampleConstraint.class, loaded::put));
+        assertEquals(Set.of(0L, 8L, 23L, 31L), loaded.keySet());
+        assertEquals(SampleConstraint.parse("^1.0.0"), loaded.get(0L));
+        assertSame(loaded.get(0L), loaded.get(23L));
+        assertEquals(SampleConstraint.parse("^2.0.0"), loaded.get(31L));
+    }
+
+    @DisplayName("Columns preserve order of file")
+    @Order(4)
+    @Test
+    void testColumns() throws IOException {
+        final SemVerColumns columns = new SemVerLineLoader(512, true).columns(versionsFile);
+        assertEquals(VERSIONS.size(), columns.size());
+
+        for (SemVerRange range : List.of(
+                SampleConstraint.parse(">=1.5.0 <3.0.0"),
+                SampleConstraint.parse("^2.3.4"),
+                new SemVerRange(null, null)
+        )) assertEquals(range.evaluate(SemVerColumns.of(VERSIONS)), range.evaluate(columns));
+    }
+}
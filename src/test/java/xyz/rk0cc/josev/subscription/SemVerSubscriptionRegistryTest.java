@@ -0,0 +1,156 @@
+package xyz.rk0cc.josev.subscription;
+
+import org.junit.jupiter.api.*;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.SemVerRange;
+import xyz.rk0cc.josev.SemVerRangeNode;
+import xyz.rk0cc.josev.collections.SemVerMultipleRange;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerSubscriptionRegistryTest {
+    private static final String[] TAGS = {null, "alpha", "beta", "rc.1"};
+
+    /**
+     * Satisfied if any range matched.
+     */
+    private static final class AnyRange extends SemVerMultipleRange<SemVerRange> {
+        AnyRange(SemVerRange... ranges) {
+            super(new HashSet<>(List.of(ranges)));
+        }
+
+        @Override
+        public boolean isInRange(@Nonnull SemVer semVer) {
+            return stream().anyMatch(r -> r.isInRange(semVer));
+        }
+    }
+
+    private static SemVer randomVersion(Random random) throws NonStandardSemVerException {
+        return new SemVer(
+                random.nextInt(3),
+                random.nextInt(3),
+                random.nextInt(2),
+                TAGS[random.nextInt(TAGS.length)],
+                random.nextInt(5) == 0 ? "build" : null
+        );
+    }
+
+    private static SemVerRange randomRange(Random random) throws NonStandardSemVerException {
+        SemVer a = randomVersion(random), b = randomVersion(random);
+        if (a.isGreater(b)) {
+            final SemVer t = a;
+            a = b;
+            b = t;
+        }
+        return new SemVerRange(
+                random.nextInt(5) == 0 ? null : new SemVerRangeNode(a, '>', random.nextBoolean()),
+                random.nextInt(5) == 0 ? null : new SemVerRangeNode(b, '<', random.nextBoolean())
+        );
+    }
+
+    private static Set<SemVerSubscription<Integer>> bruteForce(
+            Collection<SemVerSubscription<Integer>> subscriptions,
+            String packageName,
+            SemVer version
+    ) {
+        return subscriptions.stream()
+                .filter(s -> s.isActive() && s.packageName().equals(packageName) && s.range().isInRange(version))
+                .collect(Collectors.toSet());
+    }
+
+    @DisplayName("Finding subscriptions is the same as evaluating every subscription")
+    @Order(1)
+    @Test
+    void testFind() throws NonStandardSemVerException {
+        final Random random = new Random(50);
+        final SemVerSubscriptionRegistry<Integer> registry = new SemVerSubscriptionRegistry<>();
+        final ArrayList<SemVerSubscription<Integer>> subscriptions = new ArrayList<>();
+        final String[] packages = {"foo", "bar", "baz"};
+
+        for (int i = 0; i < 3000; i++) {
+            final String p = packages[random.nextInt(packages.length)];
+            subscriptions.add(switch (random.nextInt(10)) {
+                case 0 -> registry.subscribe(p, i, new AnyRange(randomRange(random), randomRange(random)));
+                case 1 -> registry.subscribe(p, i, v -> v.preRelease() != null);
+                default -> registry.subscribe(p, i, randomRange(random));
+            });
+
+            // Unsubscribe some of them while subscribing.
+            if (random.nextInt(4) == 0) {
+                final SemVerSubscription<Integer> s = subscriptions.get(random.nextInt(subscriptions.size()));
+                assertEquals(s.isActive(), registry.unsubscribe(s));
+                assertFalse(s.isActive());
+            }
+
+            if (i % 100 == 0) {
+                final SemVer v = randomVersion(random);
+                assertEquals(bruteForce(subscriptions, p, v), new HashSet<>(registry.find(p, v)));
+            }
+        }
+
+        assertEquals(subscriptions.stream().filter(SemVerSubscription::isActive).count(), registry.size());
+        for (String p : packages) {
+            for (int i = 0; i < 200; i++) {
+                final SemVer v = randomVersion(random);
+                final List<SemVerSubscription<Integer>> found = registry.find(p, v);
+                assertEquals(found.size(), new HashSet<>(found).size());
+                assertEquals(bruteForce(subscriptions, p, v), new HashSet<>(found));
+            }
+        }
+        assertTrue(registry.find("unknown", SemVer.parse("1.0.0")).isEmpty());
+    }
+
+    @DisplayName("Publishing a batch notifies every satisfied subscription")
+    @Order(2)
+    @Test
+    void testPublish() throws NonStandardSemVerException {
+        final Random random = new Random(51);
+        final SemVerSubscriptionRegistry<Integer> registry = new SemVerSubscriptionRegistry<>();
+        final ArrayList<SemVerSubscription<Integer>> subscriptions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            subscriptions.add(registry.subscribe("pkg-" + i % 7, i, randomRange(random)));
+        for (int i = 0; i < 1000; i += 3) registry.unsubscribe(subscriptions.get(i));
+
+        final ArrayList<SemVerRelease> releases = new ArrayList<>();
+        for (int i = 0; i < 100; i++) releases.add(new SemVerRelease("pkg-" + i % 9, randomVersion(random)));
+
+        final List<String> expected = new ArrayList<>();
+        for (SemVerRelease r : releases)
+            for (SemVerSubscription<Integer> s : bruteForce(subscriptions, r.packageName(), r.version()))
+                expected.add(s.subscriber() + " " + r);
+
+        Collections.sort(expected);
+        assertEquals(
+                expected,
+                registry.publish(releases)
+                        .map(n -> n.subscription().subscriber() + " " + n.release())
+                        .sorted()
+                        .toList()
+        );
+    }
+
+    @DisplayName("Unsubscribe only accepts subscriptions of the registry")
+    @Order(3)
+    @Test
+    void testUnsubscribe() throws NonStandardSemVerException {
+        final SemVerSubscriptionRegistry<String> registry = new SemVerSubscriptionRegistry<>();
+        final SemVerSubscription<String> s = registry.subscribe("foo", "client", new SemVerRange(null, null));
+        final SemVer v = SemVer.parse("1.0.0");
+
+        assertEquals(List.of(s), registry.find("foo", v));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new SemVerSubscriptionRegistry<String>().unsubscribe(s)
+        );
+        assertTrue(registry.unsubscribe(s));
+        assertFalse(registry.unsubscribe(s));
+        assertEquals(0, registry.size());
+        assertTrue(registry.find("foo", v).isEmpty());
+    }
+}
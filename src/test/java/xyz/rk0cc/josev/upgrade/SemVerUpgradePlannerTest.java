@@ -0,0 +1,100 @@
+package xyz.rk0cc.josev.upgrade;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.rk0cc.josev.NonStandardSemVerException;
+import xyz.rk0cc.josev.SemVer;
+import xyz.rk0cc.josev.collections.SemVerCatalog;
+import xyz.rk0cc.josev.constraint.SampleConstraint;
+import xyz.rk0cc.josev.index.MappedSemVerIndex;
+import xyz.rk0cc.josev.index.SemVerIndexWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+final class SemVerUpgradePlannerTest {
+    private static SemVerCatalog catalogOf(String... versions) throws NonStandardSemVerException {
+        ArrayList<SemVer> vs = new ArrayList<>();
+        for (String v : versions) vs.add(SemVer.parse(v));
+        return new SemVerCatalog(vs);
+    }
+
+    private static Map<String, SemVerCatalog> sampleCatalogs() throws NonStandardSemVerException {
+        return Map.of(
+                "foo", catalogOf("1.0.0", "1.0.1", "1.0.2-beta", "1.1.0", "1.2.0", "2.0.0", "2.1.0", "3.0.0-rc.1"),
+                "bar", catalogOf("0.1.0", "0.1.1", "0.2.0")
+        );
+    }
+
+    private static void assertPlans(List<SemVerUpgrade> plans) throws NonStandardSemVerException {
+        final SemVerUpgrade foo = plans.get(0);
+        assertEquals(SemVer.parse("1.2.0"), foo.latestCompatible());
+        assertEquals(SemVer.parse("1.0.1"), foo.latestPatch());
+        assertEquals(SemVer.parse("1.2.0"), foo.latestMinor());
+        assertEquals(SemVer.parse("2.1.0"), foo.latestMajor());
+        assertTrue(foo.hasUpgrade());
+
+        final SemVerUpgrade bar = plans.get(1);
+        assertEquals(SemVer.parse("0.1.1"), bar.latestPatch());
+        assertEquals(SemVer.parse("0.2.0"), bar.latestMajor());
+
+        final SemVerUpgrade unknown = plans.get(2);
+        assertNull(unknown.latestCompatible());
+        assertFalse(unknown.hasUpgrade());
+    }
+
+    private static List<SemVerDependency> sampleDependencies() throws NonStandardSemVerException {
+        return List.of(
+                new SemVerDependency("foo", SemVer.parse("1.0.0"), SampleConstraint.parse("^1.0.0")),
+                new SemVerDependency("bar", SemVer.parse("0.1.0"), SampleConstraint.parse(">=0.1.0 <0.2.0")),
+                new SemVerDependency("baz", SemVer.parse("1.0.0"), SampleConstraint.parse("^1.0.0"))
+        );
+    }
+
+    @DisplayName("Plan upgrades concurrently with limit")
+    @Order(1)
+    @Test
+    void testPlan() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            SemVerUpgradePlanner planner = new SemVerUpgradePlanner(
+                    SemVerCatalogProvider.of(sampleCatalogs()),
+                    executor,
+                    2
+            );
+            assertPlans(planner.plan(sampleDependencies()));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new SemVerUpgradePlanner(p -> null, 0));
+    }
+
+    @DisplayName("Plan upgrades from index file")
+    @Order(2)
+    @Test
+    void testPlanOffline(@TempDir Path tempDir) throws Exception {
+        final Path path = tempDir.resolve("catalog.idx");
+        SemVerIndexWriter.write(path, sampleCatalogs());
+
+        try (MappedSemVerIndex index = MappedSemVerIndex.open(path)) {
+            assertPlans(new SemVerUpgradePlanner(SemVerCatalogProvider.of(index), 4).plan(sampleDependencies()));
+        }
+    }
+
+    @DisplayName("Provider failure is thrown")
+    @Order(3)
+    @Test
+    void testProviderFailure() {
+        SemVerUpgradePlanner planner = new SemVerUpgradePlanner(p -> {
+            throw new IOException("offline");
+        }, 2);
+        assertThrows(IOException.class, () -> planner.plan(sampleDependencies()));
+    }
+}